@@ -0,0 +1,72 @@
+package com.mudosa.musinsa.common.vo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 건별 정산 금액 계산 (수수료 + 세금 + PG 수수료) 비교
+ * - bigDecimal: 기존 Money 연산 체인
+ * - fixedPoint: FixedPointMoney long 연산
+ * ./gradlew jmh -PjmhIncludes=MoneyArithmeticBenchmark -Pjmh.profilers=gc 로 할당량까지 확인
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyArithmeticBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private Money[] amounts;
+    private BigDecimal[] commissionRates;
+    private BigDecimal pgFeeRate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42L);
+        amounts = new Money[SIZE];
+        commissionRates = new BigDecimal[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            amounts[i] = new Money(BigDecimal.valueOf(1_000 + random.nextInt(5_000_000), 0));
+            commissionRates[i] = BigDecimal.valueOf(500 + random.nextInt(2_500), 2);
+        }
+        pgFeeRate = new BigDecimal("0.0330");
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            Money commission = amounts[i].multiply(commissionRates[i]).divide(100).roundToWon();
+            Money tax = commission.multiply(BigDecimal.valueOf(10)).divide(100).roundToWon();
+            Money pgFee = amounts[i].multiply(pgFeeRate).roundToWon();
+            blackhole.consume(commission);
+            blackhole.consume(tax);
+            blackhole.consume(pgFee);
+        }
+    }
+
+    @Benchmark
+    public void fixedPoint(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            long amount = FixedPointMoney.toMinor(amounts[i]);
+            long commission = FixedPointMoney.roundToWon(
+                FixedPointMoney.divide(FixedPointMoney.multiplyRate(amount, commissionRates[i]), 100));
+            long tax = FixedPointMoney.roundToWon(
+                FixedPointMoney.divide(FixedPointMoney.multiply(commission, 10), 100));
+            long pgFee = FixedPointMoney.roundToWon(FixedPointMoney.multiplyRate(amount, pgFeeRate));
+            blackhole.consume(commission);
+            blackhole.consume(tax);
+            blackhole.consume(pgFee);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.mudosa.musinsa.order.application;
+
+import com.mudosa.musinsa.order.application.dto.OrderCreateItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 상품 조립 비교 (장바구니 크기 1 ~ 500)
+ * - linearLookup : 기존 방식 (요청 상품마다 옵션 목록 stream().filter().findFirst(), 중복 옵션은 별도 줄)
+ * - indexedLookup: OrderLines (수량 병합 + ID 색인 Map)
+ * 옵션은 DB 조회 결과처럼 요청 순서와 다르게 섞어 두고, 요청의 10%는 중복 옵션으로 채운다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderLineAssemblyBenchmark {
+
+    @Param({"1", "10", "50", "100", "500"})
+    private int cartSize;
+
+    private List<OrderCreateItem> items;
+    private List<Option> options;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        options = new ArrayList<>(cartSize);
+        for (long id = 1; id <= cartSize; id++) {
+            options.add(new Option(id * 31, BigDecimal.valueOf(1000 + random.nextInt(100_000))));
+        }
+
+        items = new ArrayList<>(cartSize);
+        for (int i = 0; i < cartSize; i++) {
+            Option option = i > 0 && i % 10 == 0
+                ? options.get(random.nextInt(i))  // 중복 옵션
+                : options.get(i);
+            items.add(new OrderCreateItem(option.id(), 1 + random.nextInt(3)));
+        }
+        Collections.shuffle(options, random);
+    }
+
+    @Benchmark
+    public BigDecimal linearLookup() {
+        BigDecimal total = BigDecimal.ZERO;
+        List<Line> lines = new ArrayList<>();
+        for (OrderCreateItem item : items) {
+            Option option = options.stream()
+                .filter(o -> o.id().equals(item.getProductOptionId()))
+                .findFirst()
+                .orElseThrow();
+            lines.add(new Line(option, item.getQuantity()));
+        }
+        total = lines.stream()
+            .map(line -> line.option().price().multiply(BigDecimal.valueOf(line.quantity())))
+            .reduce(total, BigDecimal::add);
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimal indexedLookup() {
+        Map<Long, Integer> quantities = OrderLines.mergeQuantities(items);
+        Map<Long, Option> optionsById = OrderLines.indexById(options, Option::id);
+
+        BigDecimal total = BigDecimal.ZERO;
+        List<Line> lines = new ArrayList<>(quantities.size());
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            Option option = optionsById.get(entry.getKey());
+            Line line = new Line(option, entry.getValue());
+            lines.add(line);
+            total = total.add(option.price().multiply(BigDecimal.valueOf(line.quantity())));
+        }
+        return total;
+    }
+
+    private record Option(Long id, BigDecimal price) {
+    }
+
+    private record Line(Option option, int quantity) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.mudosa.musinsa.payment.application.service;
+
+import com.mudosa.musinsa.payment.application.dto.PaymentResponseDto;
+import com.mudosa.musinsa.payment.application.dto.request.PaymentCancelRequest;
+import com.mudosa.musinsa.payment.application.dto.request.PaymentCancelResponseDto;
+import com.mudosa.musinsa.payment.application.dto.request.PaymentConfirmRequest;
+import com.mudosa.musinsa.payment.domain.model.PgProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 전략 조회 비교
+ * - streamLookup: 기존 방식 (전략 목록 stream + supports(context))
+ * - tableLookup : PaymentStrategyFactory (PG사 × 결제 유형 EnumMap)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaymentStrategyLookupBenchmark {
+
+    private List<PaymentStrategy> strategies;
+    private PaymentStrategyFactory factory;
+    private PaymentContext[] contexts;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // PG사마다 일반/해외·정기 전략 2개씩
+        strategies = new ArrayList<>();
+        for (PgProvider provider : PgProvider.values()) {
+            strategies.add(new StubStrategy(provider, EnumSet.of(PaymentType.NORMAL)));
+            strategies.add(new StubStrategy(provider, EnumSet.of(PaymentType.GLOBAL, PaymentType.REGULAR)));
+        }
+        factory = new PaymentStrategyFactory(strategies, List.of());
+
+        List<PaymentContext> list = new ArrayList<>();
+        for (PgProvider provider : PgProvider.values()) {
+            for (PaymentType paymentType : PaymentType.values()) {
+                list.add(PaymentContext.builder().pgProvider(provider).paymentType(paymentType).build());
+            }
+        }
+        contexts = list.toArray(PaymentContext[]::new);
+    }
+
+    @Benchmark
+    public PaymentStrategy streamLookup() {
+        PaymentContext context = contexts[cursor++ % contexts.length];
+        return strategies.stream()
+            .filter(strategy -> strategy.supports(context))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    @Benchmark
+    public PaymentStrategy tableLookup() {
+        return factory.getStrategy(contexts[cursor++ % contexts.length]);
+    }
+
+    private record StubStrategy(PgProvider provider, Set<PaymentType> paymentTypes) implements PaymentStrategy {
+
+        @Override
+        public boolean supports(PaymentContext context) {
+            return context.getPgProvider() == provider && paymentTypes.contains(context.getPaymentType());
+        }
+
+        @Override
+        public PgProvider getProvider() {
+            return provider;
+        }
+
+        @Override
+        public Set<PaymentType> getSupportedPaymentTypes() {
+            return paymentTypes;
+        }
+
+        @Override
+        public PaymentResponseDto confirmPayment(PaymentConfirmRequest request) {
+            return null;
+        }
+
+        @Override
+        public PaymentCancelResponseDto cancelPayment(PaymentCancelRequest request) {
+            return null;
+        }
+    }
+}
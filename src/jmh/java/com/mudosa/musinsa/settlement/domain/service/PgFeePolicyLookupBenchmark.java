@@ -0,0 +1,83 @@
+package com.mudosa.musinsa.settlement.domain.service;
+
+import com.mudosa.musinsa.settlement.domain.model.FeeType;
+import com.mudosa.musinsa.settlement.domain.model.PgFeePolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PG 수수료 정책 조회 비교
+ * - streamLookup: 기존 방식 (문자열 키 결합 + stream filter/max + LocalDate.now())
+ * - tableLookup : PgFeePolicyTable (2단계 Map + 이진 탐색)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PgFeePolicyLookupBenchmark {
+
+    private static final String[] PROVIDERS = {"TOSS", "KAKAO", "NAVER"};
+    private static final String[] METHODS = {"CARD", "TRANSFER", "VIRTUAL_ACCOUNT", "MOBILE"};
+
+    private Map<String, List<PgFeePolicy>> legacyCache;
+    private PgFeePolicyTable table;
+    private long todayEpochDay;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<PgFeePolicy> policies = new ArrayList<>();
+        for (String provider : PROVIDERS) {
+            for (String method : METHODS) {
+                // 조합마다 연 단위로 갱신된 정책 10개
+                for (int year = 2016; year <= 2025; year++) {
+                    policies.add(PgFeePolicy.createPolicy(provider, method, FeeType.RATE,
+                        new BigDecimal("0.0" + (200 + year % 10 * 10)),
+                        LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31), null));
+                }
+            }
+        }
+
+        legacyCache = new HashMap<>();
+        for (PgFeePolicy policy : policies) {
+            legacyCache.computeIfAbsent(policy.getPgProvider() + "_" + policy.getPaymentMethod(), k -> new ArrayList<>())
+                .add(policy);
+        }
+        table = PgFeePolicyTable.of(policies);
+        todayEpochDay = LocalDate.of(2025, 6, 15).toEpochDay();
+    }
+
+    @Benchmark
+    public Optional<PgFeePolicy> streamLookup() {
+        int i = cursor++;
+        String provider = PROVIDERS[i % PROVIDERS.length];
+        String method = METHODS[i % METHODS.length];
+        LocalDate targetDate = LocalDate.now().withYear(2025);
+
+        List<PgFeePolicy> policies = legacyCache.get(provider + "_" + method);
+        return policies.stream()
+            .filter(p -> p.getEffectiveFrom() != null && !p.getEffectiveFrom().isAfter(targetDate))
+            .filter(p -> p.getEffectiveTo() == null || !p.getEffectiveTo().isBefore(targetDate))
+            .max((a, b) -> a.getEffectiveFrom().compareTo(b.getEffectiveFrom()));
+    }
+
+    @Benchmark
+    public PgFeePolicyTable.Entry tableLookup() {
+        int i = cursor++;
+        return table.find(PROVIDERS[i % PROVIDERS.length], METHODS[i % METHODS.length], todayEpochDay);
+    }
+}
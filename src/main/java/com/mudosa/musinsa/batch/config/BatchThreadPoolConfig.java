@@ -1,8 +1,11 @@
 package com.mudosa.musinsa.batch.config;
 
+import com.mudosa.musinsa.batch.settlement.partitioner.SettlementPartitionSizer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -10,14 +13,32 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @Configuration
 public class BatchThreadPoolConfig {
 
+    @Value("${settlement.batch.creation.executor:platform}")
+    private String executorType;
+
     @Bean("batchTaskExecutor")
-    public TaskExecutor batchTaskExecutor() {
+    public TaskExecutor batchTaskExecutor(SettlementPartitionSizer partitionSizer) {
+        int concurrency = partitionSizer.getConcurrency();
+
+        if ("virtual".equalsIgnoreCase(executorType)) {
+            // 가상 스레드는 작업마다 생성하고, 동시 실행 수는 커넥션 풀 기준으로 제한
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("batch-partition-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(concurrency);
+            executor.setTaskTerminationTimeout(60_000);
+
+            log.info("[BatchThreadPool] 가상 스레드 Executor 초기화 완료 - concurrencyLimit: {}", concurrency);
+
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
-        executor.setCorePoolSize(4);
-        executor.setMaxPoolSize(4);
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
 
-        executor.setQueueCapacity(0);
+        // gridSize는 동시성 이하로 계산되지만, 초과 파티션이 생겨도 거절 대신 대기하도록 큐 허용
+        executor.setQueueCapacity(concurrency);
 
         executor.setThreadNamePrefix("batch-partition-");
 
@@ -0,0 +1,16 @@
+package com.mudosa.musinsa.batch.reconciliation.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * PG 거래 내역 파일의 한 줄
+ * - pgTransactionId: PG 거래 키 (Toss paymentKey), payment.pg_transaction_id와 매칭
+ * - status: PG 상태 원문 (DONE, CANCELED, PARTIAL_CANCELED, ABORTED, EXPIRED 등)
+ */
+public record PgTransactionRecord(
+        String pgTransactionId,
+        String orderNo,
+        String status,
+        BigDecimal amount
+) {
+}
@@ -0,0 +1,16 @@
+package com.mudosa.musinsa.batch.reconciliation.dto;
+
+import com.mudosa.musinsa.payment.domain.model.ReconciliationMismatchType;
+
+import java.math.BigDecimal;
+
+public record ReconciliationMismatch(
+        ReconciliationMismatchType type,
+        String pgTransactionId,
+        Long paymentId,
+        BigDecimal pgAmount,
+        BigDecimal paymentAmount,
+        String pgStatus,
+        String paymentStatus
+) {
+}
@@ -0,0 +1,153 @@
+package com.mudosa.musinsa.batch.reconciliation.job;
+
+import com.mudosa.musinsa.batch.reconciliation.dto.PgTransactionRecord;
+import com.mudosa.musinsa.batch.reconciliation.reader.PgTransactionFileReader;
+import com.mudosa.musinsa.batch.reconciliation.writer.PaymentReconciliationWriter;
+import com.mudosa.musinsa.payment.infrastructure.JdbcPaymentReconciliationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * PG 거래 내역 파일 대사 Job
+ * - Step 1: 파일을 메모리 매핑으로 스트리밍하며 청크마다 pg_transaction_id로 payment를 조회해 금액/상태 불일치, 결제 없음을 기록
+ * - Step 2: 승인일 [approvedFrom, approvedTo)의 APPROVED 결제 중 파일에 없던 결제를 키셋 청크로 찾아 MISSING_IN_PG로 기록
+ *   (approvedFrom/approvedTo 파라미터가 없으면 건너뜀)
+ * - Step 3: 실행 중 기록한 seen 행 정리
+ * - 결과는 payment_reconciliation에 run_id(Job 인스턴스 ID, 재시작해도 동일)로 남는다.
+ * - Job 파라미터: filePath(필수), approvedFrom/approvedTo(yyyy-MM-dd, 선택)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "settlement.batch.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentReconciliationJob {
+
+    private static final String JOB_NAME = "PG 거래 대사";
+    private static final String LAST_PAYMENT_ID_KEY = "lastPaymentId";
+
+    private final JdbcPaymentReconciliationRepository reconciliationRepository;
+
+    @Value("${settlement.batch.reconciliation.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${settlement.batch.reconciliation.map-window-bytes:67108864}")
+    private int mapWindowBytes;
+
+    @Bean
+    public Job paymentReconciliationJob(
+        JobRepository jobRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        return new JobBuilder("paymentReconciliationJob", jobRepository)
+            .start(reconciliationFileStep(jobRepository, transactionManager))
+            .next(reconciliationMissingInPgStep(jobRepository, transactionManager))
+            .next(reconciliationCleanupStep(jobRepository, transactionManager))
+            .build();
+    }
+
+    private Step reconciliationFileStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("reconciliationFileStep", jobRepository)
+            .<PgTransactionRecord, PgTransactionRecord>chunk(chunkSize, transactionManager)
+            .reader(pgTransactionFileReader(null))  // StepScope에서 실제 값 주입
+            .writer(paymentReconciliationWriter(null))
+            .build();
+    }
+
+    private Step reconciliationMissingInPgStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("reconciliationMissingInPgStep", jobRepository)
+            .tasklet(reconciliationMissingInPgTasklet(null, null, null), transactionManager)
+            .build();
+    }
+
+    private Step reconciliationCleanupStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("reconciliationCleanupStep", jobRepository)
+            .tasklet(reconciliationCleanupTasklet(null), transactionManager)
+            .build();
+    }
+
+    @Bean
+    @StepScope
+    public PgTransactionFileReader pgTransactionFileReader(
+        @Value("#{jobParameters['filePath']}") String filePath
+    ) {
+        if (filePath == null || filePath.isBlank()) {
+            throw new IllegalArgumentException("filePath 파라미터가 필요합니다");
+        }
+        log.info("{} 시작 - 파일: {}, chunk-size: {}, 매핑 구간: {} 바이트", JOB_NAME, filePath, chunkSize, mapWindowBytes);
+        return new PgTransactionFileReader(Path.of(filePath), mapWindowBytes);
+    }
+
+    @Bean
+    @StepScope
+    public PaymentReconciliationWriter paymentReconciliationWriter(
+        @Value("#{stepExecution.jobExecution.jobInstance.instanceId}") Long runId
+    ) {
+        return new PaymentReconciliationWriter(reconciliationRepository, runId);
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet reconciliationMissingInPgTasklet(
+        @Value("#{stepExecution.jobExecution.jobInstance.instanceId}") Long runId,
+        @Value("#{jobParameters['approvedFrom']}") String approvedFrom,
+        @Value("#{jobParameters['approvedTo']}") String approvedTo
+    ) {
+        return (contribution, chunkContext) -> {
+            if (approvedFrom == null || approvedTo == null) {
+                log.info("{} - approvedFrom/approvedTo 미지정, MISSING_IN_PG 대사 생략", JOB_NAME);
+                return RepeatStatus.FINISHED;
+            }
+
+            LocalDateTime from = LocalDate.parse(approvedFrom).atStartOfDay();
+            LocalDateTime to = LocalDate.parse(approvedTo).atStartOfDay();
+            ExecutionContext context = contribution.getStepExecution().getExecutionContext();
+            long afterPaymentId = context.getLong(LAST_PAYMENT_ID_KEY, 0L);
+
+            List<Long> paymentIds = reconciliationRepository.findApprovedPaymentIds(from, to, afterPaymentId, chunkSize);
+            if (paymentIds.isEmpty()) {
+                log.info("{} MISSING_IN_PG 완료 - 확인 결제: {}건", JOB_NAME, contribution.getStepExecution().getReadCount());
+                return RepeatStatus.FINISHED;
+            }
+
+            int missing = reconciliationRepository.insertMissingInPg(runId, paymentIds);
+            context.putLong(LAST_PAYMENT_ID_KEY, paymentIds.get(paymentIds.size() - 1));
+            contribution.incrementReadCount();
+            contribution.incrementWriteCount(missing);
+            if (missing > 0) {
+                log.info("[Reconciliation] PG 거래 없는 승인 결제 {}건 기록 (확인 {}건)", missing, paymentIds.size());
+            }
+
+            return paymentIds.size() < chunkSize ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+        };
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet reconciliationCleanupTasklet(
+        @Value("#{stepExecution.jobExecution.jobInstance.instanceId}") Long runId
+    ) {
+        return (contribution, chunkContext) -> {
+            int deleted = reconciliationRepository.deleteSeen(runId, chunkSize);
+            return deleted < chunkSize ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+        };
+    }
+}
@@ -0,0 +1,192 @@
+package com.mudosa.musinsa.batch.reconciliation.reader;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mudosa.musinsa.batch.reconciliation.dto.PgTransactionRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.ParseException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * PG 거래 내역 파일(CSV 또는 JSON Lines)을 한 줄씩 읽는 Reader
+ * - 파일 전체를 올리지 않고 window-bytes 크기 구간만 메모리 매핑해 앞에서부터 읽으므로 파일 크기와 무관하게 메모리가 일정하다.
+ * - 구간 끝에 걸친 줄은 그 줄의 시작 위치부터 다시 매핑해 이어 읽는다.
+ * - 다음에 읽을 줄의 바이트 위치를 ExecutionContext에 저장해 재시작 시 커밋된 청크 이후부터 읽는다.
+ * - CSV 컬럼: paymentKey,orderId,status,totalAmount (첫 줄이 헤더면 건너뜀, 따옴표 이스케이프는 지원하지 않음)
+ * - JSON Lines 필드: paymentKey, orderId, status, totalAmount
+ */
+@Slf4j
+public class PgTransactionFileReader extends ItemStreamSupport implements ItemStreamReader<PgTransactionRecord> {
+
+    public enum Format {
+        CSV, JSON_LINES;
+
+        public static Format of(Path path) {
+            String fileName = path.getFileName().toString().toLowerCase();
+            return fileName.endsWith(".jsonl") || fileName.endsWith(".json") ? JSON_LINES : CSV;
+        }
+    }
+
+    private static final String OFFSET = "offset";
+    private static final String CSV_HEADER_PREFIX = "paymentKey,";
+
+    private final Path path;
+    private final Format format;
+    private final int windowBytes;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private FileChannel channel;
+    private long fileSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long offset;
+    private long lineCount;
+    private int mapCount;
+
+    public PgTransactionFileReader(Path path, int windowBytes) {
+        this(path, Format.of(path), windowBytes);
+    }
+
+    public PgTransactionFileReader(Path path, Format format, int windowBytes) {
+        this.path = path;
+        this.format = format;
+        this.windowBytes = windowBytes;
+        setName("pgTransactionFileReader");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            fileSize = channel.size();
+        } catch (IOException e) {
+            throw new ItemStreamException("PG 거래 내역 파일을 열 수 없습니다: " + path, e);
+        }
+
+        String key = getExecutionContextKey(OFFSET);
+        offset = executionContext.containsKey(key) ? executionContext.getLong(key) : 0L;
+        if (offset > 0) {
+            log.info("[Reconciliation] 재시작 - {} 바이트 이후부터 읽기 (파일: {}, {} 바이트)", offset, path, fileSize);
+        }
+        window = null;
+        lineCount = 0;
+        mapCount = 0;
+    }
+
+    @Override
+    public PgTransactionRecord read() {
+        while (offset < fileSize) {
+            boolean firstLine = offset == 0;
+            String line = nextLine();
+            if (line.isBlank() || (firstLine && format == Format.CSV && line.startsWith(CSV_HEADER_PREFIX))) {
+                continue;
+            }
+            lineCount++;
+            return format == Format.CSV ? parseCsv(line) : parseJson(line);
+        }
+        return null;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(getExecutionContextKey(OFFSET), offset);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        log.debug("[Reconciliation] 파일 읽기 종료 - {}줄, 매핑 {}회, offset: {}/{}", lineCount, mapCount, offset, fileSize);
+        window = null;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("[Reconciliation] 파일 닫기 실패 - {}", path, e);
+            }
+            channel = null;
+        }
+    }
+
+    // offset부터 다음 줄바꿈 전까지를 읽고 offset을 다음 줄 시작으로 옮긴다
+    private String nextLine() {
+        if (window == null || offset >= windowStart + window.limit()) {
+            map(offset);
+        }
+
+        while (true) {
+            int start = (int) (offset - windowStart);
+            int limit = window.limit();
+            for (int i = start; i < limit; i++) {
+                if (window.get(i) == '\n') {
+                    offset = windowStart + i + 1;
+                    return decode(start, i);
+                }
+            }
+
+            if (windowStart + limit >= fileSize) {
+                // 마지막 줄에 줄바꿈이 없는 경우
+                offset = fileSize;
+                return decode(start, limit);
+            }
+            if (start == 0) {
+                throw new ParseException(String.format("한 줄이 매핑 구간(%d 바이트)보다 깁니다 - offset: %d", windowBytes, offset));
+            }
+            map(offset);
+        }
+    }
+
+    private String decode(int from, int to) {
+        if (to > from && window.get(to - 1) == '\r') {
+            to--;
+        }
+        byte[] bytes = new byte[to - from];
+        window.get(from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void map(long position) {
+        try {
+            long size = Math.min(windowBytes, fileSize - position);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+            windowStart = position;
+            mapCount++;
+        } catch (IOException e) {
+            throw new ItemStreamException("PG 거래 내역 파일 매핑 실패 - position: " + position, e);
+        }
+    }
+
+    private PgTransactionRecord parseCsv(String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length < 4) {
+            throw new ParseException(String.format("CSV 컬럼 수 부족 - offset: %d, line: %s", offset, line));
+        }
+        return new PgTransactionRecord(
+                columns[0].trim(),
+                columns[1].trim(),
+                columns[2].trim(),
+                new BigDecimal(columns[3].trim()));
+    }
+
+    private PgTransactionRecord parseJson(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            return new PgTransactionRecord(
+                    node.path("paymentKey").asText(null),
+                    node.path("orderId").asText(null),
+                    node.path("status").asText(null),
+                    node.path("totalAmount").decimalValue());
+        } catch (IOException e) {
+            throw new ParseException(String.format("JSON 파싱 실패 - offset: %d, line: %s", offset, line), e);
+        }
+    }
+}
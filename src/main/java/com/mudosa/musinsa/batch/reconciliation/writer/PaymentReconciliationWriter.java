@@ -0,0 +1,104 @@
+package com.mudosa.musinsa.batch.reconciliation.writer;
+
+import com.mudosa.musinsa.batch.reconciliation.dto.PgTransactionRecord;
+import com.mudosa.musinsa.batch.reconciliation.dto.ReconciliationMismatch;
+import com.mudosa.musinsa.payment.domain.model.PaymentStatus;
+import com.mudosa.musinsa.payment.domain.model.ReconciliationMismatchType;
+import com.mudosa.musinsa.payment.infrastructure.JdbcPaymentReconciliationRepository;
+import com.mudosa.musinsa.payment.infrastructure.JdbcPaymentReconciliationRepository.PaymentSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PG 거래 청크를 payment와 대조해 불일치를 기록하는 Writer
+ * - 청크의 거래 ID로 payment를 한 번만 조회(pg_transaction_id 인덱스)하므로 청크 크기만큼만 메모리에 둔다.
+ * - 금액, 상태를 비교하고 payment가 없으면 MISSING_IN_PAYMENT로 남긴다.
+ * - 읽은 거래 ID는 다음 Step에서 MISSING_IN_PG를 찾을 수 있도록 seen 테이블에 기록한다.
+ */
+@Slf4j
+public class PaymentReconciliationWriter implements ItemWriter<PgTransactionRecord> {
+
+    private final JdbcPaymentReconciliationRepository repository;
+    private final long runId;
+
+    public PaymentReconciliationWriter(JdbcPaymentReconciliationRepository repository, long runId) {
+        this.repository = repository;
+        this.runId = runId;
+    }
+
+    @Override
+    public void write(Chunk<? extends PgTransactionRecord> chunk) {
+        Set<String> pgTransactionIds = new LinkedHashSet<>(chunk.size() * 2);
+        for (PgTransactionRecord record : chunk) {
+            pgTransactionIds.add(record.pgTransactionId());
+        }
+
+        Map<String, PaymentSnapshot> payments = repository.findPaymentsByPgTransactionIds(pgTransactionIds);
+
+        List<ReconciliationMismatch> mismatches = new ArrayList<>();
+        for (PgTransactionRecord record : chunk) {
+            compare(record, payments.get(record.pgTransactionId()), mismatches);
+        }
+
+        repository.insertMismatches(runId, mismatches);
+        repository.insertSeen(runId, new ArrayList<>(pgTransactionIds));
+
+        if (!mismatches.isEmpty()) {
+            log.info("[Reconciliation] 불일치 {}건 기록 (청크 {}건)", mismatches.size(), chunk.size());
+        }
+    }
+
+    static void compare(PgTransactionRecord record, PaymentSnapshot payment, List<ReconciliationMismatch> mismatches) {
+        if (payment == null) {
+            mismatches.add(mismatch(ReconciliationMismatchType.MISSING_IN_PAYMENT, record, null));
+            return;
+        }
+        if (record.amount() == null || payment.amount() == null || record.amount().compareTo(payment.amount()) != 0) {
+            mismatches.add(mismatch(ReconciliationMismatchType.AMOUNT_MISMATCH, record, payment));
+        }
+        if (!isStatusMatched(record.status(), payment.paymentStatus())) {
+            mismatches.add(mismatch(ReconciliationMismatchType.STATUS_MISMATCH, record, payment));
+        }
+    }
+
+    /*
+     * PG(Toss) 상태와 결제 상태 대응
+     * - DONE: APPROVED
+     * - CANCELED: CANCELLED
+     * - PARTIAL_CANCELED: 부분 취소는 결제가 승인 상태로 남으므로 APPROVED, CANCELLED 모두 허용
+     * - ABORTED, EXPIRED: 승인되지 않은 결제이므로 FAILED, PENDING
+     */
+    static boolean isStatusMatched(String pgStatus, String paymentStatus) {
+        if (pgStatus == null || paymentStatus == null) {
+            return false;
+        }
+        return switch (pgStatus) {
+            case "DONE" -> PaymentStatus.APPROVED.name().equals(paymentStatus);
+            case "CANCELED" -> PaymentStatus.CANCELLED.name().equals(paymentStatus);
+            case "PARTIAL_CANCELED" -> PaymentStatus.APPROVED.name().equals(paymentStatus)
+                    || PaymentStatus.CANCELLED.name().equals(paymentStatus);
+            case "ABORTED", "EXPIRED" -> PaymentStatus.FAILED.name().equals(paymentStatus)
+                    || PaymentStatus.PENDING.name().equals(paymentStatus);
+            default -> pgStatus.equals(paymentStatus);
+        };
+    }
+
+    private static ReconciliationMismatch mismatch(ReconciliationMismatchType type, PgTransactionRecord record,
+                                                   PaymentSnapshot payment) {
+        return new ReconciliationMismatch(
+                type,
+                record.pgTransactionId(),
+                payment == null ? null : payment.paymentId(),
+                record.amount(),
+                payment == null ? null : payment.amount(),
+                record.status(),
+                payment == null ? null : payment.paymentStatus());
+    }
+}
@@ -0,0 +1,90 @@
+package com.mudosa.musinsa.batch.settlement.job;
+
+import com.mudosa.musinsa.payment.application.service.PaymentBrandAmountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+/**
+ * payment_brand_amount 백필 Job
+ * - 정산 생성 Job은 payment_brand_amount와 INNER JOIN하므로 행이 없는 승인 결제는 정산에서 빠진다.
+ * - 행이 없는 승인 결제를 payment_id 키셋으로 chunk-size건씩 찾아 한 문장(INSERT … SELECT … ON DUPLICATE KEY)으로 채운다.
+ * - Tasklet 1회 실행 = 1청크 = 1트랜잭션, 마지막 payment_id를 ExecutionContext에 남겨 재시작 시 이어서 처리한다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "settlement.batch.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentBrandAmountBackfillJob {
+
+    private static final String JOB_NAME = "브랜드별 금액 백필";
+    private static final String LAST_PAYMENT_ID_KEY = "lastPaymentId";
+
+    private final PaymentBrandAmountService paymentBrandAmountService;
+
+    @Value("${settlement.batch.brand-amount-backfill.chunk-size:1000}")
+    private int chunkSize;
+
+    @Bean
+    public Job paymentBrandAmountBackfillJob(
+        JobRepository jobRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        return new JobBuilder("paymentBrandAmountBackfillJob", jobRepository)
+            .start(buildStep(jobRepository, transactionManager))
+            .build();
+    }
+
+    private Step buildStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("paymentBrandAmountBackfillStep", jobRepository)
+            .tasklet(paymentBrandAmountBackfillTasklet(null), transactionManager)
+            .build();
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet paymentBrandAmountBackfillTasklet(
+        @Value("#{jobParameters['startAfterPaymentId']}") Long startAfterPaymentId
+    ) {
+        return (contribution, chunkContext) -> {
+            ExecutionContext context = contribution.getStepExecution().getExecutionContext();
+            long afterPaymentId = context.getLong(LAST_PAYMENT_ID_KEY,
+                startAfterPaymentId != null ? startAfterPaymentId : 0L);
+
+            long startNanos = System.nanoTime();
+            List<Long> paymentIds = paymentBrandAmountService.findPaymentIdsWithoutBrandAmount(afterPaymentId, chunkSize);
+            if (paymentIds.isEmpty()) {
+                log.info("{} 완료 - 누적 결제: {}건", JOB_NAME, contribution.getStepExecution().getWriteCount());
+                return RepeatStatus.FINISHED;
+            }
+
+            int affectedRows = paymentBrandAmountService.saveForPayments(paymentIds);
+            long lastPaymentId = paymentIds.get(paymentIds.size() - 1);
+            context.putLong(LAST_PAYMENT_ID_KEY, lastPaymentId);
+            contribution.incrementReadCount();
+            contribution.incrementWriteCount(paymentIds.size());
+
+            long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+            log.info("[BrandAmountBackfill] 청크 완료 - paymentId: {}~{}, 결제: {}건, 영향 행: {}, {}ms, {}건/s",
+                paymentIds.get(0), lastPaymentId, paymentIds.size(), affectedRows, elapsedMillis,
+                paymentIds.size() * 1000L / elapsedMillis);
+
+            return paymentIds.size() < chunkSize ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+        };
+    }
+}
@@ -1,7 +1,14 @@
 package com.mudosa.musinsa.batch.settlement.job;
 
 import com.mudosa.musinsa.batch.settlement.dto.PaymentSettlementDto;
+import com.mudosa.musinsa.batch.settlement.partitioner.PartitionRowStats;
 import com.mudosa.musinsa.batch.settlement.partitioner.PaymentPartitioner;
+import com.mudosa.musinsa.batch.settlement.partitioner.SettlementPartitionSizer;
+import com.mudosa.musinsa.batch.settlement.reader.PaymentSettlementKeysetReader;
+import com.mudosa.musinsa.batch.settlement.writer.SettlementChunkWriter;
+import com.mudosa.musinsa.batch.settlement.writer.SettlementInsertStrategy;
+import com.mudosa.musinsa.batch.settlement.writer.SettlementInsertStrategyFactory;
+import com.mudosa.musinsa.batch.settlement.writer.SettlementWriterMetrics;
 import com.mudosa.musinsa.batch.settlement.service.SettlementAggregationService;
 import com.mudosa.musinsa.common.notification.SlackNotificationService;
 import com.mudosa.musinsa.common.vo.Money;
@@ -10,8 +17,6 @@ import com.mudosa.musinsa.settlement.domain.model.TransactionType;
 import com.mudosa.musinsa.settlement.domain.service.PgFeeCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.item.database.JdbcCursorItemReader;
-import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
 import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
@@ -39,13 +44,7 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
-import java.sql.PreparedStatement;
-import java.sql.Timestamp;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Configuration
@@ -60,11 +59,21 @@ public class SettlementCreationJob {
     private final com.mudosa.musinsa.batch.settlement.listener.DetailedPerformanceListener detailedPerformanceListener;
     private final MeterRegistry meterRegistry;
     private final SettlementAggregationService settlementAggregationService;
+    private final SettlementPartitionSizer partitionSizer;
+    private final SettlementInsertStrategyFactory insertStrategyFactory;
+    private final SettlementWriterMetrics writerMetrics;
 
     @Qualifier("batchTaskExecutor")
     private final TaskExecutor batchTaskExecutor;
 
-    private static final int GRID_SIZE = 4;
+    @Value("${settlement.batch.creation.partition-mode:balanced}")
+    private String partitionMode;
+
+    @Value("${settlement.batch.creation.page-size:1000}")
+    private int pageSize;
+
+    @Value("${settlement.batch.creation.writer-mode:batch}")
+    private String writerMode;
 
     private volatile long lastPaymentReadCount = 0;
     private volatile long lastSettlementWriteCount = 0;
@@ -99,7 +108,9 @@ public class SettlementCreationJob {
 
     @Bean
     public Partitioner paymentPartitioner() {
-        return new PaymentPartitioner(jdbcTemplate);
+        PaymentPartitioner delegate = new PaymentPartitioner(jdbcTemplate, partitionMode);
+        // 잡 실행 시점의 미정산 건수와 커넥션 풀 크기로 실제 파티션 수 결정
+        return gridSize -> delegate.partition(partitionSizer.resolveGridSize(gridSize));
     }
 
     @Bean
@@ -109,7 +120,7 @@ public class SettlementCreationJob {
         return new JobBuilder("settlementCreationJob", jobRepository)
                 .incrementer(new RunIdIncrementer())
                 .listener(jobExecutionListener())
-                .start(partitionedCreationStep)  // Step 1: 파티셔닝된 건별 정산 생성 (4개 병렬)
+                .start(partitionedCreationStep)  // Step 1: 파티셔닝된 건별 정산 생성 (미정산 건수 기반 병렬)
                 .next(aggregationStep)           // Step 2: 일별/주별/월별/연별 집계
                 .build();
     }
@@ -120,7 +131,7 @@ public class SettlementCreationJob {
         return new StepBuilder("partitionedCreationStep", jobRepository)
                 .partitioner("settlementCreationWorkerStep", paymentPartitioner())
                 .step(settlementCreationWorkerStep)
-                .gridSize(GRID_SIZE)
+                .gridSize(partitionSizer.getConcurrency())  // 상한값, 실제 파티션 수는 Partitioner에서 결정
                 .taskExecutor(batchTaskExecutor)
                 .listener(partitionStepListener())
                 .build();
@@ -134,15 +145,22 @@ public class SettlementCreationJob {
             @Override
             public void beforeStep(StepExecution stepExecution) {
                 startTime = System.currentTimeMillis();
-                log.info("[Partitioned Step] 시작 - gridSize: {}", GRID_SIZE);
+                log.info("[Partitioned Step] 시작 - 최대 gridSize: {}", partitionSizer.getConcurrency());
             }
 
             @Override
             public org.springframework.batch.core.ExitStatus afterStep(StepExecution stepExecution) {
                 long endTime = System.currentTimeMillis();
                 long duration = endTime - startTime;
+
+                PartitionRowStats rowStats = PartitionRowStats.of(stepExecution.getJobExecution().getStepExecutions());
                 log.info("[Partitioned Step] 완료 - 총 소요시간: {}ms ({} 파티션 병렬 처리)",
-                        duration, GRID_SIZE);
+                        duration, rowStats.partitionCount());
+                if (rowStats.partitionCount() > 0 && rowStats.totalRows() > 0) {
+                    log.info("[Partitioned Step] 모드: {}, 파티션별 건수 - 최대 {}건, 평균 {}건 (편중도 {})",
+                            partitionMode, rowStats.maxRows(), String.format("%.1f", rowStats.avgRows()),
+                            String.format("%.2f", rowStats.skew()));
+                }
                 return org.springframework.batch.core.ExitStatus.COMPLETED;
             }
         };
@@ -218,7 +236,8 @@ public class SettlementCreationJob {
                 String stepName = stepExecution.getStepName();
                 Long minId = stepExecution.getExecutionContext().getLong("minId", -1);
                 Long maxId = stepExecution.getExecutionContext().getLong("maxId", -1);
-                log.info("[Worker {}] 시작 - 범위: {} ~ {}", stepName, minId, maxId);
+                long rowCount = stepExecution.getExecutionContext().getLong("rowCount", -1);
+                log.info("[Worker {}] 시작 - 범위: {} ~ {}, 예상 건수: {}", stepName, minId, maxId, rowCount);
             }
 
             @Override
@@ -326,58 +345,18 @@ public class SettlementCreationJob {
 
     @Bean
     @StepScope
-    public JdbcCursorItemReader<PaymentSettlementDto> paymentSettlementReader(
+    public PaymentSettlementKeysetReader paymentSettlementReader(
             @Value("#{stepExecutionContext['minId']}") Long minId,
             @Value("#{stepExecutionContext['maxId']}") Long maxId) {
 
         if (minId == null || maxId == null || (minId == 0 && maxId == 0)) {
             log.info("[Reader] 빈 파티션 - 처리 대상 없음");
-            return new JdbcCursorItemReaderBuilder<PaymentSettlementDto>()
-                    .dataSource(dataSource)
-                    .name("paymentSettlementReader")
-                    .sql("SELECT * FROM payment WHERE 1=0")  // 빈 결과
-                    .rowMapper((rs, rowNum) -> null)
-                    .build();
+            return new PaymentSettlementKeysetReader(jdbcTemplate, 0L, -1L, pageSize);
         }
 
-        log.info("[Reader] 초기화 - 파티션 범위: {} ~ {}", minId, maxId);
-
-        String sql = """
-            SELECT
-                p.payment_id AS paymentId,
-                p.pg_transaction_id AS pgTransactionId,
-                p.pg_provider AS pgProvider,
-                p.method AS paymentMethod,
-                p.order_id AS orderId,
-                pba.brand_id AS brandId,
-                pba.amount AS totalAmount,
-                pba.commission_rate AS commissionRate
-            FROM payment p
-            INNER JOIN payment_brand_amount pba ON p.payment_id = pba.payment_id
-            WHERE p.settled_at IS NULL
-              AND p.payment_status = 'APPROVED'
-              AND p.payment_id BETWEEN ? AND ?
-            """;
-
-        return new JdbcCursorItemReaderBuilder<PaymentSettlementDto>()
-                .dataSource(dataSource)
-                .name("paymentSettlementReader")
-                .sql(sql)
-                .preparedStatementSetter(ps -> {
-                    ps.setLong(1, minId);
-                    ps.setLong(2, maxId);
-                })
-                .rowMapper((rs, rowNum) -> new PaymentSettlementDto(
-                        rs.getLong("paymentId"),
-                        rs.getString("pgTransactionId"),
-                        rs.getString("pgProvider"),
-                        rs.getString("paymentMethod"),
-                        rs.getLong("orderId"),
-                        rs.getLong("brandId"),
-                        rs.getBigDecimal("totalAmount"),
-                        rs.getBigDecimal("commissionRate")
-                ))
-                .build();
+        log.info("[Reader] 초기화 - 파티션 범위: {} ~ {}, page-size: {}", minId, maxId, pageSize);
+
+        return new PaymentSettlementKeysetReader(jdbcTemplate, minId, maxId, pageSize);
     }
 
     @Bean
@@ -422,76 +401,7 @@ public class SettlementCreationJob {
     @Bean
     @StepScope
     public ItemWriter<SettlementPerTransaction> settlementWriter() {
-        return settlements -> {
-            long start = System.currentTimeMillis();
-
-            List<SettlementPerTransaction> settlementList = new ArrayList<>();
-            settlements.forEach(settlementList::add);
-
-            if (settlementList.isEmpty()) {
-                log.debug("[Writer] 처리할 Settlement 없음");
-                return;
-            }
-
-            long writeStart = System.currentTimeMillis();
-            List<Long> paymentIds = settlementList.stream()
-                    .map(SettlementPerTransaction::getPaymentId)
-                    .distinct()
-                    .collect(Collectors.toList());
-
-            log.info("[Writer] Chunk 저장 시작 - Payment {}건, Settlement {}건",
-                    paymentIds.size(), settlementList.size());
-
-            jdbcTemplate.execute("SET UNIQUE_CHECKS=0");
-            jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS=0");
-
-            try {
-            String insertSql = """
-                INSERT INTO settlements_per_transaction
-                (brand_id, payment_id, pg_transaction_id, transaction_type,
-                 transaction_amount, commission_rate, commission_amount, tax_amount, pg_fee_amount,
-                 transaction_date, transaction_date_local, timezone_offset, aggregation_status, created_at)
-                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-                """;
-
-            jdbcTemplate.batchUpdate(insertSql, settlementList, settlementList.size(),
-                (PreparedStatement ps, SettlementPerTransaction s) -> {
-                    ps.setLong(1, s.getBrandId());
-                    ps.setLong(2, s.getPaymentId());
-                    ps.setString(3, s.getPgTransactionId());
-                    ps.setString(4, s.getTransactionType().name());
-                    ps.setBigDecimal(5, s.getTransactionAmount().getAmount());
-                    ps.setBigDecimal(6, s.getCommissionRate());
-                    ps.setBigDecimal(7, s.getCommissionAmount().getAmount());
-                    ps.setBigDecimal(8, s.getTaxAmount().getAmount());
-                    ps.setBigDecimal(9, s.getPgFeeAmount().getAmount());
-                    ps.setTimestamp(10, Timestamp.valueOf(s.getTransactionDate()));
-                    ps.setDate(11, java.sql.Date.valueOf(s.getTransactionDateLocal()));
-                    ps.setString(12, s.getTimezoneOffset());
-                    ps.setString(13, s.getAggregationStatus().name());
-                    ps.setTimestamp(14, Timestamp.valueOf(LocalDateTime.now()));
-                });
-            log.debug("[Writer] Settlement JDBC Batch INSERT 완료 - {}건", settlementList.size());
-
-            String updateSql = "UPDATE payment SET settled_at = ?, updated_at = ? WHERE payment_id = ?";
-            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
-
-            jdbcTemplate.batchUpdate(updateSql, paymentIds, paymentIds.size(),
-                (PreparedStatement ps, Long paymentId) -> {
-                    ps.setTimestamp(1, now);
-                    ps.setTimestamp(2, now);
-                    ps.setLong(3, paymentId);
-                });
-            log.debug("[Writer] Payment settled_at JDBC Batch UPDATE 완료 - {}건", paymentIds.size());
-
-            detailedPerformanceListener.addWriteTime(System.currentTimeMillis() - writeStart);
-
-            log.info("[Writer] Chunk 완료 - {}ms, Settlement {}건",
-                    System.currentTimeMillis() - start, settlementList.size());
-            } finally {
-                jdbcTemplate.execute("SET UNIQUE_CHECKS=1");
-                jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS=1");
-            }
-        };
+        SettlementInsertStrategy insertStrategy = insertStrategyFactory.getStrategy(writerMode);
+        return new SettlementChunkWriter(jdbcTemplate, insertStrategy, writerMetrics, detailedPerformanceListener);
     }
-}
\ No newline at end of file
+}
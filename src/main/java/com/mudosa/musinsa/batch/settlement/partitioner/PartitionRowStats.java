@@ -0,0 +1,35 @@
+package com.mudosa.musinsa.batch.settlement.partitioner;
+
+import org.springframework.batch.core.StepExecution;
+
+/**
+ * 워커 StepExecution의 rowCount(파티션별 예상 건수) 집계
+ * - 파티션 워커 이름(":partition" 포함)인 StepExecution만 집계한다.
+ */
+public record PartitionRowStats(int partitionCount, long totalRows, long maxRows) {
+
+    public static PartitionRowStats of(Iterable<StepExecution> stepExecutions) {
+        long totalRows = 0;
+        long maxRows = 0;
+        int partitionCount = 0;
+        for (StepExecution worker : stepExecutions) {
+            if (worker.getStepName().contains(":partition")) {
+                long rowCount = worker.getExecutionContext().getLong("rowCount", 0L);
+                totalRows += rowCount;
+                maxRows = Math.max(maxRows, rowCount);
+                partitionCount++;
+            }
+        }
+        return new PartitionRowStats(partitionCount, totalRows, maxRows);
+    }
+
+    public double avgRows() {
+        return partitionCount > 0 ? totalRows / (double) partitionCount : 0;
+    }
+
+    // 편중도 (최대/평균), 1.0이면 완전 균등
+    public double skew() {
+        double avg = avgRows();
+        return avg > 0 ? maxRows / avg : 0;
+    }
+}
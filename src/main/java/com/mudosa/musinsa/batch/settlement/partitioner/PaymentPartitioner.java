@@ -7,16 +7,38 @@ import org.springframework.batch.item.ExecutionContext;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * 미정산 Payment를 파티션 범위로 분할
+ * - range   : MIN~MAX payment_id를 동일 폭으로 분할 (기존 방식)
+ * - balanced: 실제 미정산 payment_id 분포를 NTILE로 샘플링해 건수가 균등한 범위로 분할
+ * 두 모드 모두 파티션별 예상 건수를 ExecutionContext의 rowCount로 기록한다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class PaymentPartitioner implements Partitioner {
 
+    public static final String MODE_RANGE = "range";
+    public static final String MODE_BALANCED = "balanced";
+
     private final JdbcTemplate jdbcTemplate;
+    private final String partitionMode;
+
+    public PaymentPartitioner(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, MODE_BALANCED);
+    }
 
     @Override
     public Map<String, ExecutionContext> partition(int gridSize) {
+        if (MODE_BALANCED.equalsIgnoreCase(partitionMode)) {
+            return partitionBalanced(gridSize);
+        }
+        return partitionByRange(gridSize);
+    }
+
+    private Map<String, ExecutionContext> partitionByRange(int gridSize) {
         Map<String, ExecutionContext> result = new HashMap<>();
 
         String sql = """
@@ -33,12 +55,7 @@ public class PaymentPartitioner implements Partitioner {
         Long totalCount = (Long) range.get("totalCount");
 
         if (minId == null || maxId == null || totalCount == 0) {
-            log.info("[Partitioner] 처리 대상 없음 - 빈 파티션 반환");
-            ExecutionContext context = new ExecutionContext();
-            context.putLong("minId", 0L);
-            context.putLong("maxId", 0L);
-            result.put("partition0", context);
-            return result;
+            return emptyPartition();
         }
 
         log.info("[Partitioner] 전체 범위 - minId: {}, maxId: {}, totalCount: {}, gridSize: {}",
@@ -49,6 +66,8 @@ public class PaymentPartitioner implements Partitioner {
             rangeSize = 1;  // 최소 범위 보장
         }
 
+        long[] rowCounts = countRowsPerRange(minId, rangeSize, gridSize);
+
         long currentMin = minId;
         for (int i = 0; i < gridSize; i++) {
             ExecutionContext context = new ExecutionContext();
@@ -62,15 +81,116 @@ public class PaymentPartitioner implements Partitioner {
 
             context.putLong("minId", currentMin);
             context.putLong("maxId", currentMax);
+            context.putLong("rowCount", rowCounts[i]);
 
             String partitionName = "partition" + i;
             result.put(partitionName, context);
 
-            log.info("[Partitioner] {} - 범위: {} ~ {}", partitionName, currentMin, currentMax);
+            log.info("[Partitioner] {} - 범위: {} ~ {}, 예상 건수: {}",
+                    partitionName, currentMin, currentMax, rowCounts[i]);
 
             currentMin = currentMax + 1;
         }
 
+        logSkew(rowCounts, totalCount);
         return result;
     }
+
+    // 동일 폭 범위별 건수를 GROUP BY 한 번으로 계산 (마지막 버킷은 나머지 범위 포함)
+    private long[] countRowsPerRange(long minId, long rangeSize, int gridSize) {
+        String sql = """
+            SELECT LEAST(FLOOR((p.payment_id - ?) / ?), ?) AS bucket, COUNT(*) AS rowCount
+            FROM payment p
+            WHERE p.settled_at IS NULL
+              AND p.payment_status = 'APPROVED'
+            GROUP BY bucket
+            """;
+
+        long[] rowCounts = new long[gridSize];
+        jdbcTemplate.query(sql, rs -> {
+            int bucket = rs.getInt("bucket");
+            rowCounts[bucket] = rs.getLong("rowCount");
+        }, minId, rangeSize, gridSize - 1);
+        return rowCounts;
+    }
+
+    private Map<String, ExecutionContext> partitionBalanced(int gridSize) {
+        // NTILE로 실제 미정산 payment_id를 건수 기준 gridSize 등분 (MySQL 8+)
+        String sql = """
+            SELECT t.bucket AS bucket,
+                   MIN(t.payment_id) AS minId,
+                   MAX(t.payment_id) AS maxId,
+                   COUNT(*) AS rowCount
+            FROM (
+                SELECT p.payment_id, NTILE(?) OVER (ORDER BY p.payment_id) AS bucket
+                FROM payment p
+                WHERE p.settled_at IS NULL
+                  AND p.payment_status = 'APPROVED'
+            ) t
+            GROUP BY t.bucket
+            ORDER BY t.bucket
+            """;
+
+        List<long[]> buckets = jdbcTemplate.query(sql, (rs, rowNum) -> new long[]{
+                rs.getLong("minId"),
+                rs.getLong("maxId"),
+                rs.getLong("rowCount")
+        }, gridSize);
+
+        if (buckets.isEmpty()) {
+            return emptyPartition();
+        }
+
+        Map<String, ExecutionContext> result = new HashMap<>();
+        long[] rowCounts = new long[buckets.size()];
+        long totalCount = 0;
+
+        for (int i = 0; i < buckets.size(); i++) {
+            long[] bucket = buckets.get(i);
+            // 경계 사이 빈 구간도 포함되도록 다음 버킷 시작 직전까지 확장
+            long currentMin = bucket[0];
+            long currentMax = i == buckets.size() - 1 ? bucket[1] : buckets.get(i + 1)[0] - 1;
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong("minId", currentMin);
+            context.putLong("maxId", currentMax);
+            context.putLong("rowCount", bucket[2]);
+
+            String partitionName = "partition" + i;
+            result.put(partitionName, context);
+
+            rowCounts[i] = bucket[2];
+            totalCount += bucket[2];
+
+            log.info("[Partitioner] {} - 범위: {} ~ {}, 예상 건수: {}",
+                    partitionName, currentMin, currentMax, bucket[2]);
+        }
+
+        log.info("[Partitioner] balanced 모드 - 파티션 {}개, totalCount: {}, gridSize: {}",
+                buckets.size(), totalCount, gridSize);
+        logSkew(rowCounts, totalCount);
+        return result;
+    }
+
+    private Map<String, ExecutionContext> emptyPartition() {
+        log.info("[Partitioner] 처리 대상 없음 - 빈 파티션 반환");
+        Map<String, ExecutionContext> result = new HashMap<>();
+        ExecutionContext context = new ExecutionContext();
+        context.putLong("minId", 0L);
+        context.putLong("maxId", 0L);
+        context.putLong("rowCount", 0L);
+        result.put("partition0", context);
+        return result;
+    }
+
+    private void logSkew(long[] rowCounts, long totalCount) {
+        long max = 0;
+        for (long count : rowCounts) {
+            max = Math.max(max, count);
+        }
+        double avg = rowCounts.length > 0 ? totalCount / (double) rowCounts.length : 0;
+        double skew = avg > 0 ? max / avg : 0;
+        log.info("[Partitioner] 파티션 편중도 (최대/평균) - {} (최대 {}건, 평균 {}건)",
+                String.format("%.2f", skew), max, String.format("%.1f", avg));
+    }
 }
@@ -0,0 +1,65 @@
+package com.mudosa.musinsa.batch.settlement.partitioner;
+
+import com.mudosa.musinsa.payment.domain.model.PaymentStatus;
+import com.mudosa.musinsa.payment.domain.repository.PaymentRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * 정산 생성 파티션 수/동시성 계산
+ * - 동시성: Hikari 최대 풀 크기 - 예약 커넥션 (max-grid-size 상한)
+ * - 파티션 수: 미정산 건수 / rows-per-partition (1 ~ 동시성 범위)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementPartitionSizer {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final DataSource dataSource;
+    private final PaymentRepository paymentRepository;
+
+    @Value("${settlement.batch.creation.max-grid-size:16}")
+    private int maxGridSize;
+
+    @Value("${settlement.batch.creation.reserved-connections:4}")
+    private int reservedConnections;
+
+    @Value("${settlement.batch.creation.rows-per-partition:10000}")
+    private long rowsPerPartition;
+
+    public int getConcurrency() {
+        int available = getMaximumPoolSize() - reservedConnections;
+        return Math.max(1, Math.min(available, maxGridSize));
+    }
+
+    public int resolveGridSize(int upperBound) {
+        long pendingCount = paymentRepository.countPendingSettlementPayments(PaymentStatus.APPROVED);
+        int limit = Math.max(1, Math.min(upperBound, getConcurrency()));
+
+        long needed = (pendingCount + rowsPerPartition - 1) / Math.max(1, rowsPerPartition);
+        int gridSize = (int) Math.max(1, Math.min(needed, limit));
+
+        log.info("[PartitionSizer] 미정산 {}건, rows-per-partition: {}, 동시성 한도: {} → gridSize: {}",
+                pendingCount, rowsPerPartition, limit, gridSize);
+        return gridSize;
+    }
+
+    private int getMaximumPoolSize() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("[PartitionSizer] Hikari 풀 크기 조회 실패 - 기본값 {} 사용", DEFAULT_POOL_SIZE, e);
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
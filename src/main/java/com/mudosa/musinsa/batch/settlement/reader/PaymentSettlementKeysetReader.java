@@ -0,0 +1,190 @@
+package com.mudosa.musinsa.batch.settlement.reader;
+
+import com.mudosa.musinsa.batch.settlement.dto.PaymentSettlementDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 파티션 범위(minId ~ maxId)를 payment_id 키셋으로 페이지 단위 조회하는 Reader
+ * - 페이지마다 짧은 쿼리를 실행하므로 커넥션/스냅샷을 파티션 전체 동안 점유하지 않는다.
+ * - 브랜드별 행을 모두 반환한 마지막 payment_id를 ExecutionContext에 저장해 재시작 시 중간부터 이어 읽는다.
+ * - 페이지는 payment 단위로 자르므로 한 payment의 브랜드별 행이 페이지 경계에서 나뉘지 않는다.
+ *   chunk 경계는 payment 중간에 걸릴 수 있고 Writer가 그 payment의 settled_at을 먼저 채우므로,
+ *   반환 중이던 payment와 마지막 brand_id를 함께 저장해 두고 재시작 시 남은 브랜드 행부터 다시 읽는다.
+ * - payment_brand_amount가 없는 payment는 기존 INNER JOIN과 동일하게 건너뛰되, 키셋은 그 이후로 전진한다.
+ */
+@Slf4j
+public class PaymentSettlementKeysetReader extends ItemStreamSupport implements ItemStreamReader<PaymentSettlementDto> {
+
+    private static final String LAST_PAYMENT_ID = "lastPaymentId";
+    private static final String PARTIAL_PAYMENT_ID = "partialPaymentId";
+    private static final String PARTIAL_BRAND_ID = "partialBrandId";
+
+    private static final String SELECT_COLUMNS = """
+        SELECT
+            p.payment_id AS paymentId,
+            p.pg_transaction_id AS pgTransactionId,
+            p.pg_provider AS pgProvider,
+            p.method AS paymentMethod,
+            p.order_id AS orderId,
+            pba.brand_id AS brandId,
+            pba.amount AS totalAmount,
+            pba.commission_rate AS commissionRate
+        """;
+
+    private static final String PAGE_SQL = SELECT_COLUMNS + """
+        FROM (
+            SELECT payment_id
+            FROM payment
+            WHERE settled_at IS NULL
+              AND payment_status = 'APPROVED'
+              AND payment_id > ?
+              AND payment_id <= ?
+            ORDER BY payment_id
+            LIMIT ?
+        ) page
+        INNER JOIN payment p ON p.payment_id = page.payment_id
+        LEFT JOIN payment_brand_amount pba ON p.payment_id = pba.payment_id
+        ORDER BY p.payment_id, pba.brand_id
+        """;
+
+    // chunk 경계에서 끊긴 payment의 남은 브랜드 행 (settled_at은 이미 채워졌을 수 있으므로 조건에서 제외)
+    private static final String REMAINING_BRANDS_SQL = SELECT_COLUMNS + """
+        FROM payment p
+        INNER JOIN payment_brand_amount pba ON p.payment_id = pba.payment_id
+        WHERE p.payment_id = ?
+          AND pba.brand_id > ?
+        ORDER BY pba.brand_id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long minId;
+    private final long maxId;
+    private final int pageSize;
+
+    private long lastPaymentId;
+    private Long partialPaymentId;
+    private Long partialBrandId;
+    private long scanAfterId;
+    private List<PaymentSettlementDto> page = Collections.emptyList();
+    private int pageIndex;
+    private boolean lastPage;
+    private int pageCount;
+
+    public PaymentSettlementKeysetReader(JdbcTemplate jdbcTemplate, long minId, long maxId, int pageSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.minId = minId;
+        this.maxId = maxId;
+        this.pageSize = pageSize;
+        this.lastPaymentId = minId - 1;
+        this.scanAfterId = lastPaymentId;
+        setName("paymentSettlementReader");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        String key = getExecutionContextKey(LAST_PAYMENT_ID);
+        if (executionContext.containsKey(key)) {
+            lastPaymentId = executionContext.getLong(key);
+            log.info("[Reader] 재시작 - lastPaymentId: {} 이후부터 조회 (범위: {} ~ {})", lastPaymentId, minId, maxId);
+        }
+        scanAfterId = lastPaymentId;
+        page = Collections.emptyList();
+        pageIndex = 0;
+
+        String partialPaymentKey = getExecutionContextKey(PARTIAL_PAYMENT_ID);
+        if (executionContext.containsKey(partialPaymentKey)) {
+            partialPaymentId = executionContext.getLong(partialPaymentKey);
+            partialBrandId = executionContext.getLong(getExecutionContextKey(PARTIAL_BRAND_ID));
+            page = jdbcTemplate.query(REMAINING_BRANDS_SQL, this::mapRow, partialPaymentId, partialBrandId);
+            scanAfterId = partialPaymentId;
+            log.info("[Reader] 재시작 - paymentId: {}의 brandId {} 이후 브랜드 행 {}건부터 이어서 조회",
+                    partialPaymentId, partialBrandId, page.size());
+        }
+        lastPage = maxId < minId || scanAfterId >= maxId;
+    }
+
+    @Override
+    public PaymentSettlementDto read() {
+        while (pageIndex >= page.size()) {
+            if (lastPage) {
+                return null;
+            }
+            fetchNextPage();
+        }
+
+        PaymentSettlementDto item = page.get(pageIndex++);
+        // 같은 payment의 브랜드 행이 남아 있으면 체크포인트를 전진시키지 않고 반환 위치만 기록
+        if (pageIndex < page.size() && page.get(pageIndex).getPaymentId().equals(item.getPaymentId())) {
+            partialPaymentId = item.getPaymentId();
+            partialBrandId = item.getBrandId();
+        } else {
+            lastPaymentId = item.getPaymentId();
+            partialPaymentId = null;
+            partialBrandId = null;
+        }
+        return item;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(getExecutionContextKey(LAST_PAYMENT_ID), lastPaymentId);
+        if (partialPaymentId != null) {
+            executionContext.putLong(getExecutionContextKey(PARTIAL_PAYMENT_ID), partialPaymentId);
+            executionContext.putLong(getExecutionContextKey(PARTIAL_BRAND_ID), partialBrandId);
+        } else {
+            executionContext.remove(getExecutionContextKey(PARTIAL_PAYMENT_ID));
+            executionContext.remove(getExecutionContextKey(PARTIAL_BRAND_ID));
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (pageCount > 0) {
+            log.debug("[Reader] 종료 - 범위: {} ~ {}, 페이지 {}회 조회, lastPaymentId: {}",
+                    minId, maxId, pageCount, lastPaymentId);
+        }
+        page = Collections.emptyList();
+    }
+
+    private void fetchNextPage() {
+        List<PaymentSettlementDto> rows = jdbcTemplate.query(PAGE_SQL, this::mapRow, scanAfterId, maxId, pageSize);
+        pageCount++;
+
+        // payment 수 기준 LIMIT이므로 브랜드 행 수와 무관하게 조회된 payment 수로 마지막 페이지 판단
+        long scannedPayments = rows.stream().mapToLong(PaymentSettlementDto::getPaymentId).distinct().count();
+        lastPage = scannedPayments < pageSize;
+        if (!rows.isEmpty()) {
+            scanAfterId = rows.get(rows.size() - 1).getPaymentId();
+        }
+
+        page = rows.stream()
+                .filter(row -> row.getBrandId() != null)
+                .toList();
+        pageIndex = 0;
+
+        log.debug("[Reader] 페이지 #{} 조회 - afterId: {}, {}건 (payment {}건)",
+                pageCount, scanAfterId, page.size(), scannedPayments);
+    }
+
+    private PaymentSettlementDto mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new PaymentSettlementDto(
+                rs.getLong("paymentId"),
+                rs.getString("pgTransactionId"),
+                rs.getString("pgProvider"),
+                rs.getString("paymentMethod"),
+                rs.getLong("orderId"),
+                rs.getObject("brandId", Long.class),
+                rs.getBigDecimal("totalAmount"),
+                rs.getBigDecimal("commissionRate"));
+    }
+}
@@ -22,7 +22,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -31,6 +34,8 @@ import java.time.temporal.WeekFields;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -50,10 +55,20 @@ public class SettlementAggregationService {
     private final SettlementNumberGenerator settlementNumberGenerator;
     private final MeterRegistry meterRegistry;
     private final JdbcSettlementBatchRepository jdbcBatchRepository;
+    private final PlatformTransactionManager transactionManager;
 
     @Value("${settlement.batch.insert-mode:jpa}")
     private String insertMode;
 
+    @Value("${settlement.batch.aggregation.claim-size:10000}")
+    private int claimSize;
+
+    @Value("${settlement.batch.aggregation.max-chunks-per-run:100}")
+    private int maxChunksPerRun;
+
+    @Value("${settlement.batch.aggregation.claim-lease-seconds:1800}")
+    private long claimLeaseSeconds;
+
     private volatile long lastProcessedCount = 0;
     private volatile long lastAggregatedCount = 0;
     private volatile double lastProcessingSpeed = 0;
@@ -99,112 +114,78 @@ public class SettlementAggregationService {
         recoverProcessingStatus();
     }
 
+    /*
+     * 기동 시 중단된 실행의 선점 복구
+     * - 다른 인스턴스에서 진행 중인 실행의 선점까지 풀면 해당 청크가 marked != claimed로 실패하므로
+     *   선점 후 claim-lease-seconds가 지난 행만 NOT_AGGREGATED로 되돌린다.
+     */
     private void recoverProcessingStatus() {
         int processingCount = perTransactionMapper.countProcessing();
         if (processingCount > 0) {
-            log.warn("[멱등성 복구] PROCESSING 상태 {}건 발견 - NOT_AGGREGATED로 롤백", processingCount);
-            int resetCount = perTransactionMapper.resetProcessingToNotAggregated();
-            log.info("[멱등성 복구] {}건 롤백 완료", resetCount);
+            int releasedCount = perTransactionMapper.releaseExpiredClaims(claimLeaseSeconds);
+            log.warn("[멱등성 복구] PROCESSING 상태 {}건 중 lease({}초) 만료 {}건 NOT_AGGREGATED로 롤백",
+                processingCount, claimLeaseSeconds, releasedCount);
         } else {
             log.info("[멱등성 복구] PROCESSING 상태 없음 - 정상");
         }
     }
 
-    @Transactional
+    /**
+     * NOT_AGGREGATED 건별 정산을 청크 단위로 선점(claim)하여 집계
+     * - 청크마다 runId로 최대 claim-size 건을 PROCESSING으로 표시하고 (짧은 트랜잭션, SKIP LOCKED)
+     * - 해당 runId 행만 집계/UPSERT 후 AGGREGATED로 표시한다 (청크별 트랜잭션).
+     * - 잠금 범위와 트랜잭션 크기가 미집계 적재량과 무관하게 일정하고, 동시 실행끼리 대기하지 않는다.
+     */
     public Map<String, Integer> aggregateIncremental() {
         long startTime = System.currentTimeMillis();
+        // Tasklet 트랜잭션 안에서 호출되어도 청크마다 별도로 커밋되도록 REQUIRES_NEW
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
 
-        Timer.Sample queryTimer = Timer.start(meterRegistry);
-        List<DailyAggregationDto> aggregations = perTransactionMapper.aggregateNotAggregated();
-        long queryTime = (long) queryTimer.stop(meterRegistry.timer("settlement.aggregation.select", "type", "select_groupby")) * 1000000;
-
-        if (aggregations.isEmpty()) {
-            long duration = System.currentTimeMillis() - startTime;
-            log.debug("[집계] 처리 대상 0건 (소요: {}ms)", duration);
-            return Map.of("insertCount", 0, "updateCount", 0);
-        }
-
-        log.info("[ 집계 대상 ]");
-        log.info("  NOT_AGGREGATED 건별 정산  : {}건 (GROUP BY 후)", aggregations.size());
-        log.info("");
-
+        int bulkUpdatedCount = 0;
+        int aggregationCount = 0;
         int updatedCount = 0;
         int createdCount = 0;
         int skippedCount = 0;
+        int chunkCount = 0;
 
-        log.info("[ INSERT 모드 ] {}", insertMode.toUpperCase());
+        while (chunkCount < maxChunksPerRun) {
+            String runId = UUID.randomUUID().toString();
 
-        if ("jpa-batch".equalsIgnoreCase(insertMode)) {
-            var counts = aggregateIncrementalJpaBatch(aggregations);
-            createdCount = counts.get("created");
-            updatedCount = counts.get("updated");
-            skippedCount = counts.get("skipped");
-        } else if ("mybatis".equalsIgnoreCase(insertMode)) {
-            var counts = aggregateIncrementalBatch(aggregations);
-            createdCount = counts.get("created");
-            updatedCount = counts.get("updated");
-            skippedCount = counts.get("skipped");
-        } else if ("jdbc".equalsIgnoreCase(insertMode)) {
-            var counts = aggregateIncrementalJdbc(aggregations);
-            createdCount = counts.get("created");
-            updatedCount = counts.get("updated");
-            skippedCount = counts.get("skipped");
-        } else {
-            Timer.Sample insertTimer = Timer.start(meterRegistry);
-
-            for (DailyAggregationDto dto : aggregations) {
-                java.util.Optional<SettlementDaily> existingOpt = dailyRepository
-                    .findByBrandIdAndSettlementDate(dto.getBrandId(), dto.getSettlementDate());
-
-                SettlementDaily daily;
-
-                if (existingOpt.isPresent()) {
-                    daily = existingOpt.get();
-
-                    if (daily.getSettlementStatus() == SettlementStatus.CONFIRMED) {
-                        skippedCount++;
-                        continue;
-                    }
-
-                    daily.addAggregatedData(
-                        dto.getTotalOrderCount().intValue(),
-                        dto.getTotalSalesAmount(),
-                        dto.getTotalCommissionAmount(),
-                        dto.getTotalTaxAmount(),
-                        dto.getTotalPgFeeAmount()
-                    );
-                    updatedCount++;
-                } else {
-
-                    String settlementNumber = settlementNumberGenerator.generateDailyNumber(
-                        dto.getSettlementDate()
-                    );
-                    daily = SettlementDaily.createFromAggregation(
-                        dto.getBrandId(),
-                        dto.getSettlementDate(),
-                        settlementNumber,
-                        "Asia/Seoul",
-                        dto.getTotalOrderCount().intValue(),
-                        dto.getTotalSalesAmount(),
-                        dto.getTotalCommissionAmount(),
-                        dto.getTotalTaxAmount(),
-                        dto.getTotalPgFeeAmount()
-                    );
-                    createdCount++;
-                }
+            Integer claimed = transactionTemplate.execute(status -> claimChunk(runId));
+            if (claimed == null || claimed == 0) {
+                break;
+            }
+            chunkCount++;
+
+            ChunkResult result;
+            try {
+                result = transactionTemplate.execute(status -> aggregateClaimed(runId, claimed));
+            } catch (RuntimeException e) {
+                Integer released = transactionTemplate.execute(status -> perTransactionMapper.releaseRun(runId));
+                log.error("[집계] 청크 처리 실패 - runId: {}, 선점 해제 {}건", runId, released, e);
+                throw e;
+            }
 
-                daily.startProcessing();
-                dailyRepository.save(daily);
+            bulkUpdatedCount += result.markedCount();
+            aggregationCount += result.aggregationCount();
+            createdCount += result.counts().get("created");
+            updatedCount += result.counts().get("updated");
+            skippedCount += result.counts().get("skipped");
 
-                aggregateToWeeklyIncremental(dto);
-                aggregateToMonthlyIncremental(dto);
-                aggregateToYearlyIncremental(dto);
-            }
+            log.debug("[집계] 청크 #{} 완료 - runId: {}, 선점 {}건, 집계 키 {}건",
+                chunkCount, runId, claimed, result.aggregationCount());
 
-            insertTimer.stop(meterRegistry.timer("settlement.aggregation.insert", "type", "jpa_individual"));
+            if (claimed < claimSize) {
+                break;
+            }
         }
 
-        int bulkUpdatedCount = perTransactionMapper.updateAggregationStatusToAggregated();
+        if (bulkUpdatedCount == 0) {
+            long duration = System.currentTimeMillis() - startTime;
+            log.debug("[집계] 처리 대상 0건 (소요: {}ms)", duration);
+            return Map.of("insertCount", 0, "updateCount", 0);
+        }
 
         long duration = System.currentTimeMillis() - startTime;
         double durationSeconds = duration / 1000.0;
@@ -214,7 +195,7 @@ public class SettlementAggregationService {
         double achievement = perMinute > 0 ? (perMinute / 100000.0) * 100 : 0;
 
         this.lastProcessedCount = bulkUpdatedCount;
-        this.lastAggregatedCount = aggregations.size();
+        this.lastAggregatedCount = aggregationCount;
         this.lastProcessingSpeed = perMinute;
         this.totalProcessedCount += bulkUpdatedCount;
 
@@ -223,9 +204,10 @@ public class SettlementAggregationService {
         log.info("[Minute Settlement Aggregation] 완료");
         log.info("================================================================================");
         log.info("");
+        log.info("[ INSERT 모드 ] {}", insertMode.toUpperCase());
         log.info("[ 이번 배치 처리 결과 ]");
-        log.info("  건별 정산 처리           : {}건 (NOT_AGGREGATED → AGGREGATED)", String.format("%,d", bulkUpdatedCount));
-        log.info("  브랜드별 Daily 집계 생성  : {}건 (브랜드 × 날짜 조합)", String.format("%,d", aggregations.size()));
+        log.info("  건별 정산 처리           : {}건 (NOT_AGGREGATED → AGGREGATED, {}개 청크)", String.format("%,d", bulkUpdatedCount), chunkCount);
+        log.info("  브랜드별 Daily 집계 생성  : {}건 (브랜드 × 날짜 조합)", String.format("%,d", aggregationCount));
         if (skippedCount > 0) {
             log.info("  CONFIRMED 스킵          : {}건", String.format("%,d", skippedCount));
         }
@@ -243,6 +225,115 @@ public class SettlementAggregationService {
         return Map.of("insertCount", createdCount, "updateCount", updatedCount);
     }
 
+    // 선점 트랜잭션: 다른 실행이 잠근 행은 건너뛰고 claim-size 건까지만 PROCESSING + runId 표시
+    private int claimChunk(String runId) {
+        List<Long> ids = perTransactionMapper.selectClaimableIds(claimSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return perTransactionMapper.claimByIds(runId, ids);
+    }
+
+    // 집계 트랜잭션: runId 행만 집계/UPSERT 후 같은 행만 AGGREGATED로 표시
+    private ChunkResult aggregateClaimed(String runId, int claimed) {
+        Timer.Sample queryTimer = Timer.start(meterRegistry);
+        List<DailyAggregationDto> aggregations = perTransactionMapper.aggregateByRunId(runId);
+        queryTimer.stop(meterRegistry.timer("settlement.aggregation.select", "type", "select_groupby"));
+
+        Map<String, Integer> counts = applyAggregations(aggregations);
+
+        Timer.Sample updateTimer = Timer.start(meterRegistry);
+        int marked = perTransactionMapper.updateRunToAggregated(runId);
+        updateTimer.stop(meterRegistry.timer("settlement.aggregation.update", "type", "bulk"));
+
+        // 선점 이후 복구 로직 등으로 행이 풀렸다면 집계 결과와 상태가 어긋나므로 롤백
+        if (marked != claimed) {
+            throw new IllegalStateException(String.format(
+                "선점 건수와 집계 완료 건수 불일치 - runId: %s, claimed: %d, marked: %d", runId, claimed, marked));
+        }
+        return new ChunkResult(aggregations.size(), marked, counts);
+    }
+
+    private Map<String, Integer> applyAggregations(List<DailyAggregationDto> aggregations) {
+        if (aggregations.isEmpty()) {
+            return Map.of("created", 0, "updated", 0, "skipped", 0);
+        }
+        if ("rollup".equalsIgnoreCase(insertMode)) {
+            return aggregateIncrementalRollup(aggregations);
+        } else if ("jpa-batch".equalsIgnoreCase(insertMode)) {
+            return aggregateIncrementalJpaBatch(aggregations);
+        } else if ("mybatis".equalsIgnoreCase(insertMode)) {
+            return aggregateIncrementalBatch(aggregations);
+        } else if ("jdbc".equalsIgnoreCase(insertMode)) {
+            return aggregateIncrementalJdbc(aggregations);
+        }
+        return aggregateIncrementalJpa(aggregations);
+    }
+
+    private Map<String, Integer> aggregateIncrementalJpa(List<DailyAggregationDto> aggregations) {
+        int updatedCount = 0;
+        int createdCount = 0;
+        int skippedCount = 0;
+
+        Timer.Sample insertTimer = Timer.start(meterRegistry);
+
+        for (DailyAggregationDto dto : aggregations) {
+            java.util.Optional<SettlementDaily> existingOpt = dailyRepository
+                .findByBrandIdAndSettlementDate(dto.getBrandId(), dto.getSettlementDate());
+
+            SettlementDaily daily;
+
+            if (existingOpt.isPresent()) {
+                daily = existingOpt.get();
+
+                if (daily.getSettlementStatus() == SettlementStatus.CONFIRMED) {
+                    skippedCount++;
+                    continue;
+                }
+
+                daily.addAggregatedData(
+                    dto.getTotalOrderCount().intValue(),
+                    dto.getTotalSalesAmount(),
+                    dto.getTotalCommissionAmount(),
+                    dto.getTotalTaxAmount(),
+                    dto.getTotalPgFeeAmount()
+                );
+                updatedCount++;
+            } else {
+
+                String settlementNumber = settlementNumberGenerator.generateDailyNumber(
+                    dto.getSettlementDate()
+                );
+                daily = SettlementDaily.createFromAggregation(
+                    dto.getBrandId(),
+                    dto.getSettlementDate(),
+                    settlementNumber,
+                    "Asia/Seoul",
+                    dto.getTotalOrderCount().intValue(),
+                    dto.getTotalSalesAmount(),
+                    dto.getTotalCommissionAmount(),
+                    dto.getTotalTaxAmount(),
+                    dto.getTotalPgFeeAmount()
+                );
+                createdCount++;
+            }
+
+            daily.startProcessing();
+            dailyRepository.save(daily);
+
+            aggregateToWeeklyIncremental(dto);
+            aggregateToMonthlyIncremental(dto);
+            aggregateToYearlyIncremental(dto);
+        }
+
+        insertTimer.stop(meterRegistry.timer("settlement.aggregation.insert", "type", "jpa_individual"));
+
+        return Map.of("created", createdCount, "updated", updatedCount, "skipped", skippedCount);
+    }
+
+    private record ChunkResult(int aggregationCount, int markedCount, Map<String, Integer> counts) {
+    }
+
     
     private void aggregateToWeeklyIncremental(DailyAggregationDto dto) {
         LocalDate date = dto.getSettlementDate();
@@ -535,6 +626,74 @@ public class SettlementAggregationService {
         log.info("연간 정산 {}건 생성 완료", aggregations.size());
     }
 
+    /**
+     * 한 번의 순회로 일/주/월/년 합계를 메모리에서 만든 뒤 레벨별로 한 번씩 UPSERT
+     * - DB 왕복 수는 입력 건수가 아니라 (브랜드, 기간) 키 수에 비례한다.
+     * - JPA 모드와 동일하게 CONFIRMED 일일 정산에 해당하는 건은 상위 레벨까지 누적하지 않는다.
+     */
+    private Map<String, Integer> aggregateIncrementalRollup(List<DailyAggregationDto> aggregations) {
+        int skipped = 0;
+
+        Timer.Sample processSample = Timer.start();
+
+        LocalDate from = aggregations.get(0).getSettlementDate();
+        LocalDate to = from;
+        for (DailyAggregationDto dto : aggregations) {
+            LocalDate date = dto.getSettlementDate();
+            if (date.isBefore(from)) {
+                from = date;
+            } else if (date.isAfter(to)) {
+                to = date;
+            }
+        }
+        Set<String> confirmedKeys = jdbcBatchRepository.findConfirmedDailyKeys(from, to);
+
+        SettlementRollup rollup = new SettlementRollup();
+        for (DailyAggregationDto dto : aggregations) {
+            if (!confirmedKeys.isEmpty()
+                && confirmedKeys.contains(dto.getBrandId() + ":" + dto.getSettlementDate())) {
+                skipped++;
+                continue;
+            }
+            rollup.add(dto);
+        }
+
+        List<SettlementDaily> dailyList = rollup.toDailyList(settlementNumberGenerator);
+        List<SettlementWeekly> weeklyList = rollup.toWeeklyList(settlementNumberGenerator);
+        List<SettlementMonthly> monthlyList = rollup.toMonthlyList(settlementNumberGenerator);
+        List<SettlementYearly> yearlyList = rollup.toYearlyList(settlementNumberGenerator);
+
+        processSample.stop(Timer.builder("settlement.aggregation.process")
+            .tag("type", "rollup")
+            .register(meterRegistry));
+
+        Timer.Sample insertSample = Timer.start();
+
+        // 신규/갱신 건수는 일일 정산 기준 (다른 모드와 동일), UPSERT 결과의 affected rows로 구분
+        JdbcSettlementBatchRepository.DailyUpsertResult dailyResult = dailyList.isEmpty()
+            ? new JdbcSettlementBatchRepository.DailyUpsertResult(0, 0)
+            : jdbcBatchRepository.upsertDaily(dailyList);
+        if (!weeklyList.isEmpty()) {
+            jdbcBatchRepository.batchInsertWeekly(weeklyList);
+        }
+        if (!monthlyList.isEmpty()) {
+            jdbcBatchRepository.batchInsertMonthly(monthlyList);
+        }
+        if (!yearlyList.isEmpty()) {
+            jdbcBatchRepository.batchInsertYearly(yearlyList);
+        }
+
+        insertSample.stop(Timer.builder("settlement.aggregation.insert")
+            .tag("type", "rollup_upsert")
+            .register(meterRegistry));
+
+        log.info("[Rollup] 입력 {}건 → daily {}건(신규 {}, 갱신 {}), weekly {}, monthly {}, yearly {}건 UPSERT (CONFIRMED 스킵 {}건)",
+            rollup.getInputCount(), dailyList.size(), dailyResult.inserted(), dailyResult.updated(),
+            weeklyList.size(), monthlyList.size(), yearlyList.size(), skipped);
+
+        return Map.of("created", dailyResult.inserted(), "updated", dailyResult.updated(), "skipped", skipped);
+    }
+
     private Map<String, Integer> aggregateIncrementalBatch(List<DailyAggregationDto> aggregations) {
         List<SettlementDaily> dailyList = new ArrayList<>();
         List<SettlementWeekly> weeklyList = new ArrayList<>();
@@ -0,0 +1,155 @@
+package com.mudosa.musinsa.batch.settlement.service;
+
+import com.mudosa.musinsa.common.vo.FixedPointMoney;
+import com.mudosa.musinsa.common.vo.Money;
+import com.mudosa.musinsa.settlement.application.dto.DailyAggregationDto;
+import com.mudosa.musinsa.settlement.domain.model.SettlementDaily;
+import com.mudosa.musinsa.settlement.domain.model.SettlementMonthly;
+import com.mudosa.musinsa.settlement.domain.model.SettlementWeekly;
+import com.mudosa.musinsa.settlement.domain.model.SettlementYearly;
+import com.mudosa.musinsa.settlement.domain.service.SettlementNumberGenerator;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 브랜드×일자 집계 결과를 일/주/월/년 단위로 한 번에 합산하는 메모리 롤업
+ * - 입력을 한 번만 순회하며 (브랜드, 기간) 키별 합계를 4개의 Map에 누적한다.
+ * - 키는 각 엔티티의 유니크 키 컬럼을 결정하는 값과 동일하게 잡아, 기존 UPSERT 결과와 같은 행에 누적된다.
+ * - 금액은 FixedPointMoney(1/100원 long)로 더해 행마다 Money 객체를 만들지 않는다.
+ */
+class SettlementRollup {
+
+    private static final String TIMEZONE = "Asia/Seoul";
+
+    private final Map<DailyKey, Totals> daily = new HashMap<>();
+    private final Map<WeeklyKey, Totals> weekly = new HashMap<>();
+    private final Map<MonthlyKey, Totals> monthly = new HashMap<>();
+    private final Map<YearlyKey, Totals> yearly = new HashMap<>();
+
+    private int inputCount;
+
+    void add(DailyAggregationDto dto) {
+        Long brandId = dto.getBrandId();
+        LocalDate date = dto.getSettlementDate();
+        int year = date.getYear();
+
+        daily.computeIfAbsent(new DailyKey(brandId, date), k -> new Totals()).add(dto);
+        weekly.computeIfAbsent(new WeeklyKey(brandId, year, date.get(WeekFields.ISO.weekOfMonth()),
+                date.with(DayOfWeek.MONDAY), date.with(DayOfWeek.SUNDAY)), k -> new Totals()).add(dto);
+        monthly.computeIfAbsent(new MonthlyKey(brandId, year, date.getMonthValue()), k -> new Totals()).add(dto);
+        yearly.computeIfAbsent(new YearlyKey(brandId, year), k -> new Totals()).add(dto);
+        inputCount++;
+    }
+
+    int getInputCount() {
+        return inputCount;
+    }
+
+    int getKeyCount() {
+        return daily.size() + weekly.size() + monthly.size() + yearly.size();
+    }
+
+    List<SettlementDaily> toDailyList(SettlementNumberGenerator numberGenerator) {
+        List<SettlementDaily> list = new ArrayList<>(daily.size());
+        daily.forEach((key, totals) -> {
+            SettlementDaily entity = SettlementDaily.createFromAggregation(
+                key.brandId(), key.date(), numberGenerator.generateDailyNumber(key.date()), TIMEZONE,
+                totals.orderCount(), totals.sales(), totals.commission(), totals.tax(), totals.pgFee());
+            entity.startProcessing();
+            list.add(entity);
+        });
+        return list;
+    }
+
+    List<SettlementWeekly> toWeeklyList(SettlementNumberGenerator numberGenerator) {
+        List<SettlementWeekly> list = new ArrayList<>(weekly.size());
+        weekly.forEach((key, totals) -> {
+            SettlementWeekly entity = SettlementWeekly.createFromAggregation(
+                key.brandId(), key.year(), key.weekOfMonth(), key.weekStart(), key.weekEnd(),
+                numberGenerator.generateWeeklyNumber(key.year(), key.weekOfMonth()), TIMEZONE,
+                totals.orderCount(), totals.sales(), totals.commission(), totals.tax(), totals.pgFee());
+            entity.startProcessing();
+            list.add(entity);
+        });
+        return list;
+    }
+
+    List<SettlementMonthly> toMonthlyList(SettlementNumberGenerator numberGenerator) {
+        List<SettlementMonthly> list = new ArrayList<>(monthly.size());
+        monthly.forEach((key, totals) -> {
+            SettlementMonthly entity = SettlementMonthly.createFromAggregation(
+                key.brandId(), key.year(), key.month(),
+                numberGenerator.generateMonthlyNumber(key.year(), key.month()), TIMEZONE,
+                totals.orderCount(), totals.sales(), totals.commission(), totals.tax(), totals.pgFee());
+            entity.startProcessing();
+            list.add(entity);
+        });
+        return list;
+    }
+
+    List<SettlementYearly> toYearlyList(SettlementNumberGenerator numberGenerator) {
+        List<SettlementYearly> list = new ArrayList<>(yearly.size());
+        yearly.forEach((key, totals) -> {
+            SettlementYearly entity = SettlementYearly.createFromAggregation(
+                key.brandId(), key.year(), numberGenerator.generateYearlyNumber(key.year()), TIMEZONE,
+                totals.orderCount(), totals.sales(), totals.commission(), totals.tax(), totals.pgFee());
+            entity.startProcessing();
+            list.add(entity);
+        });
+        return list;
+    }
+
+    private record DailyKey(Long brandId, LocalDate date) {
+    }
+
+    private record WeeklyKey(Long brandId, int year, int weekOfMonth, LocalDate weekStart, LocalDate weekEnd) {
+    }
+
+    private record MonthlyKey(Long brandId, int year, int month) {
+    }
+
+    private record YearlyKey(Long brandId, int year) {
+    }
+
+    private static final class Totals {
+        private long orderCount;
+        private long salesMinor;
+        private long commissionMinor;
+        private long taxMinor;
+        private long pgFeeMinor;
+
+        void add(DailyAggregationDto dto) {
+            orderCount += dto.getTotalOrderCount();
+            salesMinor += FixedPointMoney.toMinor(dto.getTotalSalesAmount());
+            commissionMinor += FixedPointMoney.toMinor(dto.getTotalCommissionAmount());
+            taxMinor += FixedPointMoney.toMinor(dto.getTotalTaxAmount());
+            pgFeeMinor += FixedPointMoney.toMinor(dto.getTotalPgFeeAmount());
+        }
+
+        int orderCount() {
+            return Math.toIntExact(orderCount);
+        }
+
+        Money sales() {
+            return Money.ofMinor(salesMinor);
+        }
+
+        Money commission() {
+            return Money.ofMinor(commissionMinor);
+        }
+
+        Money tax() {
+            return Money.ofMinor(taxMinor);
+        }
+
+        Money pgFee() {
+            return Money.ofMinor(pgFeeMinor);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.mudosa.musinsa.batch.settlement.writer;
+
+import com.mudosa.musinsa.settlement.domain.model.SettlementPerTransaction;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/* 기존 방식: 단건 INSERT를 JDBC batch로 전송 (rewriteBatchedStatements=true면 드라이버가 multi-row로 재작성) */
+@Component
+public class JdbcBatchSettlementInsertStrategy implements SettlementInsertStrategy {
+
+    private static final String INSERT_SQL = "INSERT INTO " + SettlementColumns.TABLE
+            + " (" + SettlementColumns.COLUMNS + ") VALUES " + SettlementColumns.ROW_PLACEHOLDER;
+
+    @Override
+    public String getMode() {
+        return "batch";
+    }
+
+    @Override
+    public boolean supports(String mode) {
+        return getMode().equalsIgnoreCase(mode);
+    }
+
+    @Override
+    public int insert(Connection connection, List<SettlementPerTransaction> settlements) throws SQLException {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL)) {
+            for (SettlementPerTransaction settlement : settlements) {
+                SettlementColumns.bind(ps, 0, settlement, createdAt);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+        return settlements.size();
+    }
+}
@@ -0,0 +1,116 @@
+package com.mudosa.musinsa.batch.settlement.writer;
+
+import com.mudosa.musinsa.settlement.domain.model.SettlementPerTransaction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * LOAD DATA LOCAL INFILE로 메모리 버퍼(TSV)를 그대로 스트리밍
+ * - 임시 파일 없이 Connector/J의 setLocalInfileInputStream으로 전달한다.
+ * - 접속 URL에 allowLoadLocalInfile=true, 서버에 local_infile=ON 필요
+ */
+@Slf4j
+@Component
+public class LoadDataSettlementInsertStrategy implements SettlementInsertStrategy {
+
+    private static final String LOAD_SQL = "LOAD DATA LOCAL INFILE 'settlements.tsv' INTO TABLE " + SettlementColumns.TABLE
+            + " CHARACTER SET utf8mb4"
+            + " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\'"
+            + " LINES TERMINATED BY '\\n'"
+            + " (" + SettlementColumns.COLUMNS + ")";
+
+    // mysql-connector-j는 runtimeOnly 의존성이므로 리플렉션으로 호출
+    private static final String MYSQL_STATEMENT_CLASS = "com.mysql.cj.jdbc.JdbcStatement";
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+    @Override
+    public String getMode() {
+        return "load-data";
+    }
+
+    @Override
+    public boolean supports(String mode) {
+        return getMode().equalsIgnoreCase(mode);
+    }
+
+    @Override
+    public int insert(Connection connection, List<SettlementPerTransaction> settlements) throws SQLException {
+        byte[] payload = toTsv(settlements, LocalDateTime.now());
+
+        try (Statement statement = connection.createStatement()) {
+            setLocalInfileInputStream(statement, new ByteArrayInputStream(payload));
+            int inserted = statement.executeUpdate(LOAD_SQL);
+            log.debug("[LoadData] {}건 ({} bytes) 적재", inserted, payload.length);
+            return inserted;
+        }
+    }
+
+    private void setLocalInfileInputStream(Statement statement, InputStream stream) throws SQLException {
+        try {
+            Class<?> mysqlStatementClass = Class.forName(MYSQL_STATEMENT_CLASS);
+            Object mysqlStatement = statement.unwrap(mysqlStatementClass);
+            Method setter = mysqlStatementClass.getMethod("setLocalInfileInputStream", InputStream.class);
+            setter.invoke(mysqlStatement, stream);
+        } catch (ReflectiveOperationException e) {
+            throw new SQLException("LOAD DATA 모드는 MySQL Connector/J에서만 사용할 수 있습니다.", e);
+        }
+    }
+
+    private byte[] toTsv(List<SettlementPerTransaction> settlements, LocalDateTime createdAt) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(settlements.size() * 192);
+        StringBuilder line = new StringBuilder(192);
+        String createdAtText = createdAt.format(TIMESTAMP_FORMAT);
+
+        for (SettlementPerTransaction s : settlements) {
+            line.setLength(0);
+            line.append(s.getBrandId()).append('\t')
+                .append(s.getPaymentId()).append('\t');
+            appendEscaped(line, s.getPgTransactionId());
+            line.append('\t')
+                .append(s.getTransactionType().name()).append('\t')
+                .append(s.getTransactionAmount().getAmount().toPlainString()).append('\t')
+                .append(s.getCommissionRate().toPlainString()).append('\t')
+                .append(s.getCommissionAmount().getAmount().toPlainString()).append('\t')
+                .append(s.getTaxAmount().getAmount().toPlainString()).append('\t')
+                .append(s.getPgFeeAmount().getAmount().toPlainString()).append('\t')
+                .append(s.getTransactionDate().format(TIMESTAMP_FORMAT)).append('\t')
+                .append(s.getTransactionDateLocal()).append('\t');
+            appendEscaped(line, s.getTimezoneOffset());
+            line.append('\t')
+                .append(s.getAggregationStatus().name()).append('\t')
+                .append(createdAtText).append('\n');
+            out.writeBytes(line.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private void appendEscaped(StringBuilder line, String value) {
+        if (value == null) {
+            line.append("\\N");
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> line.append("\\\\");
+                case '\t' -> line.append("\\t");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                default -> line.append(c);
+            }
+        }
+    }
+}
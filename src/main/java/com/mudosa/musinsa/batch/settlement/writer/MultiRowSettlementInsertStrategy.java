@@ -0,0 +1,99 @@
+package com.mudosa.musinsa.batch.settlement.writer;
+
+import com.mudosa.musinsa.settlement.domain.model.SettlementPerTransaction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/* INSERT ... VALUES (...), (...) 한 문장에 여러 행을 담고, 문장 크기(byte) 기준으로 분할 */
+@Slf4j
+@Component
+public class MultiRowSettlementInsertStrategy implements SettlementInsertStrategy {
+
+    // MySQL prepared statement 파라미터 최대 개수(65,535) 기준 문장당 최대 행 수
+    private static final int MAX_ROWS_BY_PLACEHOLDER = 65_535 / SettlementColumns.COLUMN_COUNT;
+
+    // 숫자/날짜 컬럼의 대략적인 직렬화 크기 (long 2개, decimal 5개, timestamp 2개, date 1개)
+    private static final int FIXED_COLUMN_BYTES = 2 * 20 + 5 * 18 + 2 * 26 + 10;
+
+    private static final String INSERT_PREFIX = "INSERT INTO " + SettlementColumns.TABLE
+            + " (" + SettlementColumns.COLUMNS + ") VALUES ";
+
+    @Value("${settlement.batch.creation.multi-row.max-bytes:1048576}")
+    private int maxStatementBytes;
+
+    @Override
+    public String getMode() {
+        return "multi-row";
+    }
+
+    @Override
+    public boolean supports(String mode) {
+        return getMode().equalsIgnoreCase(mode);
+    }
+
+    @Override
+    public int insert(Connection connection, List<SettlementPerTransaction> settlements) throws SQLException {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        int statementCount = 0;
+
+        int from = 0;
+        while (from < settlements.size()) {
+            int bytes = INSERT_PREFIX.length();
+            int to = from;
+            while (to < settlements.size() && to - from < MAX_ROWS_BY_PLACEHOLDER) {
+                int rowBytes = estimateRowBytes(settlements.get(to));
+                if (to > from && bytes + rowBytes > maxStatementBytes) {
+                    break;
+                }
+                bytes += rowBytes;
+                to++;
+            }
+
+            executeStatement(connection, settlements.subList(from, to), createdAt);
+            statementCount++;
+            from = to;
+        }
+
+        log.debug("[MultiRow] {}건을 {}개 문장으로 INSERT", settlements.size(), statementCount);
+        return settlements.size();
+    }
+
+    private void executeStatement(Connection connection, List<SettlementPerTransaction> rows, Timestamp createdAt) throws SQLException {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows.size() * (SettlementColumns.ROW_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(SettlementColumns.ROW_PLACEHOLDER);
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+            for (int i = 0; i < rows.size(); i++) {
+                SettlementColumns.bind(ps, i * SettlementColumns.COLUMN_COUNT, rows.get(i), createdAt);
+            }
+            ps.executeUpdate();
+        }
+    }
+
+    private int estimateRowBytes(SettlementPerTransaction s) {
+        return SettlementColumns.ROW_PLACEHOLDER.length() + 2
+                + FIXED_COLUMN_BYTES
+                + length(s.getPgTransactionId())
+                + s.getTransactionType().name().length()
+                + length(s.getTimezoneOffset())
+                + s.getAggregationStatus().name().length();
+    }
+
+    private int length(String value) {
+        return value == null ? 4 : value.length() * 3;  // UTF-8 최대 3byte 가정
+    }
+}
@@ -0,0 +1,106 @@
+package com.mudosa.musinsa.batch.settlement.writer;
+
+import com.mudosa.musinsa.batch.settlement.listener.DetailedPerformanceListener;
+import com.mudosa.musinsa.settlement.domain.model.SettlementPerTransaction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 건별 정산 Chunk Writer
+ * - 세션 변수 변경, INSERT, payment settled_at UPDATE를 모두 같은 커넥션에서 실행한다.
+ * - payment UPDATE는 chunk당 WHERE payment_id IN (...) 한 문장으로 처리한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SettlementChunkWriter implements ItemWriter<SettlementPerTransaction> {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SettlementInsertStrategy insertStrategy;
+    private final SettlementWriterMetrics writerMetrics;
+    private final DetailedPerformanceListener detailedPerformanceListener;
+
+    @Override
+    public void write(Chunk<? extends SettlementPerTransaction> chunk) {
+        long start = System.nanoTime();
+
+        List<SettlementPerTransaction> settlementList = new ArrayList<>(chunk.getItems());
+        if (settlementList.isEmpty()) {
+            log.debug("[Writer] 처리할 Settlement 없음");
+            return;
+        }
+
+        Set<Long> paymentIds = new LinkedHashSet<>();
+        for (SettlementPerTransaction settlement : settlementList) {
+            paymentIds.add(settlement.getPaymentId());
+        }
+
+        log.info("[Writer] Chunk 저장 시작 - mode: {}, Payment {}건, Settlement {}건",
+                insertStrategy.getMode(), paymentIds.size(), settlementList.size());
+
+        int inserted = jdbcTemplate.execute((ConnectionCallback<Integer>) connection ->
+                writeOnConnection(connection, settlementList, paymentIds));
+
+        long elapsedNanos = System.nanoTime() - start;
+        writerMetrics.record(insertStrategy.getMode(), inserted, elapsedNanos);
+        detailedPerformanceListener.addWriteTime(elapsedNanos / 1_000_000);
+
+        log.info("[Writer] Chunk 완료 - {}ms, Settlement {}건",
+                elapsedNanos / 1_000_000, inserted);
+    }
+
+    private int writeOnConnection(Connection connection,
+                                  List<SettlementPerTransaction> settlementList,
+                                  Set<Long> paymentIds) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET UNIQUE_CHECKS=0, FOREIGN_KEY_CHECKS=0");
+        }
+
+        try {
+            int inserted = insertStrategy.insert(connection, settlementList);
+            log.debug("[Writer] Settlement INSERT 완료 - {}건", inserted);
+
+            int updated = markSettled(connection, paymentIds);
+            log.debug("[Writer] Payment settled_at UPDATE 완료 - {}건", updated);
+
+            return inserted;
+        } finally {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET UNIQUE_CHECKS=1, FOREIGN_KEY_CHECKS=1");
+            }
+        }
+    }
+
+    private int markSettled(Connection connection, Set<Long> paymentIds) throws SQLException {
+        StringBuilder sql = new StringBuilder("UPDATE payment SET settled_at = ?, updated_at = ? WHERE payment_id IN (");
+        for (int i = 0; i < paymentIds.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(')');
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+            ps.setTimestamp(1, now);
+            ps.setTimestamp(2, now);
+            int index = 3;
+            for (Long paymentId : paymentIds) {
+                ps.setLong(index++, paymentId);
+            }
+            return ps.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.mudosa.musinsa.batch.settlement.writer;
+
+import com.mudosa.musinsa.settlement.domain.model.SettlementPerTransaction;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SettlementColumns {
+
+    static final String TABLE = "settlements_per_transaction";
+
+    static final String COLUMNS = "brand_id, payment_id, pg_transaction_id, transaction_type, "
+            + "transaction_amount, commission_rate, commission_amount, tax_amount, pg_fee_amount, "
+            + "transaction_date, transaction_date_local, timezone_offset, aggregation_status, created_at";
+
+    static final int COLUMN_COUNT = 14;
+
+    static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // offset: 이 행의 첫 번째 파라미터 인덱스 - 1
+    static void bind(PreparedStatement ps, int offset, SettlementPerTransaction s, Timestamp createdAt) throws SQLException {
+        ps.setLong(offset + 1, s.getBrandId());
+        ps.setLong(offset + 2, s.getPaymentId());
+        ps.setString(offset + 3, s.getPgTransactionId());
+        ps.setString(offset + 4, s.getTransactionType().name());
+        ps.setBigDecimal(offset + 5, s.getTransactionAmount().getAmount());
+        ps.setBigDecimal(offset + 6, s.getCommissionRate());
+        ps.setBigDecimal(offset + 7, s.getCommissionAmount().getAmount());
+        ps.setBigDecimal(offset + 8, s.getTaxAmount().getAmount());
+        ps.setBigDecimal(offset + 9, s.getPgFeeAmount().getAmount());
+        ps.setTimestamp(offset + 10, Timestamp.valueOf(s.getTransactionDate()));
+        ps.setDate(offset + 11, java.sql.Date.valueOf(s.getTransactionDateLocal()));
+        ps.setString(offset + 12, s.getTimezoneOffset());
+        ps.setString(offset + 13, s.getAggregationStatus().name());
+        ps.setTimestamp(offset + 14, createdAt);
+    }
+}
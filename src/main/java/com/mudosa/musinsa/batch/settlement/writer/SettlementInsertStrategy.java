@@ -0,0 +1,17 @@
+package com.mudosa.musinsa.batch.settlement.writer;
+
+import com.mudosa.musinsa.settlement.domain.model.SettlementPerTransaction;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * settlements_per_transaction INSERT 방식
+ * - 호출자가 넘겨준 커넥션 하나에서만 실행해야 한다 (세션 변수/트랜잭션 공유)
+ */
+public interface SettlementInsertStrategy {
+    String getMode();
+    boolean supports(String mode);
+    int insert(Connection connection, List<SettlementPerTransaction> settlements) throws SQLException;
+}
@@ -0,0 +1,24 @@
+package com.mudosa.musinsa.batch.settlement.writer;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class SettlementInsertStrategyFactory {
+
+    private final List<SettlementInsertStrategy> strategies;
+
+    public SettlementInsertStrategyFactory(List<SettlementInsertStrategy> strategies) {
+        this.strategies = strategies;
+    }
+
+    public SettlementInsertStrategy getStrategy(String mode) {
+        return strategies.stream()
+                .filter(strategy -> strategy.supports(mode))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        String.format("정산 INSERT 전략을 찾을 수 없습니다: %s", mode)
+                ));
+    }
+}
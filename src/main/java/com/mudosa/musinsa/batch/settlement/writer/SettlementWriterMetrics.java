@@ -0,0 +1,49 @@
+package com.mudosa.musinsa.batch.settlement.writer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/* INSERT 모드별 처리량 (rows, 소요 시간, 직전 chunk 초당 처리 건수) */
+@Component
+@RequiredArgsConstructor
+public class SettlementWriterMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AtomicLong> lastRowsPerSecond = new ConcurrentHashMap<>();
+
+    public void record(String mode, int rows, long elapsedNanos) {
+        Counter.builder("settlement.creation.writer.rows")
+            .tag("mode", mode)
+            .description("Rows written to settlements_per_transaction by writer mode")
+            .register(meterRegistry)
+            .increment(rows);
+
+        Timer.builder("settlement.creation.writer.duration")
+            .tag("mode", mode)
+            .description("Chunk write time by writer mode")
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        long rowsPerSecond = elapsedNanos > 0 ? rows * 1_000_000_000L / elapsedNanos : 0;
+        lastRowsPerSecond.computeIfAbsent(mode, this::registerRowsPerSecondGauge).set(rowsPerSecond);
+    }
+
+    private AtomicLong registerRowsPerSecondGauge(String mode) {
+        AtomicLong holder = new AtomicLong();
+        Gauge.builder("settlement.creation.writer.rows.per.second", holder, AtomicLong::get)
+            .tag("mode", mode)
+            .description("Rows per second of the last chunk by writer mode")
+            .register(meterRegistry);
+        return holder;
+    }
+}
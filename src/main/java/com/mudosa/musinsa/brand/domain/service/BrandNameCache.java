@@ -0,0 +1,122 @@
+package com.mudosa.musinsa.brand.domain.service;
+
+import com.mudosa.musinsa.brand.domain.model.Brand;
+import com.mudosa.musinsa.brand.domain.repository.BrandRepository;
+import com.mudosa.musinsa.exception.BusinessException;
+import com.mudosa.musinsa.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * 브랜드 ID → 한글 브랜드명 캐시 (프로세스 내 LRU + TTL)
+ * - 최대 max-size개를 접근 순서로 유지하고, ttl이 지난 항목은 조회 시 다시 읽는다.
+ * - 캐시에 없는 ID는 findAllById 한 번으로 모아서 조회한다.
+ * - 브랜드가 변경되면 evict로 무효화한다.
+ */
+@Slf4j
+@Component
+public class BrandNameCache {
+
+  private final BrandRepository brandRepository;
+  private final int maxSize;
+  private final long ttlMillis;
+  private final LongSupplier clock;
+
+  private final LinkedHashMap<Long, CachedName> cache;
+
+  public BrandNameCache(
+      BrandRepository brandRepository,
+      @Value("${brand.name-cache.max-size:1000}") int maxSize,
+      @Value("${brand.name-cache.ttl-seconds:300}") long ttlSeconds) {
+    this(brandRepository, maxSize, ttlSeconds * 1000, System::currentTimeMillis);
+  }
+
+  BrandNameCache(BrandRepository brandRepository, int maxSize, long ttlMillis, LongSupplier clock) {
+    this.brandRepository = brandRepository;
+    this.maxSize = maxSize;
+    this.ttlMillis = ttlMillis;
+    this.clock = clock;
+    this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, CachedName> eldest) {
+        return size() > BrandNameCache.this.maxSize;
+      }
+    };
+  }
+
+  public String getName(Long brandId) {
+    return getNames(Set.of(brandId)).get(brandId);
+  }
+
+  /**
+   * 여러 브랜드명을 한 번에 조회 (캐시 미스는 쿼리 1회로 조회)
+   * 존재하지 않는 브랜드가 있으면 BRAND_NOT_FOUND
+   */
+  public Map<Long, String> getNames(Collection<Long> brandIds) {
+    Map<Long, String> names = new HashMap<>();
+    Set<Long> missing = new LinkedHashSet<>();
+    long now = clock.getAsLong();
+
+    synchronized (cache) {
+      for (Long brandId : brandIds) {
+        CachedName cached = cache.get(brandId);
+        if (cached != null && cached.expiresAt() > now) {
+          names.put(brandId, cached.name());
+        } else {
+          missing.add(brandId);
+        }
+      }
+    }
+
+    if (missing.isEmpty()) {
+      return names;
+    }
+
+    Map<Long, String> loaded = new HashMap<>();
+    for (Brand brand : brandRepository.findAllById(missing)) {
+      loaded.put(brand.getBrandId(), brand.getNameKo());
+    }
+    if (loaded.size() < missing.size()) {
+      throw new BusinessException(ErrorCode.BRAND_NOT_FOUND);
+    }
+
+    long expiresAt = clock.getAsLong() + ttlMillis;
+    synchronized (cache) {
+      loaded.forEach((brandId, name) -> cache.put(brandId, new CachedName(name, expiresAt)));
+    }
+    names.putAll(loaded);
+
+    log.debug("[BrandNameCache] 캐시 미스 {}건 조회 (요청 {}건)", missing.size(), brandIds.size());
+    return names;
+  }
+
+  public void evict(Long brandId) {
+    synchronized (cache) {
+      cache.remove(brandId);
+    }
+  }
+
+  public void clear() {
+    synchronized (cache) {
+      cache.clear();
+    }
+  }
+
+  public int size() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  private record CachedName(String name, long expiresAt) {
+  }
+}
@@ -37,6 +37,7 @@ public class BrandService {
   private final BrandRepository brandRepository;
   private final ChatRoomRepository chatRoomRepository;
   private final ProductRepository productRepository;
+  private final BrandNameCache brandNameCache;
 
   /**
    * 브랜드 생성
@@ -64,6 +65,9 @@ public class BrandService {
 
     chatRoomRepository.save(chatRoom);
 
+    // 정산 조회 등에서 사용하는 브랜드명 캐시 무효화
+    brandNameCache.evict(createdBrand.getBrandId());
+
     return convertToBrandResponse(brand);
   }
 
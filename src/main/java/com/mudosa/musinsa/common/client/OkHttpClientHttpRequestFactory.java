@@ -0,0 +1,127 @@
+package com.mudosa.musinsa.common.client;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.AbstractBufferingClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * RestTemplate가 공유 OkHttpClient(커넥션 풀, HTTP/2)를 사용하도록 연결하는 RequestFactory
+ * - 요청마다 HttpURLConnection을 새로 여는 SimpleClientHttpRequestFactory 대신 keep-alive 커넥션을 재사용한다.
+ */
+public class OkHttpClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    private final OkHttpClient client;
+
+    public OkHttpClientHttpRequestFactory(OkHttpClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+        return new OkHttpClientHttpRequest(client, uri, httpMethod);
+    }
+
+    private static final class OkHttpClientHttpRequest extends AbstractBufferingClientHttpRequest {
+
+        private final OkHttpClient client;
+        private final URI uri;
+        private final HttpMethod method;
+
+        private OkHttpClientHttpRequest(OkHttpClient client, URI uri, HttpMethod method) {
+            this.client = client;
+            this.uri = uri;
+            this.method = method;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        protected ClientHttpResponse executeInternal(HttpHeaders headers, byte[] content) throws IOException {
+            okhttp3.MediaType contentType = headers.getContentType() != null
+                    ? okhttp3.MediaType.parse(headers.getContentType().toString())
+                    : null;
+
+            RequestBody body = null;
+            if (content.length > 0 || method == HttpMethod.POST || method == HttpMethod.PUT || method == HttpMethod.PATCH) {
+                body = RequestBody.create(content, contentType);
+            }
+
+            Request.Builder builder = new Request.Builder()
+                    .url(uri.toString())
+                    .method(method.name(), body);
+
+            // Content-Length는 OkHttp가 body 기준으로 설정
+            headers.forEach((name, values) -> {
+                if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                    values.forEach(value -> builder.addHeader(name, value));
+                }
+            });
+
+            return new OkHttpClientHttpResponse(client.newCall(builder.build()).execute());
+        }
+    }
+
+    private static final class OkHttpClientHttpResponse implements ClientHttpResponse {
+
+        private final Response response;
+        private HttpHeaders headers;
+
+        private OkHttpClientHttpResponse(Response response) {
+            this.response = response;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatusCode.valueOf(response.code());
+        }
+
+        @Override
+        public String getStatusText() {
+            return response.message();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            if (headers == null) {
+                HttpHeaders converted = new HttpHeaders();
+                for (String name : response.headers().names()) {
+                    converted.put(name, response.headers(name));
+                }
+                headers = converted;
+            }
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            ResponseBody body = response.body();
+            return body != null ? body.byteStream() : InputStream.nullInputStream();
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.mudosa.musinsa.common.client;
+
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 호스트(route)별 동시 요청 수 제한 인터셉터
+ * - OkHttp Dispatcher의 호스트별 제한은 비동기 호출에만 적용되므로 동기 호출용으로 직접 제한한다.
+ * - 한도를 넘는 요청은 대기하며(pending), 대기 시간이 초과되면 SocketTimeoutException으로 실패한다.
+ * - 응답 본문까지 읽은 뒤 permit을 반환하므로 route당 커넥션 수가 한도를 넘지 않는다.
+ */
+public class RouteConcurrencyLimiter implements Interceptor {
+
+    private final int maxPerRoute;
+    private final long acquireTimeoutMillis;
+    private final ConcurrentHashMap<String, Semaphore> permits = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+
+    public RouteConcurrencyLimiter(int maxPerRoute, long acquireTimeoutMillis) {
+        this.maxPerRoute = maxPerRoute;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        HttpUrl url = chain.request().url();
+        String route = url.scheme() + "://" + url.host() + ":" + url.port();
+        Semaphore semaphore = permits.computeIfAbsent(route, k -> new Semaphore(maxPerRoute, true));
+
+        pending.incrementAndGet();
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("커넥션 대기 중 인터럽트 - route: " + route);
+        } finally {
+            pending.decrementAndGet();
+        }
+
+        if (!acquired) {
+            throw new SocketTimeoutException("커넥션 대기 시간 초과 - route: " + route);
+        }
+
+        active.incrementAndGet();
+        try {
+            // 결제 응답은 작은 JSON이므로 본문을 읽어 두고, 커넥션을 풀에 반환한 뒤 permit을 해제
+            Response response = chain.proceed(chain.request());
+            ResponseBody body = response.body();
+            if (body == null) {
+                return response;
+            }
+            MediaType contentType = body.contentType();
+            byte[] bytes = body.bytes();
+            return response.newBuilder()
+                .body(ResponseBody.create(bytes, contentType))
+                .build();
+        } finally {
+            active.decrementAndGet();
+            semaphore.release();
+        }
+    }
+
+    public int getPending() {
+        return pending.get();
+    }
+
+    public int getActive() {
+        return active.get();
+    }
+
+    public int getMaxPerRoute() {
+        return maxPerRoute;
+    }
+}
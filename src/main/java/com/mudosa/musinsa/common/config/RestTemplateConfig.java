@@ -1,6 +1,17 @@
 package com.mudosa.musinsa.common.config;
 
+import com.mudosa.musinsa.common.client.OkHttpClientHttpRequestFactory;
+import com.mudosa.musinsa.common.client.RouteConcurrencyLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,22 +19,88 @@ import org.springframework.web.client.RestTemplate;
 
 /**
  * RestTemplate 설정
+ * - 외부 API(토스페이먼츠 등) 호출은 커넥션 풀을 공유하는 OkHttpClient로 처리한다.
+ * - keep-alive로 TLS 핸드셰이크를 재사용하고, PG가 지원하면 ALPN으로 HTTP/2를 사용한다.
  */
+@Slf4j
 @Configuration
 public class RestTemplateConfig {
 
+	private static final String CLIENT_TAG = "payment";
+
+	@Value("${payment.http.connect-timeout-ms:5000}")
+	private long connectTimeoutMs;
+
+	@Value("${payment.http.read-timeout-ms:10000}")
+	private long readTimeoutMs;
+
+	@Value("${payment.http.max-connections-per-route:50}")
+	private int maxConnectionsPerRoute;
+
+	@Value("${payment.http.max-idle-connections:20}")
+	private int maxIdleConnections;
+
+	@Value("${payment.http.keep-alive-seconds:300}")
+	private long keepAliveSeconds;
+
+	@Value("${payment.http.http2-enabled:true}")
+	private boolean http2Enabled;
+
+	@Bean
+	public RouteConcurrencyLimiter paymentRouteLimiter() {
+		// 풀 대기 시간은 연결 타임아웃과 동일하게 제한
+		return new RouteConcurrencyLimiter(maxConnectionsPerRoute, connectTimeoutMs);
+	}
+
+	@Bean
+	public OkHttpClient paymentHttpClient(RouteConcurrencyLimiter paymentRouteLimiter, MeterRegistry meterRegistry) {
+		ConnectionPool connectionPool = new ConnectionPool(maxIdleConnections, keepAliveSeconds, TimeUnit.SECONDS);
+
+		OkHttpClient client = new OkHttpClient.Builder()
+				.connectionPool(connectionPool)
+				.protocols(http2Enabled ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1) : List.of(Protocol.HTTP_1_1))
+				.connectTimeout(Duration.ofMillis(connectTimeoutMs))
+				.readTimeout(Duration.ofMillis(readTimeoutMs))
+				.retryOnConnectionFailure(false) // 재시도는 @Retryable에서만 처리 (결제 중복 승인 방지)
+				.addInterceptor(paymentRouteLimiter)
+				.build();
+
+		Gauge.builder("http.client.pool.leased", connectionPool,
+						pool -> pool.connectionCount() - pool.idleConnectionCount())
+				.tag("client", CLIENT_TAG)
+				.description("사용 중인 커넥션 수")
+				.register(meterRegistry);
+		Gauge.builder("http.client.pool.idle", connectionPool, ConnectionPool::idleConnectionCount)
+				.tag("client", CLIENT_TAG)
+				.description("유휴 커넥션 수")
+				.register(meterRegistry);
+		Gauge.builder("http.client.pool.pending", paymentRouteLimiter, RouteConcurrencyLimiter::getPending)
+				.tag("client", CLIENT_TAG)
+				.description("커넥션 대기 중인 요청 수")
+				.register(meterRegistry);
+		Gauge.builder("http.client.pool.active", paymentRouteLimiter, RouteConcurrencyLimiter::getActive)
+				.tag("client", CLIENT_TAG)
+				.description("처리 중인 요청 수")
+				.register(meterRegistry);
+
+		log.info("[HttpClient] OkHttp 풀 초기화 - maxPerRoute: {}, maxIdle: {}, keepAlive: {}s, http2: {}",
+				maxConnectionsPerRoute, maxIdleConnections, keepAliveSeconds, http2Enabled);
+
+		return client;
+	}
+
 	/**
 	 * RestTemplate Bean 생성
 	 * 외부 API 호출 시 사용 (토스페이먼츠 등)
 	 *
 	 * @param builder RestTemplateBuilder
+	 * @param paymentHttpClient 커넥션 풀을 가진 OkHttpClient
 	 * @return RestTemplate
 	 */
 	@Bean
-	public RestTemplate restTemplate(RestTemplateBuilder builder) {
+	public RestTemplate restTemplate(RestTemplateBuilder builder, OkHttpClient paymentHttpClient) {
 		return builder
-				.setConnectTimeout(Duration.ofSeconds(5)) // 연결 타임아웃 5초
-				.setReadTimeout(Duration.ofSeconds(10)) // 읽기 타임아웃 10초
+				.requestFactory(() -> new OkHttpClientHttpRequestFactory(paymentHttpClient))
 				.build();
 	}
 }
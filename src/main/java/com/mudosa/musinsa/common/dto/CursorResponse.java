@@ -0,0 +1,33 @@
+package com.mudosa.musinsa.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "커서(키셋) 페이지네이션 응답 데이터 포맷")
+public class CursorResponse<T> {
+  @Schema(description = "현재 페이지의 데이터 목록")
+  private List<T> content;
+
+  @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "2025-03-03:1024")
+  private String nextCursor;
+
+  @Schema(description = "다음 페이지 존재 여부")
+  private boolean hasNext;
+
+  @Schema(description = "페이지당 데이터 수", example = "20")
+  private int size;
+
+  public static <T> CursorResponse<T> of(List<T> content, String nextCursor, int size) {
+    return CursorResponse.<T>builder()
+        .content(content)
+        .nextCursor(nextCursor)
+        .hasNext(nextCursor != null)
+        .size(size)
+        .build();
+  }
+}
@@ -0,0 +1,92 @@
+package com.mudosa.musinsa.common.vo;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 금액을 1/100원 단위(minor unit) long으로 계산하는 고정소수점 연산
+ * - Money(BigDecimal, scale 2, HALF_UP)와 동일한 반올림 결과를 내도록 맞춘다.
+ * - 정산 배치처럼 건마다 여러 번 곱셈/나눗셈/원 단위 반올림을 하는 구간에서 중간 객체 생성을 피하기 위해 사용한다.
+ * - long 범위를 넘는 곱셈은 BigDecimal 계산으로 대체한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FixedPointMoney {
+
+    public static final int SCALE = 2;
+
+    private static final long MINOR_PER_WON = 100L;
+
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+        1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+        10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L,
+        100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    public static long toMinor(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static long toMinor(Money money) {
+        return toMinor(money.getAmount());
+    }
+
+    public static BigDecimal toBigDecimal(long minor) {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+
+    // minor × rate 를 scale 2로 HALF_UP (Money.multiply(BigDecimal)과 동일)
+    public static long multiplyRate(long minor, BigDecimal rate) {
+        int rateScale = rate.scale();
+        if (rateScale < 0 || rateScale >= POWERS_OF_TEN.length || rate.precision() > 18) {
+            return toMinor(toBigDecimal(minor).multiply(rate));
+        }
+        return multiplyRate(minor, rate.unscaledValue().longValue(), rateScale);
+    }
+
+    // rate = rateUnscaled × 10^-rateScale
+    public static long multiplyRate(long minor, long rateUnscaled, int rateScale) {
+        try {
+            long product = Math.multiplyExact(minor, rateUnscaled);
+            return roundHalfUp(product, POWERS_OF_TEN[rateScale]);
+        } catch (ArithmeticException overflow) {
+            return toMinor(toBigDecimal(minor).multiply(BigDecimal.valueOf(rateUnscaled, rateScale)));
+        }
+    }
+
+    public static long multiply(long minor, long multiplier) {
+        return Math.multiplyExact(minor, multiplier);
+    }
+
+    // minor ÷ divisor 를 scale 2로 HALF_UP (Money.divide(long)과 동일)
+    public static long divide(long minor, long divisor) {
+        if (divisor == 0) {
+            throw new IllegalArgumentException("0으로 나눌 수 없습니다.");
+        }
+        if (divisor < 0) {
+            return roundHalfUp(-minor, -divisor);
+        }
+        return roundHalfUp(minor, divisor);
+    }
+
+    // 원 단위 HALF_UP 반올림 (Money.roundToWon()과 동일), 결과도 minor unit
+    public static long roundToWon(long minor) {
+        return roundHalfUp(minor, MINOR_PER_WON) * MINOR_PER_WON;
+    }
+
+    // HALF_UP: 0.5 이상은 0에서 먼 쪽으로 올림 (음수도 대칭)
+    static long roundHalfUp(long dividend, long divisor) {
+        if (dividend < 0) {
+            return -roundHalfUp(-dividend, divisor);
+        }
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder >= divisor - remainder) {
+            quotient++;
+        }
+        return quotient;
+    }
+}
@@ -29,6 +29,10 @@ public class Money {
     public static Money of(BigDecimal amount){return new Money(amount);}
     public static Money of(Long amount){return new Money(BigDecimal.valueOf(amount));}
 
+    public static Money ofMinor(long minor) {
+        return minor >= 0 ? new Money(FixedPointMoney.toBigDecimal(minor)) : signed(FixedPointMoney.toBigDecimal(minor));
+    }
+
     public Money(long amount) {
         this(BigDecimal.valueOf(amount));
     }
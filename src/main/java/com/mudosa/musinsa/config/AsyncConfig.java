@@ -1,8 +1,10 @@
 package com.mudosa.musinsa.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -20,4 +22,17 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    @Bean(name = "paymentConfirmExecutor")
+    public TaskExecutor paymentConfirmExecutor(
+            @Value("${payment.async-confirm.concurrency-limit:200}") int concurrencyLimit) {
+        // PG 응답 대기 동안 블로킹되는 작업이라 가상 스레드로 실행
+        // 한도 초과 시 요청 스레드를 붙잡지 않도록 대기 대신 TaskRejectedException (PaymentService가 503으로 응답)
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("payment-confirm-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setRejectTasksWhenLimitReached(true);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
 }
@@ -5,7 +5,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Scheduling 설정
- * - OutboxRelay의 @Scheduled 메서드 활성화
+ * - PaymentOutboxRelay, StockGate(재고 게이트 reconcile)의 @Scheduled 메서드 활성화
  */
 @Configuration
 @EnableScheduling
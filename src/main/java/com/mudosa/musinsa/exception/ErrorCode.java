@@ -36,6 +36,9 @@ public enum ErrorCode {
   INVALID_PAYMENT_STATUS("30006", "결제 상태가 유효하지 않습니다", HttpStatus.BAD_REQUEST),
   INVALID_PG_TRANSACTION_ID("30007", "결제 PG 트랜잭션 ID가 유효하지 않습니다", HttpStatus.BAD_REQUEST),
   INVALID_PAYMENT_METHOD("30008", "결제수단이 유효하지 않습니다", HttpStatus.BAD_REQUEST),
+  PAYMENT_IN_PROGRESS("30009", "이미 처리 중인 결제 요청입니다", HttpStatus.CONFLICT),
+  PAYMENT_PG_UNAVAILABLE("30010", "PG사 장애로 결제를 처리할 수 없습니다", HttpStatus.SERVICE_UNAVAILABLE),
+  PAYMENT_CONFIRM_BUSY("30011", "결제 승인 요청이 많습니다. 잠시 후 다시 시도해주세요", HttpStatus.SERVICE_UNAVAILABLE),
 
   //order
   ORDER_NOT_FOUND("40001", "존재하지 않는 주문입니다", HttpStatus.NOT_FOUND),
@@ -1,6 +1,8 @@
 package com.mudosa.musinsa.exception;
 
 import com.mudosa.musinsa.common.dto.ApiResponse;
+import com.mudosa.musinsa.order.application.InsufficientStockException;
+import com.mudosa.musinsa.order.application.dto.InsufficientStockItem;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -12,6 +14,8 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.List;
+
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -25,6 +29,17 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(response, errorCode.getHttpStatus());
   }
 
+  /* 재고 부족 예외 처리 (부족한 옵션 목록을 data로 응답) */
+  @ExceptionHandler(InsufficientStockException.class)
+  public ResponseEntity<ApiResponse<List<InsufficientStockItem>>> handleInsufficientStock(
+      InsufficientStockException e) {
+    ErrorCode errorCode = e.getErrorCode();
+    log.warn("재고 부족: {} - {}", errorCode.getCode(), e.getMessage());
+    ApiResponse<List<InsufficientStockItem>> response =
+        ApiResponse.failure(errorCode.getCode(), e.getMessage(), e.getInsufficientItems());
+    return new ResponseEntity<>(response, errorCode.getHttpStatus());
+  }
+
   /* 유효성 검사 예외 처리 */
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ApiResponse<Void>> handleValidationException(
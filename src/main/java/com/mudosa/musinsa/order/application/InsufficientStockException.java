@@ -0,0 +1,21 @@
+package com.mudosa.musinsa.order.application;
+
+import com.mudosa.musinsa.exception.BusinessException;
+import com.mudosa.musinsa.exception.ErrorCode;
+import com.mudosa.musinsa.order.application.dto.InsufficientStockItem;
+import lombok.Getter;
+
+import java.util.List;
+
+/* 재고 차감 시점에 재고가 부족한 옵션 목록을 담는 예외 */
+@Getter
+public class InsufficientStockException extends BusinessException {
+
+    private final List<InsufficientStockItem> insufficientItems;
+
+    public InsufficientStockException(List<InsufficientStockItem> insufficientItems) {
+        super(ErrorCode.ORDER_INSUFFICIENT_STOCK,
+                String.format("재고가 부족한 상품이 있습니다 - %d건", insufficientItems.size()));
+        this.insufficientItems = insufficientItems;
+    }
+}
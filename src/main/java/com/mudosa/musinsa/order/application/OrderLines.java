@@ -0,0 +1,37 @@
+package com.mudosa.musinsa.order.application;
+
+import com.mudosa.musinsa.order.application.dto.OrderCreateItem;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 주문 요청 → 주문 상품 조립 보조
+ * - 같은 옵션이 여러 번 오면 수량을 합쳐 한 줄로 만들고, 처음 나온 순서를 유지한다.
+ * - 조회한 옵션은 ID로 미리 색인해 요청 수와 무관하게 옵션당 O(1)로 찾는다.
+ */
+final class OrderLines {
+
+    private OrderLines() {
+    }
+
+    static Map<Long, Integer> mergeQuantities(List<OrderCreateItem> items) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>(items.size() * 2);
+        for (OrderCreateItem item : items) {
+            quantities.merge(item.getProductOptionId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    static <T> Map<Long, T> indexById(Collection<T> options, Function<T, Long> idOf) {
+        Map<Long, T> index = new HashMap<>(options.size() * 2);
+        for (T option : options) {
+            index.put(idOf.apply(option), option);
+        }
+        return index;
+    }
+}
@@ -8,17 +8,13 @@ import com.mudosa.musinsa.order.domain.model.OrderProduct;
 import com.mudosa.musinsa.order.domain.model.Orders;
 import com.mudosa.musinsa.order.domain.model.StockValidationResult;
 import com.mudosa.musinsa.order.domain.repository.OrderRepository;
+import com.mudosa.musinsa.order.domain.service.OrderNumberGenerator;
 import com.mudosa.musinsa.payment.application.dto.OrderValidationResult;
 import com.mudosa.musinsa.payment.application.dto.PaymentDetailDto;
 import com.mudosa.musinsa.payment.application.service.PaymentFetchService;
 import com.mudosa.musinsa.product.application.CartService;
-import com.mudosa.musinsa.product.domain.model.Image;
-import com.mudosa.musinsa.product.domain.model.Product;
 import com.mudosa.musinsa.product.domain.model.ProductOption;
-import com.mudosa.musinsa.product.domain.model.ProductOptionValue;
-import com.mudosa.musinsa.product.domain.repository.ImageRepository;
 import com.mudosa.musinsa.product.domain.repository.ProductOptionRepository;
-import com.mudosa.musinsa.product.domain.repository.ProductOptionValueRepository;
 import com.mudosa.musinsa.user.domain.model.User;
 import com.mudosa.musinsa.user.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -29,10 +25,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -45,8 +39,10 @@ public class OrderService {
     private final ProductOptionRepository productOptionRepository;
     private final UserRepository userRepository;
     private final PaymentFetchService paymentService;
-    private final ProductOptionValueRepository productOptionValueRepository;
-    private final ImageRepository imageRepository;
+    private final OrderStockReservation stockReservation;
+    private final StockGate stockGate;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final ProductOptionDisplayCache productOptionDisplayCache;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void completeOrder(Long orderId) {
@@ -65,8 +61,8 @@ public class OrderService {
         log.info("주문 검증 완료 - orderId: {}, orderProducts: {}",
                 orderId, orders.getOrderProducts().size());
 
-        /* 재고 차감 */
-        orders.decreaseStock();
+        /* 재고 차감 (조건부 UPDATE, 부족하면 InsufficientStockException으로 트랜잭션 롤백) */
+        stockReservation.reserve(orders);
         log.info("재고 차감 완료 - orderId: {}", orderId);
 
         /* 주문 상태 변경 */
@@ -126,8 +122,11 @@ public class OrderService {
         Orders orders = orderRepository.findById(orderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
 
-        orders.restoreStock();
-        log.info("재고 복구 완료 - orderId: {}", orderId);
+        /* 완료된 주문만 차감된 재고가 있으므로 복구 (중복 롤백 시 재고가 늘어나지 않도록) */
+        if (orders.getStatus().isCompleted()) {
+            stockReservation.release(orders);
+            log.info("재고 복구 완료 - orderId: {}", orderId);
+        }
 
         /* 주문 상태 복구 */
         orders.rollback();
@@ -264,22 +263,29 @@ public class OrderService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        /* 2. 상품 옵션 조회 */
-        List<Long> productOptionIds = request.getItems().stream()
-                .map(OrderCreateItem::getProductOptionId)
-                .toList();
+        /* 2. 상품 옵션 조회 (같은 옵션은 수량을 합쳐 한 줄로) */
+        Map<Long, Integer> quantities = OrderLines.mergeQuantities(request.getItems());
+        List<Long> productOptionIds = List.copyOf(quantities.keySet());
+
+        /* 3. 재고 게이트: 품절 옵션이면 상품/재고 조회 전에 거절 (게이트 비활성화 시 통과) */
+        List<InsufficientStockItem> soldOut = stockGate.findInsufficient(quantities);
+        if (!soldOut.isEmpty()) {
+            log.info("재고 게이트에서 거절 - userId: {}, 품절 옵션 수: {}", userId, soldOut.size());
+            return OrderCreateResponse.insufficientStock(soldOut);
+        }
 
         List<ProductOption> productOptions = productOptionRepository.findAllByIdWithInventory(productOptionIds);
 
         /* 4. 주문 생성 */
         Orders order = Orders.create(
                 user,  // User 엔티티 전달
-                request.getCouponId()
+                request.getCouponId(),
+                orderNumberGenerator.generate()
         );
 
         /* 5. 주문 아이템 생성 */
         List<OrderProduct> orderProducts = createOrderProducts(
-                request.getItems(),
+                quantities,
                 productOptions,
                 userId
         );
@@ -328,23 +334,24 @@ public class OrderService {
 //    }
 
     private List<OrderProduct> createOrderProducts(
-            List<OrderCreateItem> items,
+            Map<Long, Integer> quantities,
             List<ProductOption> productOptions,
             Long userId) {
 
-        List<OrderProduct> orderProducts = new ArrayList<>();
+        Map<Long, ProductOption> optionsById = OrderLines.indexById(productOptions, ProductOption::getProductOptionId);
+        List<OrderProduct> orderProducts = new ArrayList<>(quantities.size());
 
-        for (OrderCreateItem item : items) {
-            ProductOption productOption = productOptions.stream()
-                    .filter(po -> po.getProductOptionId().equals(item.getProductOptionId()))
-                    .findFirst()
-                    .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_OPTION_NOT_FOUND));
+        for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+            ProductOption productOption = optionsById.get(line.getKey());
+            if (productOption == null) {
+                throw new BusinessException(ErrorCode.PRODUCT_OPTION_NOT_FOUND);
+            }
 
             OrderProduct orderProduct = OrderProduct.create(
                     userId,
                     productOption,
                     productOption.getProductPrice().getAmount(),
-                    item.getQuantity(),
+                    line.getValue(),
                     null,  // event
                     null,  // eventOption
                     null   // limitScope
@@ -360,79 +367,32 @@ public class OrderService {
     public PendingOrderResponse fetchPendingOrder(String orderNo) {
         log.info("[Order] 주문서 조회 시작 - orderNo: {}", orderNo);
 
-        /* 주문 조회(user, orderProducts, productOption, product 까지)*/
-        Orders orders = orderRepository.findOrderWithDetails(orderNo)
+        /* 주문 조회(user, orderProducts 까지, 상품 표시 정보는 캐시에서) */
+        Orders orders = orderRepository.findByOrderNoWithUserAndOrderProducts(orderNo)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
 
         /* 주문 상태 확인 */
         orders.validatePending();
 
-        List<Long> productOptionIds = orders.getOrderProducts().stream()
-                .map(op -> op.getProductOption().getProductOptionId())
-                .toList();
-
-        List<Long> productIds = orders.getOrderProducts().stream()
-                .map(op -> op.getProductOption().getProduct().getProductId())
-                .distinct()
-                .toList();
-
-        List<ProductOptionValue> allOptionValues =
-                productOptionValueRepository.findAllByProductOptionIdsWithOptionValue(productOptionIds);
-
-        Map<Long, List<ProductOptionValue>> optionValueMap = allOptionValues.stream()
-                .collect(Collectors.groupingBy(
-                        pov -> pov.getProductOption().getProductOptionId()
-                ));
-
-        List<Image> thumbnailImages =
-                imageRepository.findThumbnailsByProductIds(productIds);
-
-        Map<Long, String> imageUrlMap = thumbnailImages.stream()
-                .collect(Collectors.toMap(
-                        img -> img.getProduct().getProductId(),
-                        Image::getImageUrl,
-                        (existing, replacement) -> existing
-                ));
-
         User orderUser = orders.getUser();
         log.info("[Order] 사용자 정보 조회 완료 - userId: {}, userName: {}",
                 orderUser.getId(), orderUser.getUserName());
 
+        Map<Long, ProductOptionDisplayCache.Display> displays = findDisplays(orders);
+
         List<PendingOrderItem> orderProducts = orders.getOrderProducts().stream()
                 .map(op -> {
-                    ProductOption productOption = op.getProductOption();
-                    Product product = productOption.getProduct();
-
-                    //TODO: 상품 옵션값들을 DB에서 계속 조회할 이유가 잇을까? 캐싱하면 어떨까?
-
-                    // Map에서 옵션 값 조회
-                    List<ProductOptionValue> optionValues =
-                            optionValueMap.getOrDefault(productOption.getProductOptionId(), Collections.emptyList());
-
-                    String sizeValue = optionValues.stream()
-                            .filter(pov -> "SIZE".equals(pov.getOptionValue().getOptionName()))
-                            .map(pov -> pov.getOptionValue().getOptionValue())
-                            .findFirst()
-                            .orElse("");
-
-                    String colorValue = optionValues.stream()
-                            .filter(pov -> "COLOR".equals(pov.getOptionValue().getOptionName()))
-                            .map(pov -> pov.getOptionValue().getOptionValue())
-                            .findFirst()
-                            .orElse("");
-
-                    // Map에서 이미지 URL 조회
-                    String imageUrl = imageUrlMap.getOrDefault(product.getProductId(), "");
+                    ProductOptionDisplayCache.Display display = displays.get(op.getProductOptionId());
 
                     return PendingOrderItem.builder()
                             .productOptionId(op.getProductOptionId())
-                            .productOptionName(product.getProductName())
+                            .productOptionName(display.productName())
                             .amount(op.getProductPrice())
                             .quantity(op.getProductQuantity())
-                            .brandName(product.getBrandName())
-                            .size(sizeValue)
-                            .color(colorValue)
-                            .imageUrl(imageUrl)
+                            .brandName(display.brandName())
+                            .size(display.size())
+                            .color(display.color())
+                            .imageUrl(display.thumbnailUrl())
                             .build();
                 })
                 .toList();
@@ -461,7 +421,7 @@ public class OrderService {
     public OrderDetailResponse fetchOrderDetail(String orderNo) {
         log.info("[Order] 주문 상세 조회 시작 - orderNo: {}", orderNo);
 
-        Orders orders = orderRepository.findByOrderNoWithUserAndProducts(orderNo)
+        Orders orders = orderRepository.findByOrderNoWithUserAndOrderProducts(orderNo)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
 
         User orderUser = orders.getUser();
@@ -469,42 +429,22 @@ public class OrderService {
 
 
         // 주문 상품 변환
+        Map<Long, ProductOptionDisplayCache.Display> displays = findDisplays(orders);
+
         List<OrderDetailItem> orderProducts = orders.getOrderProducts()
                 .stream()
                 .map(op -> {
-                    ProductOption productOption = op.getProductOption();
-                    List<ProductOptionValue> optionValues = productOption.getProductOptionValues();
-
-                    // SIZE 옵션 추출
-                    String sizeValue = optionValues.stream()
-                            .filter(pov -> "SIZE".equals(pov.getOptionValue().getOptionName()))
-                            .map(pov -> pov.getOptionValue().getOptionValue())
-                            .findFirst()
-                            .orElse("");
-
-                    // COLOR 옵션 추출
-                    String colorValue = optionValues.stream()
-                            .filter(pov -> "COLOR".equals(pov.getOptionValue().getOptionName()))
-                            .map(pov -> pov.getOptionValue().getOptionValue())
-                            .findFirst()
-                            .orElse("");
-
-                    // imageUrl
-                    String imageUrl = op.getProductOption().getProduct().getImages().stream()
-                            .filter(image -> image.getIsThumbnail())
-                            .map(i -> i.getImageUrl())
-                            .findFirst()
-                            .orElse("");
+                    ProductOptionDisplayCache.Display display = displays.get(op.getProductOptionId());
 
                     return OrderDetailItem.builder()
                             .productOptionId(op.getProductOptionId())
-                            .productOptionName(productOption.getProduct().getProductName())
+                            .productOptionName(display.productName())
                             .amount(op.getProductPrice())
                             .quantity(op.getProductQuantity())
-                            .brandName(productOption.getProduct().getBrand().getNameKo())
-                            .size(sizeValue)
-                            .color(colorValue)
-                            .imageUrl(imageUrl)
+                            .brandName(display.brandName())
+                            .size(display.size())
+                            .color(display.color())
+                            .imageUrl(display.thumbnailUrl())
                             .build();
                 })
                 .toList();
@@ -542,5 +482,11 @@ public class OrderService {
         return response;
     }
 
-
+    /* 주문 상품의 표시 정보(상품명, 브랜드, SIZE/COLOR, 썸네일) 조회 - productOption 프록시는 ID만 사용해 초기화하지 않는다 */
+    private Map<Long, ProductOptionDisplayCache.Display> findDisplays(Orders orders) {
+        List<Long> productOptionIds = orders.getOrderProducts().stream()
+                .map(OrderProduct::getProductOptionId)
+                .toList();
+        return productOptionDisplayCache.getAll(productOptionIds);
+    }
 }
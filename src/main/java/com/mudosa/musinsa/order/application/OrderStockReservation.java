@@ -0,0 +1,76 @@
+package com.mudosa.musinsa.order.application;
+
+import com.mudosa.musinsa.order.application.dto.InsufficientStockItem;
+import com.mudosa.musinsa.order.domain.model.Orders;
+import com.mudosa.musinsa.product.infrastructure.JdbcInventoryStockRepository;
+import com.mudosa.musinsa.product.infrastructure.JdbcInventoryStockRepository.StockChange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 재고 차감/복구
+ * - 옵션마다 조건부 UPDATE(재고 >= 수량) 한 문장을 옵션 ID 오름차순으로 한 번에 보낸다.
+ * - 영향 행이 0인 옵션은 재고 부족으로 모아 InsufficientStockException을 던지고,
+ *   호출 측 트랜잭션이 롤백되면서 먼저 차감된 옵션도 함께 취소된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStockReservation {
+
+    private final JdbcInventoryStockRepository stockRepository;
+    private final StockGate stockGate;
+
+    public void reserve(Orders orders) {
+        // 게이트에서 품절로 판정되면 DB UPDATE 없이 거절 (게이트 차감은 트랜잭션 롤백 시 되돌려짐)
+        List<InsufficientStockItem> rejected = stockGate.tryAcquire(orders.getQuantitiesByProductOption());
+        if (!rejected.isEmpty()) {
+            log.info("[Stock] 재고 게이트에서 거절 - orderId: {}, productOptionId: {}",
+                    orders.getId(), rejected.get(0).getProductOptionId());
+            throw new InsufficientStockException(rejected);
+        }
+
+        List<StockChange> changes = toChanges(orders);
+        int[] updated = stockRepository.decrease(changes);
+
+        List<StockChange> insufficient = new ArrayList<>();
+        for (int i = 0; i < changes.size(); i++) {
+            if (updated[i] == 0) {
+                insufficient.add(changes.get(i));
+            }
+        }
+        if (insufficient.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Integer> available = stockRepository.findStockQuantities(
+                insufficient.stream().map(StockChange::productOptionId).toList());
+        List<InsufficientStockItem> items = insufficient.stream()
+                .map(change -> new InsufficientStockItem(
+                        change.productOptionId(),
+                        change.quantity(),
+                        available.getOrDefault(change.productOptionId(), 0)))
+                .toList();
+
+        log.warn("[Stock] 재고 부족으로 차감 실패 - orderId: {}, 부족 옵션: {}/{}건",
+                orders.getId(), items.size(), changes.size());
+        throw new InsufficientStockException(items);
+    }
+
+    public void release(Orders orders) {
+        stockRepository.increase(toChanges(orders));
+        stockGate.release(orders.getQuantitiesByProductOption());
+    }
+
+    private List<StockChange> toChanges(Orders orders) {
+        List<StockChange> changes = new ArrayList<>();
+        orders.getQuantitiesByProductOption()
+                .forEach((productOptionId, quantity) -> changes.add(new StockChange(productOptionId, quantity)));
+        return changes;
+    }
+}
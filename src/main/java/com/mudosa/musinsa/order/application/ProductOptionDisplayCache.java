@@ -0,0 +1,211 @@
+package com.mudosa.musinsa.order.application;
+
+import com.mudosa.musinsa.exception.BusinessException;
+import com.mudosa.musinsa.exception.ErrorCode;
+import com.mudosa.musinsa.product.domain.repository.ProductOptionDisplayRepository;
+import com.mudosa.musinsa.product.domain.repository.ProductOptionDisplayRow;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 상품 옵션 ID → 주문 화면 표시 정보 캐시 (프로세스 내 LRU + TTL)
+ * - 주문서/주문 상세 조회마다 옵션값, 썸네일을 다시 읽지 않도록 SIZE, COLOR, 썸네일, 상품명, 브랜드명을 묶어 둔다.
+ * - 캐시에 없는 옵션은 findDisplayRows 한 번으로 모아서 조회하고, 모두 캐시에 있으면 상품 쿼리가 나가지 않는다.
+ * - 상품/옵션이 변경되면 evict로 무효화하고, 놓친 변경은 ttl이 지나면 반영된다.
+ */
+@Slf4j
+@Component
+public class ProductOptionDisplayCache {
+
+    static final String SIZE = "SIZE";
+    static final String COLOR = "COLOR";
+
+    public record Display(
+            String productName,
+            String brandName,
+            String size,
+            String color,
+            String thumbnailUrl
+    ) {
+    }
+
+    private final ProductOptionDisplayRepository displayRepository;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<Long, CachedDisplay> cache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ProductOptionDisplayCache(
+            ProductOptionDisplayRepository displayRepository,
+            MeterRegistry meterRegistry,
+            @Value("${order.option-display-cache.max-size:10000}") int maxSize,
+            @Value("${order.option-display-cache.ttl-seconds:600}") long ttlSeconds) {
+        this(displayRepository, maxSize, ttlSeconds * 1000, System::currentTimeMillis);
+        registerMetrics(meterRegistry);
+    }
+
+    ProductOptionDisplayCache(ProductOptionDisplayRepository displayRepository, int maxSize, long ttlMillis, LongSupplier clock) {
+        this.displayRepository = displayRepository;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedDisplay> eldest) {
+                return size() > ProductOptionDisplayCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 여러 옵션의 표시 정보를 한 번에 조회 (캐시 미스는 쿼리 1회로 조회)
+     * 존재하지 않는 옵션이 있으면 PRODUCT_OPTION_NOT_FOUND
+     */
+    public Map<Long, Display> getAll(Collection<Long> productOptionIds) {
+        Map<Long, Display> displays = new HashMap<>(productOptionIds.size() * 2);
+        Set<Long> missing = new LinkedHashSet<>();
+        long now = clock.getAsLong();
+
+        synchronized (cache) {
+            for (Long productOptionId : productOptionIds) {
+                if (displays.containsKey(productOptionId)) {
+                    continue;
+                }
+                CachedDisplay cached = cache.get(productOptionId);
+                if (cached != null && cached.expiresAt() > now) {
+                    displays.put(productOptionId, cached.display());
+                } else {
+                    missing.add(productOptionId);
+                }
+            }
+        }
+        hits.addAndGet(displays.size());
+
+        if (missing.isEmpty()) {
+            return displays;
+        }
+        misses.addAndGet(missing.size());
+
+        Map<Long, Display> loaded = load(missing);
+        if (loaded.size() < missing.size()) {
+            throw new BusinessException(ErrorCode.PRODUCT_OPTION_NOT_FOUND);
+        }
+
+        long expiresAt = clock.getAsLong() + ttlMillis;
+        synchronized (cache) {
+            loaded.forEach((productOptionId, display) -> cache.put(productOptionId, new CachedDisplay(display, expiresAt)));
+        }
+        displays.putAll(loaded);
+
+        log.debug("[ProductOptionDisplayCache] 캐시 미스 {}건 조회 (요청 {}건)", missing.size(), productOptionIds.size());
+        return displays;
+    }
+
+    public void evict(Collection<Long> productOptionIds) {
+        synchronized (cache) {
+            productOptionIds.forEach(cache::remove);
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    /*
+     * 옵션값 × 썸네일 조합으로 나온 행을 옵션별로 접는다
+     * 같은 옵션명이 여러 개면 먼저 나온 값, 썸네일이 여러 장이면 먼저 나온 URL을 쓴다 (없으면 "")
+     */
+    private Map<Long, Display> load(Set<Long> productOptionIds) {
+        Map<Long, DisplayBuilder> builders = new LinkedHashMap<>();
+        for (ProductOptionDisplayRow row : displayRepository.findDisplayRows(productOptionIds)) {
+            DisplayBuilder builder = builders.computeIfAbsent(row.productOptionId(),
+                    id -> new DisplayBuilder(row.productName(), row.brandName()));
+            if (SIZE.equals(row.optionName()) && builder.size == null) {
+                builder.size = row.optionValue();
+            } else if (COLOR.equals(row.optionName()) && builder.color == null) {
+                builder.color = row.optionValue();
+            }
+            if (builder.thumbnailUrl == null) {
+                builder.thumbnailUrl = row.thumbnailUrl();
+            }
+        }
+
+        Map<Long, Display> loaded = new HashMap<>(builders.size() * 2);
+        builders.forEach((productOptionId, builder) -> loaded.put(productOptionId, builder.build()));
+        return loaded;
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("order.option.display.cache", hits, AtomicLong::get)
+                .description("주문 화면 옵션 표시 정보 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+
+        FunctionCounter.builder("order.option.display.cache", misses, AtomicLong::get)
+                .description("주문 화면 옵션 표시 정보 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        Gauge.builder("order.option.display.cache.size", this, ProductOptionDisplayCache::size)
+                .description("주문 화면 옵션 표시 정보 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    private record CachedDisplay(Display display, long expiresAt) {
+    }
+
+    private static final class DisplayBuilder {
+
+        private final String productName;
+        private final String brandName;
+        private String size;
+        private String color;
+        private String thumbnailUrl;
+
+        private DisplayBuilder(String productName, String brandName) {
+            this.productName = productName;
+            this.brandName = brandName;
+        }
+
+        private Display build() {
+            return new Display(
+                    productName,
+                    brandName,
+                    size != null ? size : "",
+                    color != null ? color : "",
+                    thumbnailUrl != null ? thumbnailUrl : "");
+        }
+    }
+}
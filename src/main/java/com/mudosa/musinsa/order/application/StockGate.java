@@ -0,0 +1,279 @@
+package com.mudosa.musinsa.order.application;
+
+import com.mudosa.musinsa.order.application.dto.InsufficientStockItem;
+import com.mudosa.musinsa.product.infrastructure.JdbcInventoryStockRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인기 옵션 재고 게이트 (Redis)
+ * - 등록된 옵션마다 Redis에 재고 카운터를 두고, 품절된 옵션 요청을 MySQL 조회/UPDATE 전에 거절한다.
+ * - MySQL 재고가 원본이며 게이트는 부하만 덜어낸다: 카운터가 없거나 Redis 장애면 그대로 DB로 보낸다.
+ * - 카운터는 inventory에서 채우고(warm), reconcile-interval마다 DB 값으로 다시 맞춘다.
+ * - 차감은 Lua 스크립트로 주문의 모든 옵션을 한 번에 확인 후 차감하고, 트랜잭션이 롤백되면 되돌린다.
+ */
+@Slf4j
+@Component
+public class StockGate {
+
+    private static final String KEY_PREFIX = "stock:gate:";
+    private static final String TRACKED_KEY = "stock:gate:tracked";
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    /*
+     * KEYS: 옵션별 카운터, ARGV: 옵션별 수량
+     * 카운터가 있는 옵션 중 하나라도 수량보다 적으면 {순번, 남은 재고}를 반환하고 아무것도 차감하지 않는다.
+     */
+    private static final RedisScript<List> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do
+                local stock = redis.call('GET', KEYS[i])
+                if stock and tonumber(stock) < tonumber(ARGV[i]) then
+                    return {i, tonumber(stock)}
+                end
+            end
+            for i = 1, #KEYS do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('DECRBY', KEYS[i], ARGV[i])
+                end
+            end
+            return {0, 0}
+            """, List.class);
+
+    // 카운터가 있는 옵션만 되돌린다 (reconcile로 지워진 키를 새로 만들지 않도록)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('INCRBY', KEYS[i], ARGV[i])
+                end
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcInventoryStockRepository stockRepository;
+    private final List<Long> warmOptionIds;
+    private final Counter rejectedCounter;
+    private final Counter passedCounter;
+
+    private volatile boolean enabled;
+
+    public StockGate(
+            StringRedisTemplate redisTemplate,
+            JdbcInventoryStockRepository stockRepository,
+            MeterRegistry meterRegistry,
+            @Value("${order.stock-gate.enabled:false}") boolean enabled,
+            @Value("${order.stock-gate.option-ids:}") List<Long> warmOptionIds) {
+        this.redisTemplate = redisTemplate;
+        this.stockRepository = stockRepository;
+        this.enabled = enabled;
+        this.warmOptionIds = warmOptionIds;
+        this.rejectedCounter = Counter.builder("order.stock.gate")
+                .description("재고 게이트 판정 수")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.passedCounter = Counter.builder("order.stock.gate")
+                .description("재고 게이트 판정 수")
+                .tag("result", "passed")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 차감 없이 품절 여부만 확인 (주문 생성 단계)
+     * 게이트 카운터가 요청 수량보다 적은 옵션을 반환한다.
+     */
+    public List<InsufficientStockItem> findInsufficient(Map<Long, Integer> quantities) {
+        if (!enabled || quantities.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> optionIds = new ArrayList<>(quantities.keySet());
+        List<String> stocks;
+        try {
+            stocks = redisTemplate.opsForValue().multiGet(keys(optionIds));
+        } catch (DataAccessException e) {
+            log.warn("[StockGate] Redis 사용 불가, 게이트 없이 진행", e);
+            return List.of();
+        }
+        if (stocks == null) {
+            return List.of();
+        }
+
+        List<InsufficientStockItem> insufficient = new ArrayList<>();
+        for (int i = 0; i < optionIds.size(); i++) {
+            if (stocks.get(i) == null) {
+                continue;
+            }
+            Long optionId = optionIds.get(i);
+            int stock = Integer.parseInt(stocks.get(i));
+            if (stock < quantities.get(optionId)) {
+                insufficient.add(new InsufficientStockItem(optionId, quantities.get(optionId), Math.max(0, stock)));
+            }
+        }
+        record(insufficient.isEmpty());
+        return insufficient;
+    }
+
+    /**
+     * 게이트 카운터 차감 (주문 완료 단계)
+     * - 모든 옵션이 통과하면 차감하고 빈 목록을 반환, 하나라도 부족하면 차감 없이 그 옵션을 반환한다.
+     * - 트랜잭션 안에서 호출되면 롤백 시 차감을 되돌린다.
+     */
+    public List<InsufficientStockItem> tryAcquire(Map<Long, Integer> quantities) {
+        if (!enabled || quantities.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> optionIds = new ArrayList<>(quantities.keySet());
+        List<?> result;
+        try {
+            result = redisTemplate.execute(ACQUIRE_SCRIPT, keys(optionIds), quantityArgs(optionIds, quantities));
+        } catch (DataAccessException e) {
+            log.warn("[StockGate] Redis 사용 불가, 게이트 없이 진행", e);
+            return List.of();
+        }
+
+        int rejectedIndex = result == null ? 0 : ((Number) result.get(0)).intValue();
+        if (rejectedIndex > 0) {
+            Long optionId = optionIds.get(rejectedIndex - 1);
+            int available = Math.max(0, ((Number) result.get(1)).intValue());
+            record(false);
+            return List.of(new InsufficientStockItem(optionId, quantities.get(optionId), available));
+        }
+
+        record(true);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release(quantities);
+                    }
+                }
+            });
+        }
+        return List.of();
+    }
+
+    /**
+     * 게이트 카운터 복구 (주문 롤백 단계)
+     */
+    public void release(Map<Long, Integer> quantities) {
+        if (!enabled || quantities.isEmpty()) {
+            return;
+        }
+
+        List<Long> optionIds = new ArrayList<>(quantities.keySet());
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, keys(optionIds), quantityArgs(optionIds, quantities));
+        } catch (DataAccessException e) {
+            // 다음 reconcile에서 DB 값으로 맞춰진다
+            log.warn("[StockGate] 카운터 복구 실패 - optionIds: {}", optionIds, e);
+        }
+    }
+
+    /**
+     * 옵션을 게이트에 등록하고 DB 재고로 카운터를 채운다
+     */
+    public void warm(Collection<Long> optionIds) {
+        if (optionIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(TRACKED_KEY, optionIds.stream().map(String::valueOf).toArray(String[]::new));
+        refresh(new ArrayList<>(optionIds));
+        log.info("[StockGate] 옵션 {}건 등록", optionIds.size());
+    }
+
+    public void untrack(Collection<Long> optionIds) {
+        if (optionIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().remove(TRACKED_KEY, optionIds.stream().map(String::valueOf).toArray());
+        redisTemplate.delete(keys(new ArrayList<>(optionIds)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmOnStartup() {
+        if (!enabled || warmOptionIds.isEmpty()) {
+            return;
+        }
+        try {
+            warm(warmOptionIds);
+        } catch (DataAccessException e) {
+            log.warn("[StockGate] 시작 시 카운터 적재 실패, reconcile에서 다시 시도", e);
+        }
+    }
+
+    /**
+     * 등록된 옵션의 카운터를 DB 재고로 다시 맞춘다
+     * (진행 중인 주문의 차감이 덮여도 DB가 원본이므로 게이트가 느슨해질 뿐이다)
+     */
+    @Scheduled(fixedDelayString = "${order.stock-gate.reconcile-interval-ms:10000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Set<String> tracked = redisTemplate.opsForSet().members(TRACKED_KEY);
+            if (tracked == null || tracked.isEmpty()) {
+                return;
+            }
+
+            List<Long> optionIds = tracked.stream().map(Long::valueOf).toList();
+            for (int from = 0; from < optionIds.size(); from += RECONCILE_BATCH_SIZE) {
+                refresh(optionIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, optionIds.size())));
+            }
+            log.debug("[StockGate] reconcile 완료 - 옵션 {}건", optionIds.size());
+        } catch (DataAccessException e) {
+            log.warn("[StockGate] reconcile 실패", e);
+        }
+    }
+
+    private void refresh(List<Long> optionIds) {
+        Map<Long, Integer> stocks = stockRepository.findStockQuantities(optionIds);
+        Map<String, String> values = new HashMap<>(stocks.size() * 2);
+        stocks.forEach((optionId, stock) -> values.put(KEY_PREFIX + optionId, String.valueOf(stock)));
+        if (!values.isEmpty()) {
+            redisTemplate.opsForValue().multiSet(values);
+        }
+    }
+
+    private void record(boolean passed) {
+        (passed ? passedCounter : rejectedCounter).increment();
+    }
+
+    private static List<String> keys(List<Long> optionIds) {
+        return optionIds.stream().map(optionId -> KEY_PREFIX + optionId).toList();
+    }
+
+    private static Object[] quantityArgs(List<Long> optionIds, Map<Long, Integer> quantities) {
+        return optionIds.stream().map(optionId -> String.valueOf(quantities.get(optionId))).toArray();
+    }
+}
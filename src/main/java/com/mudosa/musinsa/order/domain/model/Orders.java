@@ -14,6 +14,8 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /* Order가 Order 도메인의 Aggregate Root이다.
 * 앞으로 OrderProduct랑 대화는 Order에서 한다. */
@@ -61,7 +63,8 @@ public class Orders extends BaseEntity {
     /* 주문 생성 */
     public static Orders create(
             User user,
-            Long couponId
+            Long couponId,
+            String orderNo
             ) {
 
         if (user == null) {
@@ -73,8 +76,8 @@ public class Orders extends BaseEntity {
         order.status = OrderStatus.PENDING;
         order.couponId = couponId;
 
-        /* order 무작위 번호 생성 */
-        order.orderNo = createOrderNumber();
+        /* 주문 번호 (OrderNumberGenerator에서 발급) */
+        order.orderNo = orderNo;
         return order;
     }
 
@@ -84,17 +87,11 @@ public class Orders extends BaseEntity {
             throw new BusinessException(ErrorCode.ORDER_ITEM_NOT_FOUND);
         }
 
-        this.totalPrice = this.orderProducts.stream()
-                .map(OrderProduct::calculatePrice)  // 각 상품의 금액 계산
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-
-    /* 주문 번호 생성 */
-    private static String createOrderNumber(){
-        // 주문번호 형식: ORD + timestamp(13자리) + random(3자리)
-        long timestamp = System.currentTimeMillis();
-        int random = (int)(Math.random() * 1000);
-        return String.format("ORD%d%03d", timestamp, random);
+        BigDecimal total = BigDecimal.ZERO;
+        for (OrderProduct orderProduct : this.orderProducts) {
+            total = total.add(orderProduct.calculatePrice());  // 각 상품의 금액 계산
+        }
+        this.totalPrice = total;
     }
 
     /* 주문 상태 확인 */
@@ -133,11 +130,13 @@ public class Orders extends BaseEntity {
         }
     }
 
-    /* 재고 차감 */
-    public void decreaseStock() {
+    /* 상품 옵션별 주문 수량 (옵션 ID 오름차순, 같은 옵션은 합산) */
+    public Map<Long, Integer> getQuantitiesByProductOption() {
+        Map<Long, Integer> quantities = new TreeMap<>();
         for (OrderProduct orderProduct : this.orderProducts) {
-            orderProduct.decreaseStock();
+            quantities.merge(orderProduct.getProductOptionId(), orderProduct.getProductQuantity(), Integer::sum);
         }
+        return quantities;
     }
 
     /* 쿠폰 사용 여부 확인 */
@@ -150,13 +149,6 @@ public class Orders extends BaseEntity {
         this.couponId = couponId;
     }
 
-    /* 재고 복구 */
-    public void restoreStock() {
-        for (OrderProduct orderProduct : this.orderProducts) {
-            orderProduct.restoreStock();
-        }
-    }
-
     /* 할인 적용 */
     public void applyDiscount(BigDecimal discount) {
         if (discount.compareTo(BigDecimal.ZERO) < 0) {
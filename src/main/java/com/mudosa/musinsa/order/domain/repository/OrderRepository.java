@@ -21,29 +21,17 @@ public interface OrderRepository extends JpaRepository<Orders, Long> {
     """)
     Optional<Orders> findByOrderNoWithOrderProducts( String orderNo);
 
-    @Query("""
-        SELECT DISTINCT o 
-        FROM Orders o 
-        JOIN FETCH o.user u
-        JOIN FETCH o.orderProducts op
-        JOIN FETCH op.productOption po
-        JOIN FETCH po.product p
-        WHERE o.orderNo = :orderNo
-    """)
-    Optional<Orders> findByOrderNoWithUserAndProducts(String orderNo);
-
-    Optional<Orders> findByOrderNo(String orderNo);
-
+    /* 주문 화면 조회용 - 상품 표시 정보는 ProductOptionDisplayCache에서 채우므로 productOption은 프록시로 둔다 */
     @Query("""
         SELECT DISTINCT o
         FROM Orders o
         JOIN FETCH o.user u
         JOIN FETCH o.orderProducts op
-        JOIN FETCH op.productOption po
-        JOIN FETCH po.product p
         WHERE o.orderNo = :orderNo
     """)
-    Optional<Orders> findOrderWithDetails(String orderNo);
+    Optional<Orders> findByOrderNoWithUserAndOrderProducts(String orderNo);
+
+    Optional<Orders> findByOrderNo(String orderNo);
 
     @Query("""
         SELECT DISTINCT o
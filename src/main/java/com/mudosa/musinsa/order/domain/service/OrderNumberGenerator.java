@@ -0,0 +1,112 @@
+package com.mudosa.musinsa.order.domain.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 주문번호 생성기 (Snowflake 방식)
+ * - 63비트 ID = 기준 시각 이후 ms(41비트) | 워커 ID(10비트) | ms 내 순번(12비트)
+ * - 주문번호는 "ORD2" + 19자리 0 채움 ID라서 문자열 정렬이 생성 순서와 같다 (order_no 인덱스 끝에 쌓임).
+ *   세대 숫자 "2"는 기존 "ORD" + epoch ms(17…) + 난수 3자리 번호보다 항상 뒤에 정렬되도록 붙인다.
+ * - 워커마다 ID가 다르면 노드 간 충돌이 없고, 같은 ms에 4096건을 넘으면 다음 ms를 미리 쓴다.
+ * - 시계가 뒤로 가면 마지막으로 쓴 시각을 계속 써서 대기나 실패 없이 단조 증가를 유지한다.
+ */
+@Slf4j
+@Component
+public class OrderNumberGenerator {
+
+    // 기존 주문번호(ORD1…)와 구분되고 그 뒤에 정렬되는 세대 접두사
+    private static final String PREFIX = "ORD2";
+    private static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int WORKER_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    static final long MAX_WORKER_ID = (1L << WORKER_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final long workerId;
+    private final long clockBackwardWarnMillis;
+    private final LongSupplier clock;
+
+    // 마지막으로 발급한 (시각 << SEQUENCE_BITS | 순번)
+    private final AtomicLong lastState = new AtomicLong();
+    private final AtomicLong lastSkewWarnAt = new AtomicLong();
+
+    public OrderNumberGenerator(
+            @Value("${order.number.worker-id:-1}") long workerId,
+            @Value("${order.number.clock-backward-warn-ms:1000}") long clockBackwardWarnMillis) {
+        this(workerId < 0 ? deriveWorkerId() : workerId, clockBackwardWarnMillis, System::currentTimeMillis);
+    }
+
+    OrderNumberGenerator(long workerId, long clockBackwardWarnMillis, LongSupplier clock) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("order.number.worker-id는 0 ~ " + MAX_WORKER_ID + " 사이여야 합니다: " + workerId);
+        }
+        this.workerId = workerId;
+        this.clockBackwardWarnMillis = clockBackwardWarnMillis;
+        this.clock = clock;
+        log.info("[OrderNumber] 주문번호 생성기 초기화 - workerId: {}", workerId);
+    }
+
+    public String generate() {
+        return String.format("%s%019d", PREFIX, nextId());
+    }
+
+    long nextId() {
+        long now = clock.getAsLong() - EPOCH_MILLIS;
+        while (true) {
+            long prev = lastState.get();
+            long prevTimestamp = prev >>> SEQUENCE_BITS;
+            long next;
+            if (now > prevTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                // 같은 ms이거나 시계가 뒤로 간 경우: 마지막 시각 기준으로 순번 증가, 순번이 넘치면 다음 ms를 사용
+                long sequence = (prev & MAX_SEQUENCE) + 1;
+                next = sequence > MAX_SEQUENCE
+                        ? (prevTimestamp + 1) << SEQUENCE_BITS
+                        : (prevTimestamp << SEQUENCE_BITS) | sequence;
+            }
+
+            if (lastState.compareAndSet(prev, next)) {
+                if (prevTimestamp - now > clockBackwardWarnMillis) {
+                    warnClockBackward(prevTimestamp - now);
+                }
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << (WORKER_BITS + SEQUENCE_BITS)) | (workerId << SEQUENCE_BITS) | (next & MAX_SEQUENCE);
+            }
+        }
+    }
+
+    // 시계가 돌아간 동안 매 발급마다 찍히지 않도록 1초에 한 번만 기록
+    private void warnClockBackward(long backwardMillis) {
+        long wallNow = clock.getAsLong();
+        long lastWarn = lastSkewWarnAt.get();
+        if (wallNow - lastWarn >= 1000 && lastSkewWarnAt.compareAndSet(lastWarn, wallNow)) {
+            log.warn("[OrderNumber] 시스템 시계가 {}ms 뒤로 감, 마지막 시각 기준으로 발급", backwardMillis);
+        }
+    }
+
+    /*
+     * worker-id 미설정 시 호스트명으로 유도
+     * 인스턴스가 여러 대면 충돌 가능성이 있으므로 운영에서는 ORDER_WORKER_ID로 지정한다.
+     */
+    private static long deriveWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = String.valueOf(ProcessHandle.current().pid());
+        }
+        long derived = Math.floorMod(host.hashCode(), MAX_WORKER_ID + 1);
+        log.warn("[OrderNumber] order.number.worker-id 미설정 - 호스트명({})으로 workerId {} 사용", host, derived);
+        return derived;
+    }
+}
@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 @Builder
 @Getter
 public class PaymentDetailDto {
+    private Long orderId;
     private BigDecimal totalAmount;
     private PaymentStatus paymentStatus;
     private String pgProvider;
@@ -0,0 +1,20 @@
+package com.mudosa.musinsa.payment.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PaymentConfirmAcceptedResponse {
+    private String token;
+    private String orderNo;
+    private PaymentConfirmStatus status;
+
+    @Builder
+    public PaymentConfirmAcceptedResponse(String token, String orderNo, PaymentConfirmStatus status) {
+        this.token = token;
+        this.orderNo = orderNo;
+        this.status = status;
+    }
+}
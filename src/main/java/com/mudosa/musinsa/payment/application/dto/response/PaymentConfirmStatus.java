@@ -0,0 +1,10 @@
+package com.mudosa.musinsa.payment.application.dto.response;
+
+/**
+ * 비동기 결제 승인 진행 상태
+ */
+public enum PaymentConfirmStatus {
+    PENDING,
+    APPROVED,
+    FAILED
+}
@@ -0,0 +1,22 @@
+package com.mudosa.musinsa.payment.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PaymentConfirmStatusResponse {
+    private String token;
+    private String orderNo;
+    private PaymentConfirmStatus status;
+    private String message;
+
+    @Builder
+    public PaymentConfirmStatusResponse(String token, String orderNo, PaymentConfirmStatus status, String message) {
+        this.token = token;
+        this.orderNo = orderNo;
+        this.status = status;
+        this.message = message;
+    }
+}
@@ -6,6 +6,10 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * PaymentBrandAmount 관리 서비스
  * - 결제 승인 시 브랜드별 금액을 미리 계산하여 저장
@@ -55,6 +59,62 @@ public class PaymentBrandAmountService {
         }
     }
 
+    /**
+     * 여러 결제의 브랜드별 금액을 한 문장으로 저장 (백필, Outbox 릴레이용)
+     * - (payment_id, brand_id) 유니크 키에 ON DUPLICATE KEY로 덮어써 재실행해도 중복이 생기지 않는다.
+     * - 승인(APPROVED)되지 않은 결제는 제외한다.
+     *
+     * @param paymentIds 결제 ID 목록
+     * @return 영향받은 행 수 (MySQL 기준 신규 1, 갱신 2, 변경 없음 0)
+     */
+    @Transactional
+    public int saveForPayments(Collection<Long> paymentIds) {
+        if (paymentIds.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(paymentIds.size(), "?"));
+        String sql = """
+                INSERT INTO payment_brand_amount (payment_id, brand_id, amount, commission_rate, created_at)
+                SELECT
+                    pay.payment_id,
+                    p.brand_id,
+                    SUM(op.product_price * op.product_quantity) as amount,
+                    b.commission_rate,
+                    NOW()
+                FROM payment pay
+                JOIN orders o ON pay.order_id = o.order_id
+                JOIN order_product op ON o.order_id = op.order_id
+                JOIN product_option po ON op.product_option_id = po.product_option_id
+                JOIN product p ON po.product_id = p.product_id
+                JOIN brand b ON p.brand_id = b.brand_id
+                WHERE pay.payment_id IN (%s)
+                  AND pay.payment_status = 'APPROVED'
+                GROUP BY pay.payment_id, p.brand_id, b.commission_rate
+                ON DUPLICATE KEY UPDATE
+                    amount = VALUES(amount),
+                    commission_rate = VALUES(commission_rate)
+                """.formatted(placeholders);
+
+        return jdbcTemplate.update(sql, paymentIds.toArray());
+    }
+
+    /**
+     * payment_brand_amount가 없는 승인 결제 ID를 afterPaymentId 이후부터 limit건 조회 (키셋)
+     */
+    public List<Long> findPaymentIdsWithoutBrandAmount(long afterPaymentId, int limit) {
+        String sql = """
+                SELECT pay.payment_id
+                FROM payment pay
+                WHERE pay.payment_id > ?
+                  AND pay.payment_status = 'APPROVED'
+                  AND NOT EXISTS (SELECT 1 FROM payment_brand_amount pba WHERE pba.payment_id = pay.payment_id)
+                ORDER BY pay.payment_id
+                LIMIT ?
+                """;
+        return jdbcTemplate.queryForList(sql, Long.class, afterPaymentId, limit);
+    }
+
     /**
      * 이미 저장되어 있는지 확인
      */
@@ -10,6 +10,9 @@ import com.mudosa.musinsa.payment.application.dto.PaymentCreationResult;
 import com.mudosa.musinsa.payment.application.dto.PaymentResponseDto;
 import com.mudosa.musinsa.payment.domain.model.Payment;
 import com.mudosa.musinsa.payment.domain.model.PaymentEventType;
+import com.mudosa.musinsa.payment.domain.model.PaymentOutbox;
+import com.mudosa.musinsa.payment.domain.model.PaymentOutboxEventType;
+import com.mudosa.musinsa.payment.domain.repository.PaymentOutboxRepository;
 import com.mudosa.musinsa.payment.domain.repository.PaymentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +21,7 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -27,7 +31,7 @@ public class PaymentConfirmService {
     private final OrderService orderService;
     private final OrderRepository orderRepository;
     private final PaymentRepository paymentRepository;
-    private final PaymentBrandAmountService paymentBrandAmountService;
+    private final PaymentOutboxRepository paymentOutboxRepository;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     protected PaymentCreationResult createPaymentTransaction(PaymentCreateDto request, Long userId) {
@@ -69,9 +73,6 @@ public class PaymentConfirmService {
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void approvePayment(Long paymentId, Long userId, PaymentResponseDto paymentResponseDto, Long orderId) {
-        //장바구니 삭제
-        orderService.deleteCartItems(orderId, userId);
-
         //결제 조회
         Payment payment = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PAYMENT_NOT_FOUND));
@@ -83,18 +84,11 @@ public class PaymentConfirmService {
 
         paymentRepository.save(payment);
 
-        // 브랜드별 금액 저장 (정산 배치 성능 최적화)
-        try {
-            if (!paymentBrandAmountService.existsForPayment(paymentId)) {
-                paymentBrandAmountService.saveForPayment(paymentId, orderId);
-                log.info("[Payment] 브랜드별 금액 저장 완료 - paymentId: {}", paymentId);
-            } else {
-                log.info("[Payment] 브랜드별 금액 이미 존재 - paymentId: {}", paymentId);
-            }
-        } catch (Exception e) {
-            log.error("[Payment] 브랜드별 금액 저장 실패 (정산 배치에 영향 있음) - paymentId: {}", paymentId, e);
-            // 결제 승인은 성공했으므로 예외를 던지지 않음
-        }
+        // 장바구니 삭제, 브랜드별 금액 저장은 같은 트랜잭션에 Outbox로만 기록하고 PaymentOutboxRelay가 처리
+        paymentOutboxRepository.saveAll(List.of(
+                PaymentOutbox.create(paymentId, orderId, userId, PaymentOutboxEventType.CART_CLEANUP),
+                PaymentOutbox.create(paymentId, orderId, userId, PaymentOutboxEventType.BRAND_AMOUNT)
+        ));
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -140,6 +134,7 @@ public class PaymentConfirmService {
         //결제 상태 변경
         Payment payment = paymentRepository.findByPgTransactionId(paymentKey);
         payment.cancelFail(message, userId);
+        paymentRepository.save(payment);  // 결제 로그 이벤트 발행
 
         //주문 및 재고 롤백
         orderService.rollbackOrderCancel(payment.getOrderId());
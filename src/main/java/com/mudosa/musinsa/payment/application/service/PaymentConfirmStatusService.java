@@ -0,0 +1,102 @@
+package com.mudosa.musinsa.payment.application.service;
+
+import com.mudosa.musinsa.exception.BusinessException;
+import com.mudosa.musinsa.exception.ErrorCode;
+import com.mudosa.musinsa.payment.application.dto.response.PaymentConfirmStatus;
+import com.mudosa.musinsa.payment.application.dto.response.PaymentConfirmStatusResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 비동기 결제 승인 상태 저장/조회
+ * - 토큰별 상태를 Redis Hash에 TTL과 함께 저장해 어느 인스턴스에서든 폴링할 수 있게 한다.
+ * - 완료 시 /topic/payments/{token}으로 STOMP 푸시한다.
+ */
+@Slf4j
+@Service
+public class PaymentConfirmStatusService {
+
+    private static final String KEY_PREFIX = "payment:confirm:";
+    private static final String TOPIC_PREFIX = "/topic/payments/";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Duration ttl;
+
+    public PaymentConfirmStatusService(
+            RedisTemplate<String, Object> redisTemplate,
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${payment.async-confirm.status-ttl-seconds:600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public String createPending(Long userId, String orderNo) {
+        String token = UUID.randomUUID().toString();
+
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("userId", String.valueOf(userId));
+        fields.put("orderNo", orderNo);
+        fields.put("status", PaymentConfirmStatus.PENDING.name());
+
+        String key = KEY_PREFIX + token;
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, ttl);
+        return token;
+    }
+
+    public void complete(String token, String orderNo, PaymentConfirmStatus status, String message) {
+        String key = KEY_PREFIX + token;
+        try {
+            Map<String, Object> fields = new HashMap<>();
+            fields.put("status", status.name());
+            if (message != null) {
+                fields.put("message", message);
+            }
+            redisTemplate.opsForHash().putAll(key, fields);
+            redisTemplate.expire(key, ttl);
+        } catch (RuntimeException e) {
+            // 결제 처리 결과는 DB에 반영되어 있으므로 상태 저장 실패로 예외를 전파하지 않는다
+            log.error("[PaymentConfirm] 상태 저장 실패 - token: {}, status: {}", token, status, e);
+        }
+
+        try {
+            messagingTemplate.convertAndSend(TOPIC_PREFIX + token, PaymentConfirmStatusResponse.builder()
+                    .token(token)
+                    .orderNo(orderNo)
+                    .status(status)
+                    .message(message)
+                    .build());
+        } catch (RuntimeException e) {
+            // 푸시 실패는 폴링으로 확인할 수 있으므로, 호출 측이 저장된 상태를 덮어쓰지 않도록 전파하지 않는다
+            log.error("[PaymentConfirm] 상태 푸시 실패 - token: {}, status: {}", token, status, e);
+        }
+    }
+
+    public PaymentConfirmStatusResponse getStatus(String token, Long userId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(KEY_PREFIX + token);
+        if (fields.isEmpty()) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "결제 승인 요청을 찾을 수 없습니다: " + token);
+        }
+        if (!String.valueOf(userId).equals(fields.get("userId"))) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+
+        Object message = fields.get("message");
+        return PaymentConfirmStatusResponse.builder()
+                .token(token)
+                .orderNo((String) fields.get("orderNo"))
+                .status(PaymentConfirmStatus.valueOf((String) fields.get("status")))
+                .message(message == null ? null : message.toString())
+                .build();
+    }
+}
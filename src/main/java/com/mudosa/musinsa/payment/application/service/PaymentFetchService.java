@@ -4,26 +4,111 @@ import com.mudosa.musinsa.exception.BusinessException;
 import com.mudosa.musinsa.exception.ErrorCode;
 import com.mudosa.musinsa.payment.application.dto.PaymentDetailDto;
 import com.mudosa.musinsa.payment.domain.repository.PaymentRepository;
-import lombok.RequiredArgsConstructor;
+import com.mudosa.musinsa.payment.domain.repository.PaymentSummary;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주문별 결제 내역 조회
+ * - Payment 엔티티를 로딩하지 않고 커버링 인덱스 프로젝션(PaymentSummary)으로 조회한다.
+ * - 여러 주문은 IN 쿼리 한 번으로 조회하며, 한 주문에 결제가 여러 건이면 가장 최근(payment_id가 큰) 결제를 쓴다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class PaymentFetchService {
+
     private final PaymentRepository paymentRepository;
-    public PaymentDetailDto fetchPaymentDetail(Long orderId){
-        return paymentRepository.findByOrderId(orderId).map(p-> PaymentDetailDto
-                .builder()
-                .paymentStatus(p.getStatus())
-                .approvedAt(p.getApprovedAt())
-                .method(p.getMethod())
-                .pgProvider(p.getPgProvider())
-                .totalAmount(p.getAmount())
-                .build()).orElseThrow(
-                () -> new BusinessException(ErrorCode.PAYMENT_NOT_FOUND)
-        );
+    private final int maxOrderIds;
+
+    public PaymentFetchService(
+            PaymentRepository paymentRepository,
+            @Value("${payment.fetch.max-order-ids:100}") int maxOrderIds) {
+        this.paymentRepository = paymentRepository;
+        this.maxOrderIds = maxOrderIds;
+    }
+
+    public PaymentDetailDto fetchPaymentDetail(Long orderId) {
+        PaymentDetailDto detail = fetchPaymentDetails(List.of(orderId)).get(orderId);
+        if (detail == null) {
+            throw new BusinessException(ErrorCode.PAYMENT_NOT_FOUND);
+        }
+        return detail;
+    }
+
+    /**
+     * 여러 주문의 결제 내역을 한 번에 조회 (결제가 없는 주문은 결과에서 빠짐)
+     */
+    public Map<Long, PaymentDetailDto> fetchPaymentDetails(Collection<Long> orderIds) {
+        Set<Long> distinctIds = distinct(orderIds);
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+        return toDetails(paymentRepository.findSummariesByOrderIds(distinctIds));
+    }
+
+    /**
+     * 사용자 본인 주문의 결제 내역을 요청 순서대로 조회 (타인 주문, 결제 없는 주문은 제외)
+     */
+    public List<PaymentDetailDto> fetchPaymentDetails(Long userId, Collection<Long> orderIds) {
+        Set<Long> distinctIds = distinct(orderIds);
+        if (distinctIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PaymentDetailDto> details =
+                toDetails(paymentRepository.findSummariesByOrderIdsAndUserId(distinctIds, userId));
+
+        List<PaymentDetailDto> result = new ArrayList<>(details.size());
+        for (Long orderId : distinctIds) {
+            PaymentDetailDto detail = details.get(orderId);
+            if (detail != null) {
+                result.add(detail);
+            }
+        }
+        log.debug("[PaymentFetch] 결제 내역 일괄 조회 - userId: {}, 요청: {}건, 조회: {}건", userId, distinctIds.size(), result.size());
+        return result;
+    }
+
+    private Set<Long> distinct(Collection<Long> orderIds) {
+        if (orderIds == null) {
+            return Set.of();
+        }
+        Set<Long> distinctIds = new LinkedHashSet<>(orderIds);
+        distinctIds.remove(null);
+        if (distinctIds.size() > maxOrderIds) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR,
+                    String.format("한 번에 조회할 수 있는 주문은 최대 %d건입니다", maxOrderIds));
+        }
+        return distinctIds;
+    }
+
+    private Map<Long, PaymentDetailDto> toDetails(List<PaymentSummary> summaries) {
+        Map<Long, PaymentSummary> latest = new HashMap<>(summaries.size() * 2);
+        for (PaymentSummary summary : summaries) {
+            latest.merge(summary.orderId(), summary,
+                    (current, candidate) -> candidate.paymentId() > current.paymentId() ? candidate : current);
+        }
 
+        Map<Long, PaymentDetailDto> details = new HashMap<>(latest.size() * 2);
+        latest.forEach((orderId, summary) -> details.put(orderId, PaymentDetailDto.builder()
+                .orderId(orderId)
+                .paymentStatus(summary.status())
+                .approvedAt(summary.approvedAt())
+                .method(summary.method())
+                .pgProvider(summary.pgProvider() != null ? summary.pgProvider().name() : null)
+                .totalAmount(summary.amount())
+                .build()));
+        return details;
     }
 }
@@ -0,0 +1,95 @@
+package com.mudosa.musinsa.payment.application.service;
+
+import com.mudosa.musinsa.exception.BusinessException;
+import com.mudosa.musinsa.exception.ErrorCode;
+import com.mudosa.musinsa.payment.application.dto.response.PaymentConfirmResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 결제 승인 멱등 키 저장소 (Redis)
+ * - (orderNo, paymentKey)로 SETNX 선점 후 처리하고, 성공하면 결과를 result-ttl 동안 남긴다.
+ * - 중복 요청은 DB를 거치지 않고 저장된 결과를 돌려받거나, 처리 중이면 PAYMENT_IN_PROGRESS로 거절된다.
+ * - 실패하면 키를 지워 클라이언트가 다시 시도할 수 있게 한다.
+ * - Redis 장애 시에는 멱등 처리 없이 기존 DB 중복 검사에 맡긴다.
+ */
+@Slf4j
+@Service
+public class PaymentIdempotencyService {
+
+    private static final String KEY_PREFIX = "payment:idempotency:";
+    static final String PROCESSING = "PROCESSING";
+    static final String DONE = "DONE";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration leaseTtl;
+    private final Duration resultTtl;
+
+    public PaymentIdempotencyService(
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${payment.idempotency.lease-seconds:60}") long leaseSeconds,
+            @Value("${payment.idempotency.result-ttl-hours:24}") long resultTtlHours) {
+        this.redisTemplate = redisTemplate;
+        this.leaseTtl = Duration.ofSeconds(leaseSeconds);
+        this.resultTtl = Duration.ofHours(resultTtlHours);
+    }
+
+    public PaymentConfirmResponse execute(String orderNo, String paymentKey, Supplier<PaymentConfirmResponse> confirm) {
+        String key = KEY_PREFIX + orderNo + ":" + paymentKey;
+
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(key, PROCESSING, leaseTtl);
+        } catch (DataAccessException e) {
+            log.warn("[PaymentIdempotency] Redis 사용 불가, 멱등 처리 없이 진행 - orderNo: {}", orderNo, e);
+            return confirm.get();
+        }
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            return replay(key, orderNo);
+        }
+
+        PaymentConfirmResponse response;
+        try {
+            response = confirm.get();
+        } catch (RuntimeException e) {
+            release(key);
+            throw e;
+        }
+
+        try {
+            redisTemplate.opsForValue().set(key, DONE, resultTtl);
+        } catch (DataAccessException e) {
+            // 결제는 완료되었으므로 결과 저장 실패는 무시 (재요청은 DB 중복 검사로 처리됨)
+            log.warn("[PaymentIdempotency] 결과 저장 실패 - orderNo: {}", orderNo, e);
+        }
+        return response;
+    }
+
+    private PaymentConfirmResponse replay(String key, String orderNo) {
+        Object state = redisTemplate.opsForValue().get(key);
+        if (DONE.equals(state)) {
+            log.info("[PaymentIdempotency] 중복 승인 요청, 저장된 결과 반환 - orderNo: {}", orderNo);
+            return PaymentConfirmResponse.builder()
+                    .orderNo(orderNo)
+                    .build();
+        }
+        // 선점한 요청이 처리 중이거나, 실패로 키가 방금 지워진 경우
+        throw new BusinessException(ErrorCode.PAYMENT_IN_PROGRESS);
+    }
+
+    private void release(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            // 선점 TTL이 지나면 자동 해제된다
+            log.warn("[PaymentIdempotency] 선점 해제 실패 - key: {}", key, e);
+        }
+    }
+}
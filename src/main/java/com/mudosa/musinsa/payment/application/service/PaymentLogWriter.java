@@ -0,0 +1,187 @@
+package com.mudosa.musinsa.payment.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mudosa.musinsa.payment.domain.model.PaymentLogEvent;
+import com.mudosa.musinsa.payment.infrastructure.JdbcPaymentLogRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 결제 로그 write-behind 기록기
+ * - 결제 트랜잭션이 커밋된 뒤 PaymentLogEvent를 제한된 큐에 넣고, 전용 스레드가 batch-size건씩 JDBC 배치 INSERT한다.
+ * - 큐가 가득 차면 유실 대신 호출 스레드에서 바로 기록한다.
+ * - INSERT가 실패한 배치는 spool 디렉터리에 JSON Lines 파일로 남기고, 주기적으로 다시 기록한다.
+ * - 커밋 후 기록하므로 큐에 있는 동안 프로세스가 강제 종료되면 해당 로그는 남지 않는다 (정상 종료 시에는 모두 비운다).
+ */
+@Slf4j
+@Component
+public class PaymentLogWriter {
+
+    private static final String SPOOL_SUFFIX = ".jsonl";
+
+    private final JdbcPaymentLogRepository paymentLogRepository;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<PaymentLogEvent> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Path spoolDir;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public PaymentLogWriter(
+            JdbcPaymentLogRepository paymentLogRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${payment.log-writer.queue-capacity:10000}") int queueCapacity,
+            @Value("${payment.log-writer.batch-size:500}") int batchSize,
+            @Value("${payment.log-writer.flush-interval-ms:200}") long flushIntervalMillis,
+            @Value("${payment.log-writer.spool-dir:./spool/payment-log}") String spoolDir) {
+        this.paymentLogRepository = paymentLogRepository;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.spoolDir = Paths.get(spoolDir);
+
+        Gauge.builder("payment.log.queue.size", queue, BlockingQueue::size)
+                .description("기록 대기 중인 결제 로그 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = Thread.ofPlatform().name("payment-log-writer").daemon(true).start(this::flushLoop);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.join(flushIntervalMillis * 10);
+        // 종료 중 남은 로그는 호출 스레드에서 비운다
+        List<PaymentLogEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            write(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void append(PaymentLogEvent event) {
+        if (!queue.offer(event)) {
+            log.warn("[PaymentLogWriter] 큐 가득 참, 호출 스레드에서 기록 - paymentId: {}", event.paymentId());
+            write(List.of(event));
+        }
+    }
+
+    int pending() {
+        return queue.size();
+    }
+
+    private void flushLoop() {
+        List<PaymentLogEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PaymentLogEvent first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PaymentLogEvent> batch) {
+        try {
+            paymentLogRepository.batchInsert(batch);
+        } catch (RuntimeException e) {
+            log.error("[PaymentLogWriter] 배치 기록 실패, spool 파일로 보관 - {}건", batch.size(), e);
+            spool(batch);
+        }
+    }
+
+    private synchronized void spool(List<PaymentLogEvent> batch) {
+        try {
+            Files.createDirectories(spoolDir);
+            List<String> lines = new ArrayList<>(batch.size());
+            for (PaymentLogEvent event : batch) {
+                lines.add(objectMapper.writeValueAsString(event));
+            }
+            Path file = spoolDir.resolve(System.currentTimeMillis() + "-" + UUID.randomUUID() + SPOOL_SUFFIX);
+            Files.write(file, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // 마지막 보루: 로그 파일에라도 남긴다
+            log.error("[PaymentLogWriter] spool 저장 실패, 유실 로그: {}", batch, e);
+        }
+    }
+
+    /**
+     * spool 파일 재기록 (성공한 파일만 삭제)
+     */
+    @Scheduled(fixedDelayString = "${payment.log-writer.spool-replay-interval-ms:60000}")
+    public void replaySpool() {
+        if (!Files.isDirectory(spoolDir)) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(spoolDir)) {
+            files = stream.filter(path -> path.toString().endsWith(SPOOL_SUFFIX)).sorted().toList();
+        } catch (IOException e) {
+            log.error("[PaymentLogWriter] spool 디렉터리 조회 실패 - {}", spoolDir, e);
+            return;
+        }
+
+        for (Path file : files) {
+            try {
+                List<PaymentLogEvent> events = Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                        .filter(line -> !line.isBlank())
+                        .map(this::readEvent)
+                        .toList();
+                paymentLogRepository.batchInsert(events);
+                Files.delete(file);
+                log.info("[PaymentLogWriter] spool 재기록 완료 - {}: {}건", file.getFileName(), events.size());
+            } catch (IOException | RuntimeException e) {
+                log.warn("[PaymentLogWriter] spool 재기록 실패, 다음 주기에 재시도 - {}", file.getFileName(), e);
+                return;
+            }
+        }
+    }
+
+    private PaymentLogEvent readEvent(String line) {
+        try {
+            return objectMapper.readValue(line, PaymentLogEvent.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
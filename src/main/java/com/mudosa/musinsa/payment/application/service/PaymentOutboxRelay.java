@@ -0,0 +1,133 @@
+package com.mudosa.musinsa.payment.application.service;
+
+import com.mudosa.musinsa.order.application.OrderService;
+import com.mudosa.musinsa.payment.infrastructure.JdbcPaymentOutboxRepository;
+import com.mudosa.musinsa.payment.infrastructure.JdbcPaymentOutboxRepository.OutboxEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결제 승인 후속 작업 릴레이
+ * - payment_outbox에서 batch-size건씩 점유해 장바구니 삭제, 브랜드별 금액 저장을 처리한다.
+ * - 건마다 별도 트랜잭션에서 작업과 DONE 표시를 함께 커밋해, 실패한 건만 재시도된다.
+ * - 실패 시 지수 백오프로 다시 PENDING, max-attempts를 넘으면 FAILED로 남긴다.
+ */
+@Slf4j
+@Component
+public class PaymentOutboxRelay {
+
+    private static final long MAX_BACKOFF_MILLIS = 600_000;
+
+    private final JdbcPaymentOutboxRepository outboxRepository;
+    private final OrderService orderService;
+    private final PaymentBrandAmountService paymentBrandAmountService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxAttempts;
+    private final long leaseMillis;
+    private final long backoffMillis;
+
+    public PaymentOutboxRelay(
+            JdbcPaymentOutboxRepository outboxRepository,
+            OrderService orderService,
+            PaymentBrandAmountService paymentBrandAmountService,
+            PlatformTransactionManager transactionManager,
+            @Value("${payment.outbox.batch-size:100}") int batchSize,
+            @Value("${payment.outbox.max-batches-per-run:10}") int maxBatchesPerRun,
+            @Value("${payment.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${payment.outbox.lease-ms:60000}") long leaseMillis,
+            @Value("${payment.outbox.backoff-ms:1000}") long backoffMillis) {
+        this.outboxRepository = outboxRepository;
+        this.orderService = orderService;
+        this.paymentBrandAmountService = paymentBrandAmountService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxAttempts = maxAttempts;
+        this.leaseMillis = leaseMillis;
+        this.backoffMillis = backoffMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${payment.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            if (relayBatch() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 한 배치 처리
+     * @return 점유한 건수
+     */
+    int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEntry> claimed = transactionTemplate.execute(status ->
+                outboxRepository.claim(now, now.plusNanos(leaseMillis * 1_000_000), batchSize));
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        int failed = 0;
+        for (OutboxEntry entry : claimed) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    handle(entry);
+                    outboxRepository.markDone(entry.id(), LocalDateTime.now());
+                });
+            } catch (RuntimeException e) {
+                failed++;
+                markFailed(entry, e);
+            }
+        }
+
+        log.info("[PaymentOutbox] 릴레이 완료 - 점유: {}건, 실패: {}건", claimed.size(), failed);
+        return claimed.size();
+    }
+
+    private void handle(OutboxEntry entry) {
+        switch (entry.eventType()) {
+            case CART_CLEANUP -> orderService.deleteCartItems(entry.orderId(), entry.userId());
+            // ON DUPLICATE KEY로 저장하므로 재시도해도 중복 저장되지 않는다
+            case BRAND_AMOUNT -> paymentBrandAmountService.saveForPayments(List.of(entry.paymentId()));
+        }
+    }
+
+    private void markFailed(OutboxEntry entry, RuntimeException e) {
+        int attempts = entry.attemptCount() + 1;
+        LocalDateTime nextAttemptAt = attempts >= maxAttempts ? null : LocalDateTime.now().plusNanos(backoff(attempts) * 1_000_000);
+
+        if (nextAttemptAt == null) {
+            log.error("[PaymentOutbox] 최대 재시도 초과 (수동 확인 필요) - outboxId: {}, paymentId: {}, type: {}",
+                    entry.id(), entry.paymentId(), entry.eventType(), e);
+        } else {
+            log.warn("[PaymentOutbox] 처리 실패, 재시도 예정 - outboxId: {}, paymentId: {}, type: {}, attempt: {}, error: {}",
+                    entry.id(), entry.paymentId(), entry.eventType(), attempts, e.getMessage());
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxRepository.markFailed(entry.id(), e.getMessage(), nextAttemptAt));
+        } catch (RuntimeException markError) {
+            // 점유 만료 후 다시 점유되므로 여기서는 기록만 남긴다
+            log.error("[PaymentOutbox] 실패 기록 실패 - outboxId: {}", entry.id(), markError);
+        }
+    }
+
+    long backoff(int attempts) {
+        long delay = backoffMillis << Math.min(attempts - 1, 20);
+        return Math.min(delay, MAX_BACKOFF_MILLIS);
+    }
+}
@@ -13,18 +13,20 @@ import org.springframework.stereotype.Service;
 public class PaymentProcessor {
 
     private final PaymentStrategyFactory strategyFactory;
+    private final PgCircuitBreakerRegistry circuitBreakers;
 
     public PaymentResponseDto processPayment(PaymentConfirmRequest request) {
         PaymentContext context = PaymentContext.from(request);
 
         PaymentStrategy strategy = strategyFactory.getStrategy(context);
 
-        return strategy.confirmPayment(request);
+        // PG사 장애 시 서킷이 열려 있으면 PG 호출 없이 즉시 PAYMENT_TIMEOUT
+        return circuitBreakers.execute(context.getPgProvider(), () -> strategy.confirmPayment(request));
     }
 
     public PaymentCancelResponseDto processCancelPayment(PaymentCancelRequest request) {
         PaymentContext context = PaymentContext.forCancel(request);
         PaymentStrategy strategy = strategyFactory.getStrategy(context);
-        return strategy.cancelPayment(request);
+        return circuitBreakers.execute(context.getPgProvider(), () -> strategy.cancelPayment(request));
     }
 }
@@ -2,18 +2,25 @@ package com.mudosa.musinsa.payment.application.service;
 
 import com.mudosa.musinsa.exception.BusinessException;
 import com.mudosa.musinsa.exception.ErrorCode;
+import com.mudosa.musinsa.order.application.InsufficientStockException;
 import com.mudosa.musinsa.payment.application.dto.*;
 import com.mudosa.musinsa.payment.application.dto.request.PaymentCancelRequest;
 import com.mudosa.musinsa.payment.application.dto.request.PaymentCancelResponseDto;
 import com.mudosa.musinsa.payment.application.dto.request.PaymentConfirmRequest;
 import com.mudosa.musinsa.payment.application.dto.response.PaymentCancelResponse;
+import com.mudosa.musinsa.payment.application.dto.response.PaymentConfirmAcceptedResponse;
 import com.mudosa.musinsa.payment.application.dto.response.PaymentConfirmResponse;
+import com.mudosa.musinsa.payment.application.dto.response.PaymentConfirmStatus;
+import com.mudosa.musinsa.payment.application.dto.response.PaymentConfirmStatusResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 
 import static com.mudosa.musinsa.exception.ErrorCode.PAYMENT_APPROVAL_FAILED;
+import static com.mudosa.musinsa.exception.ErrorCode.PAYMENT_PG_UNAVAILABLE;
 import static com.mudosa.musinsa.exception.ErrorCode.PAYMENT_TIMEOUT;
 
 @Slf4j
@@ -22,45 +29,114 @@ public class PaymentService {
 
     private final PaymentProcessor paymentProcessor;
     private final PaymentConfirmService paymentConfirmService;
-
-    public PaymentService(PaymentProcessor paymentProcessor, PaymentConfirmService paymentConfirmService) {
+    private final PaymentConfirmStatusService confirmStatusService;
+    private final PaymentIdempotencyService idempotencyService;
+    private final TaskExecutor confirmExecutor;
+
+    public PaymentService(PaymentProcessor paymentProcessor,
+                          PaymentConfirmService paymentConfirmService,
+                          PaymentConfirmStatusService confirmStatusService,
+                          PaymentIdempotencyService idempotencyService,
+                          @Qualifier("paymentConfirmExecutor") TaskExecutor confirmExecutor) {
         this.paymentProcessor = paymentProcessor;
         this.paymentConfirmService = paymentConfirmService;
+        this.confirmStatusService = confirmStatusService;
+        this.idempotencyService = idempotencyService;
+        this.confirmExecutor = confirmExecutor;
     }
 
     public PaymentConfirmResponse confirmPaymentAndCompleteOrder(PaymentConfirmRequest request, Long userId) {
-        Long paymentId = null;
-        Long orderId = null;
-        boolean pgApproved = false;
-
-        try{
+        // 같은 (주문번호, 결제키) 중복 요청은 DB 조회 없이 저장된 결과 반환
+        return idempotencyService.execute(request.getOrderNo(), request.getPaymentKey(), () -> {
             //TX1: 결제 생성
-            PaymentCreationResult creationResult = paymentConfirmService.createPaymentTransaction(request.toPaymentCreateRequest(), userId);
-
-            paymentId = creationResult.getPaymentId();
-            orderId = creationResult.getOrderId();
+            PaymentCreationResult creationResult = createPayment(request, userId);
 
-            //트랜잭션 아님: PG 승인 요청
-            PaymentResponseDto pgResponse = paymentProcessor.processPayment(request);
-            pgApproved = true;
-
-            //TX2: 결제 승인
-            paymentConfirmService.approvePayment(paymentId, userId, pgResponse, orderId);
+            //PG 승인 요청 + TX2: 결제 승인
+            approveWithPg(request, userId, creationResult.getPaymentId(), creationResult.getOrderId());
 
             return PaymentConfirmResponse.builder()
                     .orderNo(request.getOrderNo())
                     .build();
+        });
+    }
 
-        }catch(BusinessException e){
-            //결제 생성 전 오류 -> 롤백이 되기 때문에 보상할게 없음
-            if(paymentId == null){
-                if(e.getErrorCode() == ErrorCode.INSUFFICIENT_STOCK){
-                    throw e;
+    /**
+     * 비동기 결제 승인
+     * - TX1(결제 생성, 재고 차감)까지만 요청 스레드에서 처리해 재고 부족 등은 즉시 응답한다.
+     * - PG 호출과 TX2는 가상 스레드에서 실행하고, 결과는 토큰으로 폴링하거나 STOMP로 받는다.
+     * - 토큰은 TX1 전에 발급하고, TX1 이후 작업 제출이 실패하면(동시 실행 한도 초과 등) failPayment로 재고를 되돌린다.
+     */
+    public PaymentConfirmAcceptedResponse confirmPaymentAsync(PaymentConfirmRequest request, Long userId) {
+        String token = confirmStatusService.createPending(userId, request.getOrderNo());
+
+        PaymentCreationResult creationResult;
+        try {
+            creationResult = createPayment(request, userId);
+        } catch (BusinessException e) {
+            confirmStatusService.complete(token, request.getOrderNo(), PaymentConfirmStatus.FAILED, e.getMessage());
+            throw e;
+        }
+
+        try {
+            confirmExecutor.execute(() -> {
+                try {
+                    approveWithPg(request, userId, creationResult.getPaymentId(), creationResult.getOrderId());
+                    confirmStatusService.complete(token, request.getOrderNo(), PaymentConfirmStatus.APPROVED, null);
+                } catch (BusinessException e) {
+                    confirmStatusService.complete(token, request.getOrderNo(), PaymentConfirmStatus.FAILED, e.getMessage());
+                } catch (RuntimeException e) {
+                    log.error("[PaymentConfirm] 비동기 승인 중 예상치 못한 오류 - orderNo: {}", request.getOrderNo(), e);
+                    confirmStatusService.complete(token, request.getOrderNo(), PaymentConfirmStatus.FAILED,
+                            ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
                 }
+            });
+        } catch (RuntimeException e) {
+            // PG 호출 전이므로 결제 실패 처리로 주문/재고를 되돌리고 재시도 가능한 오류로 응답
+            log.warn("[PaymentConfirm] 비동기 승인 작업 제출 실패, 보상 처리 - orderNo: {}", request.getOrderNo(), e);
+            paymentConfirmService.failPayment(creationResult.getPaymentId(), ErrorCode.PAYMENT_CONFIRM_BUSY.getMessage(),
+                    userId, creationResult.getOrderId());
+            confirmStatusService.complete(token, request.getOrderNo(), PaymentConfirmStatus.FAILED,
+                    ErrorCode.PAYMENT_CONFIRM_BUSY.getMessage());
+            throw new BusinessException(ErrorCode.PAYMENT_CONFIRM_BUSY, e);
+        }
+
+        return PaymentConfirmAcceptedResponse.builder()
+                .token(token)
+                .orderNo(request.getOrderNo())
+                .status(PaymentConfirmStatus.PENDING)
+                .build();
+    }
+
+    public PaymentConfirmStatusResponse getConfirmStatus(String token, Long userId) {
+        return confirmStatusService.getStatus(token, userId);
+    }
 
-                throw new BusinessException(ErrorCode.PAYMENT_FAILED_BEFORE_PG_CONFIRM, e.getMessage());
+    private PaymentCreationResult createPayment(PaymentConfirmRequest request, Long userId) {
+        try {
+            return paymentConfirmService.createPaymentTransaction(request.toPaymentCreateRequest(), userId);
+        } catch (BusinessException e) {
+            //결제 생성 전 오류 -> 롤백이 되기 때문에 보상할게 없음
+            //재고 부족은 부족한 옵션 목록과 함께 그대로 응답
+            if(e instanceof InsufficientStockException || e.getErrorCode() == ErrorCode.INSUFFICIENT_STOCK){
+                throw e;
             }
 
+            throw new BusinessException(ErrorCode.PAYMENT_FAILED_BEFORE_PG_CONFIRM, e.getMessage());
+        }
+    }
+
+    private void approveWithPg(PaymentConfirmRequest request, Long userId, Long paymentId, Long orderId) {
+        boolean pgApproved = false;
+
+        try{
+            //트랜잭션 아님: PG 승인 요청
+            PaymentResponseDto pgResponse = paymentProcessor.processPayment(request);
+            pgApproved = true;
+
+            //TX2: 결제 승인
+            paymentConfirmService.approvePayment(paymentId, userId, pgResponse, orderId);
+
+        }catch(BusinessException e){
             //PG사에 의한 오류 처리
             if(!pgApproved && isPgRelatedError(e.getErrorCode())){
                 paymentConfirmService.failPayment(paymentId, e.getMessage(), userId, orderId);
@@ -81,7 +157,8 @@ public class PaymentService {
 
     private boolean isPgRelatedError(ErrorCode errorCode) {
         return errorCode == PAYMENT_APPROVAL_FAILED
-                || errorCode == PAYMENT_TIMEOUT;
+                || errorCode == PAYMENT_TIMEOUT
+                || errorCode == PAYMENT_PG_UNAVAILABLE;
     }
 
     public PaymentCancelResponse cancelPayment(PaymentCancelRequest request, Long userId, LocalDateTime cancelledAt) {
@@ -6,8 +6,18 @@ import com.mudosa.musinsa.payment.application.dto.request.PaymentConfirmRequest;
 import com.mudosa.musinsa.payment.application.dto.PaymentResponseDto;
 import com.mudosa.musinsa.payment.domain.model.PgProvider;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public interface PaymentStrategy {
     PaymentResponseDto confirmPayment(PaymentConfirmRequest request);
     boolean supports(PaymentContext context);
     PaymentCancelResponseDto cancelPayment(PaymentCancelRequest request);
+
+    /* PaymentStrategyFactory가 시작 시 (PG사, 결제 유형) 조회 테이블을 만들 때 사용 */
+    PgProvider getProvider();
+
+    default Set<PaymentType> getSupportedPaymentTypes() {
+        return EnumSet.allOf(PaymentType.class);
+    }
 }
@@ -0,0 +1,17 @@
+package com.mudosa.musinsa.payment.application.service;
+
+import com.mudosa.musinsa.payment.domain.model.PgProvider;
+
+/**
+ * PaymentStrategy 데코레이터 (메트릭, 타임아웃, 헤지 요청 등)
+ * - Bean으로 등록하면 PaymentStrategyFactory가 시작 시 한 번 감싸 조회 테이블에 넣는다.
+ * - 여러 개면 @Order 순서대로 감싸므로, 순서가 뒤인 데코레이터가 바깥쪽에서 먼저 실행된다.
+ */
+public interface PaymentStrategyDecorator {
+
+    PaymentStrategy decorate(PaymentStrategy strategy);
+
+    default boolean appliesTo(PgProvider provider) {
+        return true;
+    }
+}
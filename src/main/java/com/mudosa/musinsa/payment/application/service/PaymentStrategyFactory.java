@@ -3,28 +3,78 @@ package com.mudosa.musinsa.payment.application.service;
 import com.mudosa.musinsa.exception.BusinessException;
 import com.mudosa.musinsa.exception.ErrorCode;
 import com.mudosa.musinsa.payment.domain.model.PgProvider;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
+/**
+ * PG사 × 결제 유형 → PaymentStrategy 조회 테이블
+ * - 시작 시 각 전략의 getProvider()/getSupportedPaymentTypes()로 EnumMap을 만들어 요청마다 O(1)로 찾는다.
+ * - 같은 (PG사, 결제 유형)을 두 전략이 등록하면 시작 시 실패한다.
+ * - PaymentStrategyDecorator Bean은 테이블을 만들 때 한 번만 적용된다.
+ */
+@Slf4j
 @Component
 public class PaymentStrategyFactory {
 
-    private final List<PaymentStrategy> strategies;
+    private final Map<PgProvider, Map<PaymentType, PaymentStrategy>> strategies;
 
-    public PaymentStrategyFactory(List<PaymentStrategy> strategies) {
-        this.strategies = strategies;
+    public PaymentStrategyFactory(List<PaymentStrategy> strategies, List<PaymentStrategyDecorator> decorators) {
+        this.strategies = buildTable(strategies, decorators);
     }
 
     public PaymentStrategy getStrategy(PaymentContext context) {
-        return strategies.stream()
-                .filter(strategy -> strategy.supports(context))
-                .findFirst()
-                .orElseThrow(() -> new BusinessException(
-                        ErrorCode.PAYMENT_STRATEGY_NOT_FOUND,
-                        String.format("결제 전략을 찾을 수 없습니다: %s", context)
-                ));
+        Map<PaymentType, PaymentStrategy> byType = context.getPgProvider() == null ? null : strategies.get(context.getPgProvider());
+        // 취소처럼 결제 유형이 없는 요청은 일반 결제 전략으로 처리
+        PaymentType paymentType = context.getPaymentType() == null ? PaymentType.NORMAL : context.getPaymentType();
+        PaymentStrategy strategy = byType == null ? null : byType.get(paymentType);
+        if (strategy == null) {
+            throw new BusinessException(
+                    ErrorCode.PAYMENT_STRATEGY_NOT_FOUND,
+                    String.format("결제 전략을 찾을 수 없습니다: %s", context)
+            );
+        }
+        return strategy;
+    }
+
+    private static Map<PgProvider, Map<PaymentType, PaymentStrategy>> buildTable(
+            List<PaymentStrategy> strategies, List<PaymentStrategyDecorator> decorators) {
+        Map<PgProvider, Map<PaymentType, PaymentStrategy>> table = new EnumMap<>(PgProvider.class);
+
+        for (PaymentStrategy strategy : strategies) {
+            PgProvider provider = strategy.getProvider();
+            Map<PaymentType, PaymentStrategy> byType = table.computeIfAbsent(provider, k -> new EnumMap<>(PaymentType.class));
+
+            for (PaymentType paymentType : strategy.getSupportedPaymentTypes()) {
+                PaymentStrategy existing = byType.putIfAbsent(paymentType, strategy);
+                if (existing != null) {
+                    throw new IllegalStateException(String.format(
+                            "결제 전략이 중복 등록되었습니다: %s/%s (%s, %s)",
+                            provider, paymentType, existing.getClass().getSimpleName(), strategy.getClass().getSimpleName()));
+                }
+            }
+            log.info("[PaymentStrategy] 등록 - {}: {} {}", provider, strategy.getClass().getSimpleName(), strategy.getSupportedPaymentTypes());
+        }
+
+        // 전략 1개당 데코레이터를 한 번만 적용 (여러 결제 유형이 같은 인스턴스를 공유)
+        Map<PaymentStrategy, PaymentStrategy> decorated = new IdentityHashMap<>();
+        table.values().forEach(byType ->
+                byType.replaceAll((paymentType, strategy) ->
+                        decorated.computeIfAbsent(strategy, s -> decorate(s, decorators))));
+        return table;
+    }
+
+    private static PaymentStrategy decorate(PaymentStrategy strategy, List<PaymentStrategyDecorator> decorators) {
+        PaymentStrategy decorated = strategy;
+        for (PaymentStrategyDecorator decorator : decorators) {
+            if (decorator.appliesTo(strategy.getProvider())) {
+                decorated = decorator.decorate(decorated);
+            }
+        }
+        return decorated;
     }
 }
@@ -0,0 +1,88 @@
+package com.mudosa.musinsa.payment.application.service;
+
+import com.mudosa.musinsa.payment.application.dto.PaymentResponseDto;
+import com.mudosa.musinsa.payment.application.dto.request.PaymentCancelRequest;
+import com.mudosa.musinsa.payment.application.dto.request.PaymentCancelResponseDto;
+import com.mudosa.musinsa.payment.application.dto.request.PaymentConfirmRequest;
+import com.mudosa.musinsa.payment.domain.model.PgProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * PG 호출 시간을 PG사/작업/결과별 Timer(payment.pg.strategy)로 기록하는 데코레이터
+ */
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class PaymentStrategyMetricsDecorator implements PaymentStrategyDecorator {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public PaymentStrategy decorate(PaymentStrategy strategy) {
+        return new TimedPaymentStrategy(strategy, meterRegistry);
+    }
+
+    private static final class TimedPaymentStrategy implements PaymentStrategy {
+
+        private final PaymentStrategy delegate;
+        private final MeterRegistry meterRegistry;
+        private final String provider;
+
+        private TimedPaymentStrategy(PaymentStrategy delegate, MeterRegistry meterRegistry) {
+            this.delegate = delegate;
+            this.meterRegistry = meterRegistry;
+            this.provider = delegate.getProvider().name();
+        }
+
+        @Override
+        public PaymentResponseDto confirmPayment(PaymentConfirmRequest request) {
+            return record("confirm", () -> delegate.confirmPayment(request));
+        }
+
+        @Override
+        public PaymentCancelResponseDto cancelPayment(PaymentCancelRequest request) {
+            return record("cancel", () -> delegate.cancelPayment(request));
+        }
+
+        @Override
+        public boolean supports(PaymentContext context) {
+            return delegate.supports(context);
+        }
+
+        @Override
+        public PgProvider getProvider() {
+            return delegate.getProvider();
+        }
+
+        @Override
+        public Set<PaymentType> getSupportedPaymentTypes() {
+            return delegate.getSupportedPaymentTypes();
+        }
+
+        private <T> T record(String operation, Supplier<T> call) {
+            long startNanos = System.nanoTime();
+            String outcome = "success";
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                outcome = "error";
+                throw e;
+            } finally {
+                Timer.builder("payment.pg.strategy")
+                        .tag("pg", provider)
+                        .tag("operation", operation)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.mudosa.musinsa.payment.application.service;
+
+import com.mudosa.musinsa.exception.BusinessException;
+import com.mudosa.musinsa.exception.ErrorCode;
+import com.mudosa.musinsa.payment.domain.model.PgProvider;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * PG사 1곳에 대한 서킷 브레이커 + 벌크헤드
+ * - CLOSED: 최근 windowSize건 중 실패율이 임계치를 넘으면 OPEN
+ * - OPEN: openDuration 동안 PG 호출 없이 즉시 PAYMENT_TIMEOUT
+ * - HALF_OPEN: halfOpenProbes건만 통과시켜 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * - 벌크헤드: 동시 호출 수를 maxConcurrentCalls로 제한하고, maxWait 안에 자리가 나지 않으면 즉시 실패
+ */
+@Slf4j
+public class PgCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    public record Settings(
+            int windowSize,
+            int minimumCalls,
+            int failureRateThreshold,
+            long openDurationMillis,
+            int halfOpenProbes,
+            int maxConcurrentCalls,
+            long maxWaitMillis
+    ) {
+    }
+
+    @Getter
+    private final PgProvider provider;
+    private final Settings settings;
+    private final LongSupplier clock;
+    private final Semaphore bulkhead;
+
+    // 최근 호출 결과 링 버퍼 (true = 실패)
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    private final AtomicLong circuitRejections = new AtomicLong();
+    private final AtomicLong bulkheadRejections = new AtomicLong();
+
+    public PgCircuitBreaker(PgProvider provider, Settings settings) {
+        this(provider, settings, System::currentTimeMillis);
+    }
+
+    PgCircuitBreaker(PgProvider provider, Settings settings, LongSupplier clock) {
+        this.provider = provider;
+        this.settings = settings;
+        this.clock = clock;
+        this.bulkhead = new Semaphore(settings.maxConcurrentCalls());
+        this.window = new boolean[settings.windowSize()];
+    }
+
+    public <T> T execute(Supplier<T> call, Predicate<Throwable> isFailure) {
+        State permittedIn = acquirePermission();
+        if (permittedIn == null) {
+            circuitRejections.incrementAndGet();
+            throw new BusinessException(ErrorCode.PAYMENT_TIMEOUT,
+                    String.format("%s PG 장애로 결제 요청을 차단했습니다", provider));
+        }
+
+        if (!acquireBulkhead()) {
+            cancelPermission(permittedIn);
+            bulkheadRejections.incrementAndGet();
+            throw new BusinessException(ErrorCode.PAYMENT_TIMEOUT,
+                    String.format("%s PG 동시 요청 한도를 초과했습니다", provider));
+        }
+
+        try {
+            T result = call.get();
+            onResult(permittedIn, false);
+            return result;
+        } catch (RuntimeException e) {
+            onResult(permittedIn, isFailure.test(e));
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public synchronized State getState() {
+        // OPEN 유지 시간이 지났으면 다음 호출 전이라도 HALF_OPEN으로 노출
+        if (state == State.OPEN && isOpenExpired()) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public long getCircuitRejections() {
+        return circuitRejections.get();
+    }
+
+    public long getBulkheadRejections() {
+        return bulkheadRejections.get();
+    }
+
+    public int getAvailableConcurrentCalls() {
+        return bulkhead.availablePermits();
+    }
+
+    // 통과시킨 시점의 상태, 차단이면 null
+    private synchronized State acquirePermission() {
+        if (state == State.OPEN) {
+            if (!isOpenExpired()) {
+                return null;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= settings.halfOpenProbes()) {
+                return null;
+            }
+            halfOpenInFlight++;
+        }
+        return state;
+    }
+
+    private synchronized void cancelPermission(State permittedIn) {
+        if (permittedIn == State.HALF_OPEN && state == State.HALF_OPEN) {
+            halfOpenInFlight--;
+        }
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(settings.maxWaitMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private synchronized void onResult(State permittedIn, boolean failed) {
+        // 호출 도중 상태가 바뀌었으면 이전 상태에서 시작한 호출 결과는 반영하지 않는다
+        if (permittedIn != state) {
+            return;
+        }
+
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight--;
+            if (failed) {
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSuccesses >= settings.halfOpenProbes()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+
+        record(failed);
+        if (windowCount >= settings.minimumCalls()
+                && windowFailures * 100L >= (long) settings.failureRateThreshold() * windowCount) {
+            log.warn("[PgCircuitBreaker] {} 실패율 초과 - 실패: {}/{}건", provider, windowFailures, windowCount);
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void record(boolean failed) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private boolean isOpenExpired() {
+        return clock.getAsLong() - openedAt >= settings.openDurationMillis();
+    }
+
+    private void transitionTo(State next) {
+        log.info("[PgCircuitBreaker] {} 상태 변경 - {} -> {}", provider, state, next);
+        state = next;
+        if (next == State.OPEN) {
+            openedAt = clock.getAsLong();
+        }
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+    }
+}
@@ -0,0 +1,97 @@
+package com.mudosa.musinsa.payment.application.service;
+
+import com.mudosa.musinsa.exception.BusinessException;
+import com.mudosa.musinsa.exception.ErrorCode;
+import com.mudosa.musinsa.payment.domain.model.PgProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * PG사별 서킷 브레이커 모음
+ * - PG사 하나의 장애가 다른 PG사 결제나 요청 스레드 전체로 번지지 않도록 PgProvider마다 따로 둔다.
+ * - 상태(0: CLOSED, 1: OPEN, 2: HALF_OPEN)와 차단 건수를 Prometheus로 노출한다.
+ */
+@Slf4j
+@Component
+public class PgCircuitBreakerRegistry {
+
+    private final Map<PgProvider, PgCircuitBreaker> breakers = new EnumMap<>(PgProvider.class);
+
+    public PgCircuitBreakerRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${payment.circuit-breaker.window-size:50}") int windowSize,
+            @Value("${payment.circuit-breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${payment.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${payment.circuit-breaker.open-duration-ms:30000}") long openDurationMillis,
+            @Value("${payment.circuit-breaker.half-open-probes:3}") int halfOpenProbes,
+            @Value("${payment.bulkhead.max-concurrent-calls:50}") int maxConcurrentCalls,
+            @Value("${payment.bulkhead.max-wait-ms:100}") long maxWaitMillis) {
+        PgCircuitBreaker.Settings settings = new PgCircuitBreaker.Settings(
+                windowSize, minimumCalls, failureRateThreshold, openDurationMillis,
+                halfOpenProbes, maxConcurrentCalls, maxWaitMillis);
+
+        for (PgProvider provider : PgProvider.values()) {
+            PgCircuitBreaker breaker = new PgCircuitBreaker(provider, settings);
+            breakers.put(provider, breaker);
+            registerMetrics(meterRegistry, breaker);
+        }
+
+        log.info("[PgCircuitBreaker] 초기화 완료 - window: {}, 실패율 임계치: {}%, OPEN 유지: {}ms, 최대 동시 호출: {}",
+                windowSize, failureRateThreshold, openDurationMillis, maxConcurrentCalls);
+    }
+
+    public <T> T execute(PgProvider provider, Supplier<T> call) {
+        return get(provider).execute(call, PgCircuitBreakerRegistry::isPgFailure);
+    }
+
+    public PgCircuitBreaker get(PgProvider provider) {
+        return breakers.get(provider);
+    }
+
+    /*
+     * PG 장애로 볼 예외
+     * - 타임아웃, 재시도 소진 후 PAYMENT_PG_UNAVAILABLE로 변환된 네트워크/5xx, BusinessException이 아닌 예외는 실패로 집계
+     * - 금액 불일치, 승인 거절 같은 업무 예외는 PG가 정상 응답한 것이므로 제외
+     */
+    static boolean isPgFailure(Throwable e) {
+        if (e instanceof BusinessException businessException) {
+            return businessException.getErrorCode() == ErrorCode.PAYMENT_TIMEOUT
+                    || businessException.getErrorCode() == ErrorCode.PAYMENT_PG_UNAVAILABLE;
+        }
+        return true;
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry, PgCircuitBreaker breaker) {
+        String pg = breaker.getProvider().name();
+
+        Gauge.builder("payment.pg.circuit.state", breaker, b -> b.getState().ordinal())
+                .description("PG 서킷 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .tag("pg", pg)
+                .register(meterRegistry);
+
+        Gauge.builder("payment.pg.bulkhead.available", breaker, PgCircuitBreaker::getAvailableConcurrentCalls)
+                .description("PG 벌크헤드 남은 동시 호출 수")
+                .tag("pg", pg)
+                .register(meterRegistry);
+
+        FunctionCounter.builder("payment.pg.rejected", breaker, PgCircuitBreaker::getCircuitRejections)
+                .description("서킷 OPEN으로 차단된 PG 호출 수")
+                .tag("pg", pg)
+                .tag("reason", "circuit_open")
+                .register(meterRegistry);
+
+        FunctionCounter.builder("payment.pg.rejected", breaker, PgCircuitBreaker::getBulkheadRejections)
+                .description("벌크헤드 초과로 차단된 PG 호출 수")
+                .tag("pg", pg)
+                .tag("reason", "bulkhead_full")
+                .register(meterRegistry);
+    }
+}
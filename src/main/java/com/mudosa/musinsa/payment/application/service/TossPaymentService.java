@@ -21,6 +21,7 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.SocketTimeoutException;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.List;
@@ -118,10 +119,7 @@ public class TossPaymentService {
         log.error("[Toss] 모든 재시도 실패 - orderNo: {}, error: {}",
                 request.getOrderId(),
                 e.getMessage());
-        throw new BusinessException(
-                ErrorCode.PAYMENT_APPROVAL_FAILED,
-                e.getMessage()
-        );
+        throw translate(e, ErrorCode.PAYMENT_APPROVAL_FAILED);
     }
 
     @Recover
@@ -141,10 +139,33 @@ public class TossPaymentService {
             TossPaymentCancelRequest request
     ) {
         log.error("[Toss] 취소 재시도 실패 - paymentKey: {}", request.getPaymentKey());
-        throw new BusinessException(
-                ErrorCode.PAYMENT_CANCEL_FAILED,
-                e.getMessage()
-        );
+        throw translate(e, ErrorCode.PAYMENT_CANCEL_FAILED);
+    }
+
+    /*
+     * 재시도 소진 후 예외 변환
+     * - 5xx, 네트워크 오류(상태 코드 없음), 타임아웃(408, SocketTimeoutException)은 PG 장애이므로
+     *   PAYMENT_PG_UNAVAILABLE (서킷 브레이커가 실패로 집계)
+     * - 그 외 4xx는 PG가 정상 응답한 거절이므로 기존 업무 에러 코드 유지
+     */
+    static BusinessException translate(ExternalApiException e, ErrorCode rejectedCode) {
+        if (e.getHttpStatus() == null
+                || e.getHttpStatus().is5xxServerError()
+                || e.getHttpStatus() == HttpStatus.REQUEST_TIMEOUT
+                || isTimeout(e)) {
+            return new BusinessException(ErrorCode.PAYMENT_PG_UNAVAILABLE, e);
+        }
+        return new BusinessException(rejectedCode, e.getMessage());
+    }
+
+    // 읽기 타임아웃, 커넥션 풀 대기 타임아웃은 원인 체인에 SocketTimeoutException으로 남는다
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SocketTimeoutException) {
+                return true;
+            }
+        }
+        return false;
     }
 
     // 헤더 생성 메서드
@@ -22,6 +22,11 @@ public class TossPaymentStrategy implements PaymentStrategy {
 		return context.getPgProvider() == PROVIDER_NAME;
 	}
 
+	@Override
+	public PgProvider getProvider() {
+		return PROVIDER_NAME;
+	}
+
 	@Override
 	public PaymentResponseDto confirmPayment(PaymentConfirmRequest request) {
 		TossPaymentConfirmRequest tossRequest = request.toTossRequest();
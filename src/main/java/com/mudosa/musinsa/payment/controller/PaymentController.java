@@ -1,10 +1,14 @@
 package com.mudosa.musinsa.payment.controller;
 
 import com.mudosa.musinsa.common.dto.ApiResponse;
+import com.mudosa.musinsa.payment.application.dto.PaymentDetailDto;
 import com.mudosa.musinsa.payment.application.dto.request.PaymentCancelRequest;
 import com.mudosa.musinsa.payment.application.dto.request.PaymentConfirmRequest;
 import com.mudosa.musinsa.payment.application.dto.response.PaymentCancelResponse;
+import com.mudosa.musinsa.payment.application.dto.response.PaymentConfirmAcceptedResponse;
 import com.mudosa.musinsa.payment.application.dto.response.PaymentConfirmResponse;
+import com.mudosa.musinsa.payment.application.dto.response.PaymentConfirmStatusResponse;
+import com.mudosa.musinsa.payment.application.service.PaymentFetchService;
 import com.mudosa.musinsa.payment.application.service.PaymentService;
 import com.mudosa.musinsa.payment.domain.repository.PaymentRepository;
 import com.mudosa.musinsa.security.CustomUserDetails;
@@ -13,11 +17,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Tag(name = "Payment", description = "결제 API")
@@ -27,6 +33,7 @@ import java.time.LocalDateTime;
 public class PaymentController {
 
 	private final PaymentService paymentService;
+	private final PaymentFetchService paymentFetchService;
 	private final PaymentRepository paymentRepository;
 
 	@Operation(
@@ -44,6 +51,48 @@ public class PaymentController {
 		return ResponseEntity.ok(ApiResponse.success(response));
 	}
 
+	@Operation(
+			summary = "결제 승인 (비동기)",
+			description = "결제 생성까지 처리한 뒤 토큰을 반환하고, PG 승인은 백그라운드에서 진행합니다. "
+					+ "결과는 /confirm/status/{token} 폴링 또는 /topic/payments/{token} 구독으로 확인합니다.")
+	@PostMapping("/confirm/async")
+	public ResponseEntity<ApiResponse<PaymentConfirmAcceptedResponse>> confirmPaymentAsync(
+			@AuthenticationPrincipal CustomUserDetails userDetails,
+			@Valid @RequestBody PaymentConfirmRequest request) {
+
+		Long userId = userDetails.getUserId();
+
+		PaymentConfirmAcceptedResponse response = paymentService.confirmPaymentAsync(request, userId);
+
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(response));
+	}
+
+	@Operation(
+			summary = "결제 승인 상태 조회",
+			description = "비동기 결제 승인 요청의 진행 상태(PENDING, APPROVED, FAILED)를 조회합니다.")
+	@GetMapping("/confirm/status/{token}")
+	public ResponseEntity<ApiResponse<PaymentConfirmStatusResponse>> getConfirmStatus(
+			@AuthenticationPrincipal CustomUserDetails userDetails,
+			@PathVariable String token) {
+
+		PaymentConfirmStatusResponse response = paymentService.getConfirmStatus(token, userDetails.getUserId());
+
+		return ResponseEntity.ok(ApiResponse.success(response));
+	}
+
+	@Operation(
+			summary = "결제 내역 일괄 조회",
+			description = "여러 주문의 결제 상태/금액/승인 시각을 한 번에 조회합니다. 본인 주문만 요청 순서대로 반환합니다.")
+	@GetMapping("/details")
+	public ResponseEntity<ApiResponse<List<PaymentDetailDto>>> getPaymentDetails(
+			@AuthenticationPrincipal CustomUserDetails userDetails,
+			@RequestParam List<Long> orderIds) {
+
+		List<PaymentDetailDto> response = paymentFetchService.fetchPaymentDetails(userDetails.getUserId(), orderIds);
+
+		return ResponseEntity.ok(ApiResponse.success(response));
+	}
+
 	@Operation(
 			summary = "결제 취소",
 			description = "결제를 취소 합니다."
@@ -8,6 +8,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -15,7 +17,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "payment")
+@Table(name = "payment", indexes = {
+        @Index(name = "idx_payment_pg_transaction_id", columnList = "pg_transaction_id"),
+        @Index(name = "idx_payment_approved_at", columnList = "approved_at"),
+        @Index(name = "idx_payment_order_summary", columnList = "order_id, payment_status, amount, approved_at, method, pg_provider")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Payment extends BaseEntity{
@@ -49,11 +55,16 @@ public class Payment extends BaseEntity{
     @Column(name = "settled_at")
     private LocalDateTime settledAt;
 
-    @OneToMany(mappedBy = "payment", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<PaymentLog> paymentLogs = new ArrayList<>();
+    /*
+     * 아직 발행되지 않은 결제 로그
+     * - 컬렉션에 쌓아 cascade로 저장하지 않고, save 시 PaymentLogEvent로 발행해 PaymentLogWriter가 배치로 기록한다.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final List<PendingLog> pendingLogs = new ArrayList<>();
 
     @Builder
-    private Payment(Long orderId, PaymentStatus status, String currency, String method, BigDecimal amount, PgProvider pgProvider, String pgTransactionId, LocalDateTime approvedAt, LocalDateTime cancelledAt, List<PaymentLog> paymentLogs) {
+    private Payment(Long orderId, PaymentStatus status, String currency, String method, BigDecimal amount, PgProvider pgProvider, String pgTransactionId, LocalDateTime approvedAt, LocalDateTime cancelledAt) {
         this.orderId = orderId;
         this.status = status;
         this.currency = currency != null ? currency : "KRW";
@@ -63,7 +74,6 @@ public class Payment extends BaseEntity{
         this.pgTransactionId = pgTransactionId;
         this.approvedAt = approvedAt;
         this.cancelledAt = cancelledAt;
-        this.paymentLogs = (paymentLogs != null ? paymentLogs : new ArrayList<>());
     }
 
     public static Payment create(
@@ -92,8 +102,7 @@ public class Payment extends BaseEntity{
                 .build();
 
         //결제 로그 추가
-        PaymentLog paymentLog = PaymentLog.create(payment, PaymentEventType.CREATED,null, userId);
-        payment.paymentLogs.add(paymentLog);
+        payment.addLog(PaymentEventType.CREATED, null, userId);
 
         return payment;
     }
@@ -140,8 +149,20 @@ public class Payment extends BaseEntity{
 
     public void addLog(PaymentEventType eventType, String message, Long userId) {
         validateUserId(userId);
-        PaymentLog log = PaymentLog.create(this, eventType, message, userId);
-        this.paymentLogs.add(log);
+        this.pendingLogs.add(new PendingLog(eventType, message, userId, LocalDateTime.now()));
+    }
+
+    /* save 후 Spring Data가 호출 (IDENTITY라 이 시점에는 id가 채워져 있다) */
+    @DomainEvents
+    protected List<PaymentLogEvent> logEvents() {
+        return pendingLogs.stream()
+                .map(pending -> new PaymentLogEvent(id, pending.userId(), pending.eventType(), pending.message(), pending.occurredAt()))
+                .toList();
+    }
+
+    @AfterDomainEventPublication
+    protected void clearLogEvents() {
+        pendingLogs.clear();
     }
 
     private void validateUserId(Long userId) {
@@ -163,6 +184,9 @@ public class Payment extends BaseEntity{
         return this.status == PaymentStatus.APPROVED && this.settledAt == null;
     }
 
+    private record PendingLog(PaymentEventType eventType, String message, Long userId, LocalDateTime occurredAt) {
+    }
+
     private static void validateRequiredParameters(Long orderId, BigDecimal amount, PgProvider pgProvider, Long userId) {
         if (orderId == null) {
             throw new BusinessException(
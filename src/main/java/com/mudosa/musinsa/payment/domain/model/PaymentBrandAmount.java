@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
  * - 정산 배치에서 JOIN 5개 → 1개로 감소
  */
 @Entity
-@Table(name = "payment_brand_amount")
+@Table(name = "payment_brand_amount",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payment_brand_amount_payment_brand", columnNames = {"payment_id", "brand_id"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PaymentBrandAmount {
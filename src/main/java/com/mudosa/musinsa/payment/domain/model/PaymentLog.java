@@ -7,8 +7,16 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 결제 로그 (append-only)
+ * - Payment 컬렉션이 아니라 PaymentLogWriter가 JDBC 배치로 직접 INSERT한다.
+ * - 감사용 기간 조회를 위해 created_at(이벤트 발생 시각) 인덱스를 둔다.
+ */
 @Entity
-@Table(name = "payment_log")
+@Table(name = "payment_log", indexes = {
+        @Index(name = "idx_payment_log_payment_created", columnList = "payment_id, created_at"),
+        @Index(name = "idx_payment_log_created", columnList = "created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PaymentLog extends BaseEntity {
@@ -17,10 +25,9 @@ public class PaymentLog extends BaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "payment_log_id")
     private Long id;
-    
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "payment_id", nullable = false)
-    private Payment payment;
+
+    @Column(name = "payment_id", nullable = false)
+    private Long paymentId;
     
     private Long userId;
 
@@ -30,21 +37,21 @@ public class PaymentLog extends BaseEntity {
     private String eventMessage;
 
     @Builder
-    public PaymentLog(Payment payment, Long userId, PaymentEventType eventStatus, String eventMessage) {
-        this.payment = payment;
+    public PaymentLog(Long paymentId, Long userId, PaymentEventType eventStatus, String eventMessage) {
+        this.paymentId = paymentId;
         this.userId = userId;
         this.eventStatus = eventStatus;
         this.eventMessage = eventMessage;
     }
 
     public static PaymentLog create(
-            Payment payment,
+            Long paymentId,
             PaymentEventType eventStatus,
             String eventMessage,
             Long userId) {
         return PaymentLog.builder()
                 .eventStatus(eventStatus)
-                .payment(payment)
+                .paymentId(paymentId)
                 .eventMessage(eventMessage)
                 .userId(userId)
                 .build();
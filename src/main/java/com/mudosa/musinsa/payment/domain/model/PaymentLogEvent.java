@@ -0,0 +1,15 @@
+package com.mudosa.musinsa.payment.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 상태 변경 로그 이벤트 (Payment 저장 시 발행, payment_log에 append-only로 기록)
+ */
+public record PaymentLogEvent(
+        Long paymentId,
+        Long userId,
+        PaymentEventType eventType,
+        String message,
+        LocalDateTime occurredAt
+) {
+}
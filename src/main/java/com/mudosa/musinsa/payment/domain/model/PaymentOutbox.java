@@ -0,0 +1,88 @@
+package com.mudosa.musinsa.payment.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 승인 후속 작업 Outbox
+ * - 결제 승인과 같은 트랜잭션에 기록해, 승인이 커밋되면 후속 작업도 반드시 남는다.
+ * - PaymentOutboxRelay가 배치로 점유해 처리하고, 실패 시 백오프 후 재시도한다.
+ * - (payment_id, event_type) 유니크로 같은 작업이 두 번 쌓이지 않는다.
+ */
+@Entity
+@Table(name = "payment_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payment_outbox_payment_event", columnNames = {"payment_id", "event_type"}),
+        indexes = @Index(name = "idx_payment_outbox_status_next", columnList = "status, next_attempt_at, outbox_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "payment_id", nullable = false)
+    private Long paymentId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private PaymentOutboxEventType eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PaymentOutboxStatus status;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+
+    @Builder
+    public PaymentOutbox(Long paymentId, Long orderId, Long userId, PaymentOutboxEventType eventType) {
+        this.paymentId = paymentId;
+        this.orderId = orderId;
+        this.userId = userId;
+        this.eventType = eventType;
+        this.status = PaymentOutboxStatus.PENDING;
+        this.attemptCount = 0;
+    }
+
+    public static PaymentOutbox create(Long paymentId, Long orderId, Long userId, PaymentOutboxEventType eventType) {
+        return PaymentOutbox.builder()
+                .paymentId(paymentId)
+                .orderId(orderId)
+                .userId(userId)
+                .eventType(eventType)
+                .build();
+    }
+}
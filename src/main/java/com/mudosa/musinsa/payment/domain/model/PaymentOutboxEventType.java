@@ -0,0 +1,15 @@
+package com.mudosa.musinsa.payment.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PaymentOutboxEventType {
+
+    CART_CLEANUP("장바구니 삭제"),
+
+    BRAND_AMOUNT("브랜드별 금액 저장");
+
+    private final String description;
+}
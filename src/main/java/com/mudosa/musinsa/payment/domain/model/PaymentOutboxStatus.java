@@ -0,0 +1,8 @@
+package com.mudosa.musinsa.payment.domain.model;
+
+public enum PaymentOutboxStatus {
+    PENDING,     // 처리 대기 (재시도 대기 포함)
+    PROCESSING,  // 릴레이가 점유 중 (next_attempt_at까지 점유, 지나면 다시 점유 가능)
+    DONE,        // 처리 완료
+    FAILED       // 최대 재시도 초과, 수동 확인 필요
+}
@@ -0,0 +1,56 @@
+package com.mudosa.musinsa.payment.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * PG 거래 내역 대사 불일치 (paymentReconciliationJob이 JDBC로 기록)
+ * - run_id는 Job 인스턴스 ID (재시작해도 동일)
+ */
+@Entity
+@Table(name = "payment_reconciliation", indexes = {
+        @Index(name = "idx_payment_reconciliation_run_type", columnList = "run_id, mismatch_type"),
+        @Index(name = "idx_payment_reconciliation_pg_tx", columnList = "pg_transaction_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentReconciliation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reconciliation_id")
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mismatch_type", nullable = false, length = 30)
+    private ReconciliationMismatchType mismatchType;
+
+    @Column(name = "pg_transaction_id")
+    private String pgTransactionId;
+
+    @Column(name = "payment_id")
+    private Long paymentId;
+
+    @Column(name = "pg_amount", precision = 15, scale = 2)
+    private BigDecimal pgAmount;
+
+    @Column(name = "payment_amount", precision = 15, scale = 2)
+    private BigDecimal paymentAmount;
+
+    @Column(name = "pg_status", length = 30)
+    private String pgStatus;
+
+    @Column(name = "payment_status", length = 30)
+    private String paymentStatus;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,28 @@
+package com.mudosa.musinsa.payment.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대사 실행 중 PG 파일에서 읽은 거래 ID (임시)
+ * - "결제는 있으나 PG 거래 없음"을 DB에서 NOT EXISTS로 찾기 위해 사용하고, 실행 마지막에 삭제한다.
+ */
+@Entity
+@Table(name = "payment_reconciliation_seen",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reconciliation_seen_run_tx", columnNames = {"run_id", "pg_transaction_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentReconciliationSeen {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "pg_transaction_id", nullable = false)
+    private String pgTransactionId;
+}
@@ -0,0 +1,19 @@
+package com.mudosa.musinsa.payment.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReconciliationMismatchType {
+
+    AMOUNT_MISMATCH("금액 불일치"),
+
+    STATUS_MISMATCH("상태 불일치"),
+
+    MISSING_IN_PAYMENT("PG 거래는 있으나 결제 없음"),
+
+    MISSING_IN_PG("결제는 승인되었으나 PG 거래 없음");
+
+    private final String description;
+}
@@ -1,12 +1,24 @@
 package com.mudosa.musinsa.payment.domain.repository;
 
 import com.mudosa.musinsa.payment.domain.model.PaymentLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PaymentLogRepository extends JpaRepository<PaymentLog, Long> {
     PaymentLog findByPaymentId(Long payment_id);
 
     List<PaymentLog> findAllByPaymentId(Long id);
+
+    /**
+     * 감사용 기간 조회 (created_at = 이벤트 발생 시각)
+     */
+    Slice<PaymentLog> findByCreatedAtGreaterThanEqualAndCreatedAtLessThanOrderByCreatedAtAscIdAsc(
+            LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    List<PaymentLog> findAllByPaymentIdAndCreatedAtBetweenOrderByCreatedAtAsc(
+            Long paymentId, LocalDateTime from, LocalDateTime to);
 }
@@ -0,0 +1,12 @@
+package com.mudosa.musinsa.payment.domain.repository;
+
+import com.mudosa.musinsa.payment.domain.model.PaymentOutbox;
+import com.mudosa.musinsa.payment.domain.model.PaymentOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PaymentOutboxRepository extends JpaRepository<PaymentOutbox, Long> {
+
+    long countByStatus(PaymentOutboxStatus status);
+}
@@ -13,6 +13,7 @@ import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,24 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     Payment findByPgTransactionId(String paymentTransactionId);
 
+    /**
+     * 여러 주문의 결제 요약 조회 (엔티티 로딩 없이 커버링 인덱스로 처리)
+     */
+    @Query("SELECT new com.mudosa.musinsa.payment.domain.repository.PaymentSummary("
+            + "p.id, p.orderId, p.status, p.amount, p.approvedAt, p.method, p.pgProvider) "
+            + "FROM Payment p WHERE p.orderId IN :orderIds")
+    List<PaymentSummary> findSummariesByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 여러 주문의 결제 요약 조회 (userId의 주문만)
+     */
+    @Query("SELECT new com.mudosa.musinsa.payment.domain.repository.PaymentSummary("
+            + "p.id, p.orderId, p.status, p.amount, p.approvedAt, p.method, p.pgProvider) "
+            + "FROM Payment p WHERE p.orderId IN :orderIds "
+            + "AND EXISTS (SELECT 1 FROM Orders o WHERE o.id = p.orderId AND o.user.id = :userId)")
+    List<PaymentSummary> findSummariesByOrderIdsAndUserId(@Param("orderIds") Collection<Long> orderIds,
+                                                         @Param("userId") Long userId);
+
     /**
      * 정산 미생성 + 승인 완료 결제 조회 (Batch Polling용)
      * settledAt이 null이면 정산 미처리 상태
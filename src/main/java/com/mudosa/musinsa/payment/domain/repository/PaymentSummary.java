@@ -0,0 +1,23 @@
+package com.mudosa.musinsa.payment.domain.repository;
+
+import com.mudosa.musinsa.payment.domain.model.PaymentStatus;
+import com.mudosa.musinsa.payment.domain.model.PgProvider;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문별 결제 요약 프로젝션
+ * - idx_payment_order_summary(order_id, payment_status, amount, approved_at, method, pg_provider)만으로 채워지는 컬럼
+ *   (payment_id는 InnoDB 보조 인덱스에 PK로 포함)
+ */
+public record PaymentSummary(
+        Long paymentId,
+        Long orderId,
+        PaymentStatus status,
+        BigDecimal amount,
+        LocalDateTime approvedAt,
+        String method,
+        PgProvider pgProvider
+) {
+}
@@ -0,0 +1,52 @@
+package com.mudosa.musinsa.payment.infrastructure;
+
+import com.mudosa.musinsa.payment.domain.model.PaymentLogEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * payment_log JDBC 배치 INSERT (append-only)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcPaymentLogRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO payment_log (" +
+            "payment_id, user_id, event_status, event_message, created_at, updated_at" +
+            ") VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<PaymentLogEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PaymentLogEvent event = events.get(i);
+                Timestamp occurredAt = Timestamp.valueOf(event.occurredAt());
+                ps.setLong(1, event.paymentId());
+                if (event.userId() != null) {
+                    ps.setLong(2, event.userId());
+                } else {
+                    ps.setNull(2, Types.BIGINT);
+                }
+                ps.setString(3, event.eventType().name());
+                ps.setString(4, event.message());
+                ps.setTimestamp(5, occurredAt);
+                ps.setTimestamp(6, occurredAt);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return events.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,97 @@
+package com.mudosa.musinsa.payment.infrastructure;
+
+import com.mudosa.musinsa.payment.domain.model.PaymentOutboxEventType;
+import com.mudosa.musinsa.payment.domain.model.PaymentOutboxStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * payment_outbox 점유/상태 변경용 JDBC 리포지토리
+ * - 여러 인스턴스의 릴레이가 같은 행을 잡지 않도록 FOR UPDATE SKIP LOCKED로 점유한다.
+ * - 점유 시 next_attempt_at을 점유 만료 시각으로 쓰고, 처리 중 죽은 인스턴스의 행은 만료 후 다시 점유된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcPaymentOutboxRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 처리할 행을 점유하고 PROCESSING으로 변경 (호출 측 트랜잭션 안에서 실행)
+     */
+    public List<OutboxEntry> claim(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        List<OutboxEntry> entries = jdbcTemplate.query("""
+                SELECT outbox_id, payment_id, order_id, user_id, event_type, attempt_count
+                FROM payment_outbox
+                WHERE status IN ('PENDING', 'PROCESSING')
+                  AND next_attempt_at <= ?
+                ORDER BY next_attempt_at, outbox_id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+                """,
+                (rs, rowNum) -> new OutboxEntry(
+                        rs.getLong("outbox_id"),
+                        rs.getLong("payment_id"),
+                        rs.getLong("order_id"),
+                        rs.getObject("user_id", Long.class),
+                        PaymentOutboxEventType.valueOf(rs.getString("event_type")),
+                        rs.getInt("attempt_count")),
+                Timestamp.valueOf(now), limit);
+
+        if (entries.isEmpty()) {
+            return entries;
+        }
+
+        List<Object> params = new ArrayList<>(entries.size() + 1);
+        params.add(Timestamp.valueOf(leaseUntil));
+        entries.forEach(entry -> params.add(entry.id()));
+        jdbcTemplate.update(
+                "UPDATE payment_outbox SET status = 'PROCESSING', next_attempt_at = ? WHERE outbox_id IN ("
+                        + String.join(", ", Collections.nCopies(entries.size(), "?")) + ")",
+                params.toArray());
+        return entries;
+    }
+
+    public void markDone(Long outboxId, LocalDateTime processedAt) {
+        jdbcTemplate.update(
+                "UPDATE payment_outbox SET status = ?, attempt_count = attempt_count + 1, processed_at = ?, last_error = NULL "
+                        + "WHERE outbox_id = ?",
+                PaymentOutboxStatus.DONE.name(), Timestamp.valueOf(processedAt), outboxId);
+    }
+
+    /**
+     * 처리 실패 기록
+     * - nextAttemptAt이 null이면 재시도하지 않고 FAILED로 남긴다.
+     */
+    public void markFailed(Long outboxId, String error, LocalDateTime nextAttemptAt) {
+        PaymentOutboxStatus status = nextAttemptAt == null ? PaymentOutboxStatus.FAILED : PaymentOutboxStatus.PENDING;
+        jdbcTemplate.update(
+                "UPDATE payment_outbox SET status = ?, attempt_count = attempt_count + 1, last_error = ?, "
+                        + "next_attempt_at = COALESCE(?, next_attempt_at) WHERE outbox_id = ?",
+                status.name(), truncate(error), nextAttemptAt == null ? null : Timestamp.valueOf(nextAttemptAt), outboxId);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= 500) {
+            return error;
+        }
+        return error.substring(0, 500);
+    }
+
+    public record OutboxEntry(
+            Long id,
+            Long paymentId,
+            Long orderId,
+            Long userId,
+            PaymentOutboxEventType eventType,
+            int attemptCount
+    ) {
+    }
+}
@@ -0,0 +1,167 @@
+package com.mudosa.musinsa.payment.infrastructure;
+
+import com.mudosa.musinsa.batch.reconciliation.dto.ReconciliationMismatch;
+import com.mudosa.musinsa.payment.domain.model.ReconciliationMismatchType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PG 거래 대사용 JDBC 리포지토리
+ * - payment는 pg_transaction_id 인덱스로 청크 단위 IN 조회만 하고, 결과는 payment_reconciliation에 배치 INSERT한다.
+ * - 파일에서 읽은 거래 ID는 payment_reconciliation_seen에 남겨 MISSING_IN_PG를 NOT EXISTS로 찾는 데 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcPaymentReconciliationRepository {
+
+    private static final String INSERT_MISMATCH_SQL = "INSERT INTO payment_reconciliation (" +
+            "run_id, mismatch_type, pg_transaction_id, payment_id, pg_amount, payment_amount, pg_status, payment_status, created_at" +
+            ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SEEN_SQL =
+            "INSERT IGNORE INTO payment_reconciliation_seen (run_id, pg_transaction_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<String, PaymentSnapshot> findPaymentsByPgTransactionIds(Collection<String> pgTransactionIds) {
+        if (pgTransactionIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, PaymentSnapshot> payments = new HashMap<>(pgTransactionIds.size() * 2);
+        jdbcTemplate.query(
+                "SELECT payment_id, pg_transaction_id, amount, payment_status FROM payment WHERE pg_transaction_id IN ("
+                        + String.join(", ", Collections.nCopies(pgTransactionIds.size(), "?")) + ")",
+                rs -> {
+                    PaymentSnapshot snapshot = new PaymentSnapshot(
+                            rs.getLong("payment_id"),
+                            rs.getString("pg_transaction_id"),
+                            rs.getBigDecimal("amount"),
+                            rs.getString("payment_status"));
+                    payments.put(snapshot.pgTransactionId(), snapshot);
+                },
+                pgTransactionIds.toArray());
+        return payments;
+    }
+
+    public void insertMismatches(long runId, List<ReconciliationMismatch> mismatches) {
+        if (mismatches.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_MISMATCH_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ReconciliationMismatch mismatch = mismatches.get(i);
+                ps.setLong(1, runId);
+                ps.setString(2, mismatch.type().name());
+                ps.setString(3, mismatch.pgTransactionId());
+                if (mismatch.paymentId() != null) {
+                    ps.setLong(4, mismatch.paymentId());
+                } else {
+                    ps.setNull(4, Types.BIGINT);
+                }
+                ps.setBigDecimal(5, mismatch.pgAmount());
+                ps.setBigDecimal(6, mismatch.paymentAmount());
+                ps.setString(7, mismatch.pgStatus());
+                ps.setString(8, mismatch.paymentStatus());
+                ps.setTimestamp(9, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return mismatches.size();
+            }
+        });
+    }
+
+    public void insertSeen(long runId, List<String> pgTransactionIds) {
+        if (pgTransactionIds.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SEEN_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, runId);
+                ps.setString(2, pgTransactionIds.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return pgTransactionIds.size();
+            }
+        });
+    }
+
+    /**
+     * 승인 시각이 [from, to)인 APPROVED 결제 ID를 키셋으로 조회
+     */
+    public List<Long> findApprovedPaymentIds(LocalDateTime from, LocalDateTime to, long afterPaymentId, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT payment_id
+                FROM payment
+                WHERE approved_at >= ?
+                  AND approved_at < ?
+                  AND payment_status = 'APPROVED'
+                  AND payment_id > ?
+                ORDER BY payment_id
+                LIMIT ?
+                """,
+                Long.class, Timestamp.valueOf(from), Timestamp.valueOf(to), afterPaymentId, limit);
+    }
+
+    /**
+     * 주어진 결제 중 파일에 없던 결제를 MISSING_IN_PG로 기록
+     */
+    public int insertMissingInPg(long runId, List<Long> paymentIds) {
+        if (paymentIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> params = new ArrayList<>(paymentIds.size() + 4);
+        params.add(runId);
+        params.add(ReconciliationMismatchType.MISSING_IN_PG.name());
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        params.addAll(paymentIds);
+        params.add(runId);
+        return jdbcTemplate.update("""
+                INSERT INTO payment_reconciliation (
+                    run_id, mismatch_type, pg_transaction_id, payment_id, pg_amount, payment_amount, pg_status, payment_status, created_at
+                )
+                SELECT ?, ?, p.pg_transaction_id, p.payment_id, NULL, p.amount, NULL, p.payment_status, ?
+                FROM payment p
+                WHERE p.payment_id IN (%s)
+                  AND NOT EXISTS (
+                      SELECT 1
+                      FROM payment_reconciliation_seen s
+                      WHERE s.run_id = ?
+                        AND s.pg_transaction_id = p.pg_transaction_id
+                  )
+                """.formatted(String.join(", ", Collections.nCopies(paymentIds.size(), "?"))),
+                params.toArray());
+    }
+
+    public int deleteSeen(long runId, int limit) {
+        return jdbcTemplate.update("DELETE FROM payment_reconciliation_seen WHERE run_id = ? LIMIT ?", runId, limit);
+    }
+
+    public record PaymentSnapshot(Long paymentId, String pgTransactionId, BigDecimal amount, String paymentStatus) {
+    }
+}
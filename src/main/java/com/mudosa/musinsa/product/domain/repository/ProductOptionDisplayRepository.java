@@ -0,0 +1,23 @@
+package com.mudosa.musinsa.product.domain.repository;
+
+import com.mudosa.musinsa.product.domain.model.ProductOption;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductOptionDisplayRepository extends Repository<ProductOption, Long> {
+
+    /**
+     * 여러 옵션의 상품명, 브랜드명, 옵션값, 썸네일을 쿼리 1회로 조회 (엔티티 로딩 없음)
+     */
+    @Query("SELECT new com.mudosa.musinsa.product.domain.repository.ProductOptionDisplayRow("
+            + "po.productOptionId, p.productName, p.brandName, ov.optionName, ov.optionValue, i.imageUrl) "
+            + "FROM ProductOption po JOIN po.product p "
+            + "LEFT JOIN po.productOptionValues pov LEFT JOIN pov.optionValue ov "
+            + "LEFT JOIN p.images i ON i.isThumbnail = true "
+            + "WHERE po.productOptionId IN :productOptionIds")
+    List<ProductOptionDisplayRow> findDisplayRows(@Param("productOptionIds") Collection<Long> productOptionIds);
+}
@@ -0,0 +1,15 @@
+package com.mudosa.musinsa.product.domain.repository;
+
+/**
+ * 주문 화면용 상품 옵션 표시 정보 프로젝션
+ * - 옵션값(option_value)과 썸네일 이미지를 LEFT JOIN하므로 옵션 하나가 여러 행으로 나올 수 있다.
+ */
+public record ProductOptionDisplayRow(
+        Long productOptionId,
+        String productName,
+        String brandName,
+        String optionName,
+        String optionValue,
+        String thumbnailUrl
+) {
+}
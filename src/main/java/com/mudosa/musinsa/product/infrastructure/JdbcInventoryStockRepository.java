@@ -0,0 +1,94 @@
+package com.mudosa.musinsa.product.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * inventory 재고 조건부 증감 JDBC 리포지토리
+ * - 엔티티를 읽고 고치는 대신 DB에서 "재고 >= 수량"일 때만 차감하므로 동시 주문에서도 초과 판매가 없다.
+ * - 호출 측은 productOptionId 오름차순으로 넘겨 트랜잭션 간 행 잠금 순서를 맞춘다 (교착 방지).
+ * - JDBC batch로 보내므로 rewriteBatchedStatements=true면 한 번의 왕복으로 처리된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcInventoryStockRepository {
+
+    private static final String DECREASE_SQL =
+            "UPDATE inventory SET stock_quantity = stock_quantity - ? WHERE product_option_id = ? AND stock_quantity >= ?";
+
+    private static final String INCREASE_SQL =
+            "UPDATE inventory SET stock_quantity = stock_quantity + ? WHERE product_option_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 재고 차감 (변경마다 영향 행 수 반환, 0이면 재고 부족 또는 재고 행 없음)
+     */
+    public int[] decrease(List<StockChange> changes) {
+        if (changes.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(DECREASE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                StockChange change = changes.get(i);
+                ps.setInt(1, change.quantity());
+                ps.setLong(2, change.productOptionId());
+                ps.setInt(3, change.quantity());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return changes.size();
+            }
+        });
+    }
+
+    public int[] increase(List<StockChange> changes) {
+        if (changes.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(INCREASE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                StockChange change = changes.get(i);
+                ps.setInt(1, change.quantity());
+                ps.setLong(2, change.productOptionId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return changes.size();
+            }
+        });
+    }
+
+    public Map<Long, Integer> findStockQuantities(Collection<Long> productOptionIds) {
+        if (productOptionIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Integer> quantities = new HashMap<>(productOptionIds.size() * 2);
+        jdbcTemplate.query(
+                "SELECT product_option_id, stock_quantity FROM inventory WHERE product_option_id IN ("
+                        + String.join(", ", Collections.nCopies(productOptionIds.size(), "?")) + ")",
+                rs -> {
+                    quantities.put(rs.getLong("product_option_id"), rs.getInt("stock_quantity"));
+                },
+                productOptionIds.toArray());
+        return quantities;
+    }
+
+    public record StockChange(Long productOptionId, int quantity) {
+    }
+}
@@ -1,7 +1,7 @@
 package com.mudosa.musinsa.settlement.application;
 
-import com.mudosa.musinsa.brand.domain.model.Brand;
-import com.mudosa.musinsa.brand.domain.repository.BrandRepository;
+import com.mudosa.musinsa.brand.domain.service.BrandNameCache;
+import com.mudosa.musinsa.common.dto.CursorResponse;
 import com.mudosa.musinsa.common.vo.Money;
 import com.mudosa.musinsa.exception.BusinessException;
 import com.mudosa.musinsa.exception.ErrorCode;
@@ -10,6 +10,7 @@ import com.mudosa.musinsa.settlement.domain.model.SettlementMonthly;
 import com.mudosa.musinsa.settlement.domain.model.SettlementWeekly;
 import com.mudosa.musinsa.settlement.domain.model.SettlementYearly;
 import com.mudosa.musinsa.settlement.domain.model.SettlementPerTransaction;
+import com.mudosa.musinsa.settlement.domain.model.SettlementStatus;
 import com.mudosa.musinsa.settlement.domain.repository.SettlementDailyRepository;
 import com.mudosa.musinsa.settlement.domain.repository.SettlementMonthlyRepository;
 import com.mudosa.musinsa.settlement.domain.repository.SettlementPerTransactionRepository;
@@ -19,17 +20,16 @@ import com.mudosa.musinsa.settlement.presentation.dto.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.WeekFields;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -42,7 +42,7 @@ public class SettlementQueryService {
     private final SettlementMonthlyRepository monthlyRepository;
     private final SettlementYearlyRepository yearlyRepository;
     private final SettlementPerTransactionRepository perTransactionRepository;
-    private final BrandRepository brandRepository;
+    private final BrandNameCache brandNameCache;
 
     
     public Page<SettlementDailyResponse> getDailySettlements(Long brandId, Pageable pageable) {
@@ -57,10 +57,12 @@ public class SettlementQueryService {
             pageable
         );
 
-        return settlements.map(settlement -> {
-            String brandName = getBrandName(settlement.getBrandId());
-            return SettlementDailyResponse.from(settlement, brandName);
-        });
+        Map<Long, String> brandNames = getBrandNames(settlements.getContent().stream()
+            .map(SettlementDaily::getBrandId)
+            .toList());
+
+        return settlements.map(settlement ->
+            SettlementDailyResponse.from(settlement, brandNames.get(settlement.getBrandId())));
     }
 
     
@@ -79,18 +81,64 @@ public class SettlementQueryService {
     public Page<SettlementWeeklyResponse> getWeeklySettlements(Long brandId, Pageable pageable) {
         log.info("주간 정산 목록 조회 - brandId: {}", brandId);
 
-        List<SettlementWeekly> allSettlements = weeklyRepository.findByBrandIdOrderByWeekStartDateDesc(brandId);
-        String brandName = getBrandName(brandId);
+        Page<SettlementWeekly> settlements = weeklyRepository.findAllWithFilters(
+            brandId,
+            null,
+            null,
+            null,
+            null,
+            pageable
+        );
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), allSettlements.size());
+        Map<Long, String> brandNames = getBrandNames(settlements.getContent().stream()
+            .map(SettlementWeekly::getBrandId)
+            .toList());
 
-        List<SettlementWeeklyResponse> responseList = allSettlements.subList(start, end)
-            .stream()
-            .map(settlement -> SettlementWeeklyResponse.from(settlement, brandName))
-            .collect(Collectors.toList());
+        return settlements.map(settlement ->
+            SettlementWeeklyResponse.from(settlement, brandNames.get(settlement.getBrandId())));
+    }
 
-        return new PageImpl<>(responseList, pageable, allSettlements.size());
+    // 커서 형식: "{weekStartDate}:{id}" (예: 2025-03-03:1024)
+    public CursorResponse<SettlementWeeklyResponse> getWeeklySettlementsByCursor(
+        Long brandId,
+        LocalDate startDate,
+        LocalDate endDate,
+        SettlementStatus status,
+        String cursor,
+        int size
+    ) {
+        log.info("주간 정산 커서 조회 - brandId: {}, cursor: {}, size: {}", brandId, cursor, size);
+
+        LocalDate cursorWeekStartDate = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = splitCursor(cursor);
+            try {
+                cursorWeekStartDate = LocalDate.parse(parts[0]);
+            } catch (DateTimeParseException e) {
+                throw new BusinessException(ErrorCode.VALIDATION_ERROR, "잘못된 커서 형식입니다: " + cursor);
+            }
+            cursorId = parseCursorId(parts[1], cursor);
+        }
+
+        // 다음 페이지 존재 여부 판단을 위해 size + 1건 조회
+        List<SettlementWeekly> rows = weeklyRepository.findAllWithFiltersAfter(
+            brandId, startDate, endDate, status, cursorWeekStartDate, cursorId, size + 1
+        );
+        boolean hasNext = rows.size() > size;
+        List<SettlementWeekly> page = hasNext ? rows.subList(0, size) : rows;
+
+        Map<Long, String> brandNames = getBrandNames(page.stream().map(SettlementWeekly::getBrandId).toList());
+        List<SettlementWeeklyResponse> content = page.stream()
+            .map(settlement -> SettlementWeeklyResponse.from(settlement, brandNames.get(settlement.getBrandId())))
+            .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            SettlementWeekly last = page.get(page.size() - 1);
+            nextCursor = last.getWeekStartDate() + ":" + last.getId();
+        }
+        return CursorResponse.of(content, nextCursor, size);
     }
 
     
@@ -118,10 +166,12 @@ public class SettlementQueryService {
             pageable
         );
 
-        return settlements.map(settlement -> {
-            String brandName = getBrandName(settlement.getBrandId());
-            return SettlementMonthlyResponse.from(settlement, brandName);
-        });
+        Map<Long, String> brandNames = getBrandNames(settlements.getContent().stream()
+            .map(SettlementMonthly::getBrandId)
+            .toList());
+
+        return settlements.map(settlement ->
+            SettlementMonthlyResponse.from(settlement, brandNames.get(settlement.getBrandId())));
     }
 
     
@@ -140,18 +190,63 @@ public class SettlementQueryService {
     public Page<SettlementYearlyResponse> getYearlySettlements(Long brandId, Pageable pageable) {
         log.info("연간 정산 목록 조회 - brandId: {}", brandId);
 
-        List<SettlementYearly> allSettlements = yearlyRepository.findByBrandIdOrderBySettlementYearDesc(brandId);
-        String brandName = getBrandName(brandId);
+        Page<SettlementYearly> settlements = yearlyRepository.findAllWithFilters(
+            brandId,
+            null,
+            null,
+            null,
+            null,
+            pageable
+        );
+
+        Map<Long, String> brandNames = getBrandNames(settlements.getContent().stream()
+            .map(SettlementYearly::getBrandId)
+            .toList());
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), allSettlements.size());
+        return settlements.map(settlement ->
+            SettlementYearlyResponse.from(settlement, brandNames.get(settlement.getBrandId())));
+    }
 
-        List<SettlementYearlyResponse> responseList = allSettlements.subList(start, end)
-            .stream()
-            .map(settlement -> SettlementYearlyResponse.from(settlement, brandName))
-            .collect(Collectors.toList());
+    // 커서 형식: "{settlementYear}:{id}" (예: 2024:87)
+    public CursorResponse<SettlementYearlyResponse> getYearlySettlementsByCursor(
+        Long brandId,
+        Integer startYear,
+        Integer endYear,
+        SettlementStatus status,
+        String cursor,
+        int size
+    ) {
+        log.info("연간 정산 커서 조회 - brandId: {}, cursor: {}, size: {}", brandId, cursor, size);
+
+        Integer cursorYear = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = splitCursor(cursor);
+            try {
+                cursorYear = Integer.parseInt(parts[0]);
+            } catch (NumberFormatException e) {
+                throw new BusinessException(ErrorCode.VALIDATION_ERROR, "잘못된 커서 형식입니다: " + cursor);
+            }
+            cursorId = parseCursorId(parts[1], cursor);
+        }
 
-        return new PageImpl<>(responseList, pageable, allSettlements.size());
+        List<SettlementYearly> rows = yearlyRepository.findAllWithFiltersAfter(
+            brandId, startYear, endYear, status, cursorYear, cursorId, size + 1
+        );
+        boolean hasNext = rows.size() > size;
+        List<SettlementYearly> page = hasNext ? rows.subList(0, size) : rows;
+
+        Map<Long, String> brandNames = getBrandNames(page.stream().map(SettlementYearly::getBrandId).toList());
+        List<SettlementYearlyResponse> content = page.stream()
+            .map(settlement -> SettlementYearlyResponse.from(settlement, brandNames.get(settlement.getBrandId())))
+            .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            SettlementYearly last = page.get(page.size() - 1);
+            nextCursor = last.getSettlementYear() + ":" + last.getId();
+        }
+        return CursorResponse.of(content, nextCursor, size);
     }
 
     
@@ -352,9 +447,27 @@ public class SettlementQueryService {
 
     
     private String getBrandName(Long brandId) {
-        Brand brand = brandRepository.findById(brandId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.BRAND_NOT_FOUND));
+        return brandNameCache.getName(brandId);
+    }
+
+    private String[] splitCursor(String cursor) {
+        String[] parts = cursor.split(":", 2);
+        if (parts.length != 2) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "잘못된 커서 형식입니다: " + cursor);
+        }
+        return parts;
+    }
+
+    private Long parseCursorId(String value, String cursor) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "잘못된 커서 형식입니다: " + cursor);
+        }
+    }
 
-        return brand.getNameKo();
+    // 페이지 내 브랜드명을 캐시 + findAllById 1회로 조회
+    private Map<Long, String> getBrandNames(List<Long> brandIds) {
+        return brandNameCache.getNames(brandIds);
     }
 }
\ No newline at end of file
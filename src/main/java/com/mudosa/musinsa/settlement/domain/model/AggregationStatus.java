@@ -1,3 +1,7 @@
 package com.mudosa.musinsa.settlement.domain.model;
 
 public enum AggregationStatus {
+    NOT_AGGREGATED,
+    PROCESSING,
+    AGGREGATED
+}
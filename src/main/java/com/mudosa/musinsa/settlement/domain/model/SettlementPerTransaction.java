@@ -1,6 +1,7 @@
 package com.mudosa.musinsa.settlement.domain.model;
 
 import com.mudosa.musinsa.common.domain.model.CreatedOnlyEntity;
+import com.mudosa.musinsa.common.vo.FixedPointMoney;
 import com.mudosa.musinsa.common.vo.Money;
 import jakarta.persistence.*;
 import lombok.*;
@@ -14,7 +15,13 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
 @Entity
-@Table(name = "settlements_per_transaction")
+@Table(
+    name = "settlements_per_transaction",
+    indexes = {
+        @Index(name = "idx_spt_aggregation_status", columnList = "aggregation_status, settlement_transaction_id"),
+        @Index(name = "idx_spt_aggregation_run", columnList = "aggregation_run_id")
+    }
+)
 @Getter
 @Builder(access = AccessLevel.PUBLIC)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -73,6 +80,14 @@ public class SettlementPerTransaction extends CreatedOnlyEntity {
     @Builder.Default
     private AggregationStatus aggregationStatus = AggregationStatus.NOT_AGGREGATED;
 
+    // 집계 실행이 선점(claim)한 행 표시 (PROCESSING 동안만 유효)
+    @Column(name = "aggregation_run_id", length = 36)
+    private String aggregationRunId;
+
+    // 선점 시각 (lease): 기동 시 복구는 lease가 지난 선점만 해제한다
+    @Column(name = "aggregation_claimed_at")
+    private LocalDateTime aggregationClaimedAt;
+
     
     public static SettlementPerTransaction createTransaction(
         Long brandId,
@@ -98,15 +113,20 @@ public class SettlementPerTransaction extends CreatedOnlyEntity {
             userZoneId = ZoneId.of("UTC");
         }
 
-        Money commissionAmount = transactionAmount
-            .multiply(commissionRate)
-            .divide(100)
-            .roundToWon();
+        // 수수료 = round2(금액 × 요율) ÷ 100 → 원 단위 반올림, 세금 = 수수료 × 10% → 원 단위 반올림
+        // Money 연산과 동일한 HALF_UP 결과를 long(1/100원) 연산으로 계산해 중간 객체 생성을 줄인다
+        long transactionMinor = FixedPointMoney.toMinor(transactionAmount);
+
+        long commissionMinor = FixedPointMoney.roundToWon(
+            FixedPointMoney.divide(FixedPointMoney.multiplyRate(transactionMinor, commissionRate), 100)
+        );
+
+        long taxMinor = FixedPointMoney.roundToWon(
+            FixedPointMoney.divide(FixedPointMoney.multiply(commissionMinor, 10), 100)
+        );
 
-        Money taxAmount = commissionAmount
-            .multiply(BigDecimal.valueOf(10))
-            .divide(100)
-            .roundToWon();
+        Money commissionAmount = Money.ofMinor(commissionMinor);
+        Money taxAmount = Money.ofMinor(taxMinor);
 
         return builder()
             .brandId(brandId)
@@ -19,7 +19,8 @@ import java.time.ZoneId;
     },
     indexes = {
         @Index(name = "idx_weekly_brand_year_month_week", columnList = "brand_id, settlement_year, settlement_month, week_of_month"),
-        @Index(name = "idx_weekly_settlement_status", columnList = "settlement_status")
+        @Index(name = "idx_weekly_settlement_status", columnList = "settlement_status"),
+        @Index(name = "idx_weekly_brand_week_start", columnList = "brand_id, week_start_date, weekly_settlement_id")
     }
 )
 @Getter
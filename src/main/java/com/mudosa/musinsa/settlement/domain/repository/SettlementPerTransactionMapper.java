@@ -17,15 +17,17 @@ public interface SettlementPerTransactionMapper {
 
     List<DailyAggregationDto> aggregateNotAggregated();
 
-    List<DailyAggregationDto> aggregateProcessing();
+    int releaseExpiredClaims(@Param("leaseSeconds") long leaseSeconds);
 
-    int updateStatusToProcessing();
+    int countProcessing();
 
-    int updateProcessingToAggregated();
+    List<Long> selectClaimableIds(@Param("limit") int limit);
 
-    int resetProcessingToNotAggregated();
+    int claimByIds(@Param("runId") String runId, @Param("ids") List<Long> ids);
 
-    int countProcessing();
+    List<DailyAggregationDto> aggregateByRunId(@Param("runId") String runId);
+
+    int updateRunToAggregated(@Param("runId") String runId);
 
-    int updateAggregationStatusToAggregated();
+    int releaseRun(@Param("runId") String runId);
 }
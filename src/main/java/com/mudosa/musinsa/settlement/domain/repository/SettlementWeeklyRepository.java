@@ -12,7 +12,7 @@ import java.util.List;
 import java.util.Map;
 
 @Repository
-public interface SettlementWeeklyRepository extends JpaRepository<SettlementWeekly, Long> {
+public interface SettlementWeeklyRepository extends JpaRepository<SettlementWeekly, Long>, SettlementWeeklyRepositoryCustom {
 
     
     List<SettlementWeekly> findByBrandIdOrderByWeekStartDateDesc(Long brandId);
@@ -0,0 +1,33 @@
+package com.mudosa.musinsa.settlement.domain.repository;
+
+import com.mudosa.musinsa.settlement.domain.model.SettlementStatus;
+import com.mudosa.musinsa.settlement.domain.model.SettlementWeekly;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SettlementWeeklyRepositoryCustom {
+
+    
+    Page<SettlementWeekly> findAllWithFilters(
+        Long brandId,
+        LocalDate startDate,
+        LocalDate endDate,
+        SettlementStatus status,
+        String searchTerm,
+        Pageable pageable
+    );
+
+    // (weekStartDate, id) 내림차순 키셋 조회 - 커서가 null이면 첫 페이지
+    List<SettlementWeekly> findAllWithFiltersAfter(
+        Long brandId,
+        LocalDate startDate,
+        LocalDate endDate,
+        SettlementStatus status,
+        LocalDate cursorWeekStartDate,
+        Long cursorId,
+        int limit
+    );
+}
@@ -0,0 +1,125 @@
+package com.mudosa.musinsa.settlement.domain.repository;
+
+import com.mudosa.musinsa.settlement.domain.model.QSettlementWeekly;
+import com.mudosa.musinsa.settlement.domain.model.SettlementStatus;
+import com.mudosa.musinsa.settlement.domain.model.SettlementWeekly;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class SettlementWeeklyRepositoryImpl implements SettlementWeeklyRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private static final QSettlementWeekly qSettlementWeekly = QSettlementWeekly.settlementWeekly;
+
+    @Override
+    public Page<SettlementWeekly> findAllWithFilters(
+        Long brandId,
+        LocalDate startDate,
+        LocalDate endDate,
+        SettlementStatus status,
+        String searchTerm,
+        Pageable pageable
+    ) {
+
+        BooleanBuilder builder = buildFilters(brandId, startDate, endDate, status);
+
+        if (searchTerm != null && !searchTerm.isBlank()) {
+            builder.and(qSettlementWeekly.settlementNumber.containsIgnoreCase(searchTerm));
+        }
+
+        JPAQuery<SettlementWeekly> query = queryFactory
+            .selectFrom(qSettlementWeekly)
+            .where(builder)
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize());
+
+        if (pageable.getSort().isSorted()) {
+            pageable.getSort().forEach(order -> {
+                String property = order.getProperty();
+                if ("weekStartDate".equals(property)) {
+                    query.orderBy(order.isAscending()
+                        ? qSettlementWeekly.weekStartDate.asc()
+                        : qSettlementWeekly.weekStartDate.desc());
+                } else if ("id".equals(property)) {
+                    query.orderBy(order.isAscending()
+                        ? qSettlementWeekly.id.asc()
+                        : qSettlementWeekly.id.desc());
+                }
+            });
+        } else {
+
+            query.orderBy(qSettlementWeekly.weekStartDate.desc(), qSettlementWeekly.id.desc());
+        }
+
+        List<SettlementWeekly> content = query.fetch();
+
+        Long total = queryFactory
+            .select(qSettlementWeekly.count())
+            .from(qSettlementWeekly)
+            .where(builder)
+            .fetchOne();
+
+        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    }
+
+    @Override
+    public List<SettlementWeekly> findAllWithFiltersAfter(
+        Long brandId,
+        LocalDate startDate,
+        LocalDate endDate,
+        SettlementStatus status,
+        LocalDate cursorWeekStartDate,
+        Long cursorId,
+        int limit
+    ) {
+
+        BooleanBuilder builder = buildFilters(brandId, startDate, endDate, status);
+
+        // 정렬 키 (weekStartDate DESC, id DESC) 기준으로 커서 이후 행만 조회
+        if (cursorWeekStartDate != null && cursorId != null) {
+            builder.and(qSettlementWeekly.weekStartDate.lt(cursorWeekStartDate)
+                .or(qSettlementWeekly.weekStartDate.eq(cursorWeekStartDate)
+                    .and(qSettlementWeekly.id.lt(cursorId))));
+        }
+
+        return queryFactory
+            .selectFrom(qSettlementWeekly)
+            .where(builder)
+            .orderBy(qSettlementWeekly.weekStartDate.desc(), qSettlementWeekly.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    private BooleanBuilder buildFilters(Long brandId, LocalDate startDate, LocalDate endDate, SettlementStatus status) {
+        BooleanBuilder builder = new BooleanBuilder();
+
+        if (brandId != null) {
+            builder.and(qSettlementWeekly.brandId.eq(brandId));
+        }
+
+        if (startDate != null) {
+            builder.and(qSettlementWeekly.weekStartDate.goe(startDate));
+        }
+
+        if (endDate != null) {
+            builder.and(qSettlementWeekly.weekStartDate.loe(endDate));
+        }
+
+        if (status != null) {
+            builder.and(qSettlementWeekly.settlementStatus.eq(status));
+        }
+
+        return builder;
+    }
+}
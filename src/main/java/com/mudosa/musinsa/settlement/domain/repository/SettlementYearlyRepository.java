@@ -10,7 +10,7 @@ import java.util.List;
 import java.util.Map;
 
 @Repository
-public interface SettlementYearlyRepository extends JpaRepository<SettlementYearly, Long> {
+public interface SettlementYearlyRepository extends JpaRepository<SettlementYearly, Long>, SettlementYearlyRepositoryCustom {
 
     
     List<SettlementYearly> findByBrandIdOrderBySettlementYearDesc(Long brandId);
@@ -0,0 +1,32 @@
+package com.mudosa.musinsa.settlement.domain.repository;
+
+import com.mudosa.musinsa.settlement.domain.model.SettlementStatus;
+import com.mudosa.musinsa.settlement.domain.model.SettlementYearly;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface SettlementYearlyRepositoryCustom {
+
+    
+    Page<SettlementYearly> findAllWithFilters(
+        Long brandId,
+        Integer startYear,
+        Integer endYear,
+        SettlementStatus status,
+        String searchTerm,
+        Pageable pageable
+    );
+
+    // (settlementYear, id) 내림차순 키셋 조회 - 커서가 null이면 첫 페이지
+    List<SettlementYearly> findAllWithFiltersAfter(
+        Long brandId,
+        Integer startYear,
+        Integer endYear,
+        SettlementStatus status,
+        Integer cursorYear,
+        Long cursorId,
+        int limit
+    );
+}
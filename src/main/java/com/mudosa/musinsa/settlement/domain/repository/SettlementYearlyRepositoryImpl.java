@@ -0,0 +1,124 @@
+package com.mudosa.musinsa.settlement.domain.repository;
+
+import com.mudosa.musinsa.settlement.domain.model.QSettlementYearly;
+import com.mudosa.musinsa.settlement.domain.model.SettlementStatus;
+import com.mudosa.musinsa.settlement.domain.model.SettlementYearly;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class SettlementYearlyRepositoryImpl implements SettlementYearlyRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private static final QSettlementYearly qSettlementYearly = QSettlementYearly.settlementYearly;
+
+    @Override
+    public Page<SettlementYearly> findAllWithFilters(
+        Long brandId,
+        Integer startYear,
+        Integer endYear,
+        SettlementStatus status,
+        String searchTerm,
+        Pageable pageable
+    ) {
+
+        BooleanBuilder builder = buildFilters(brandId, startYear, endYear, status);
+
+        if (searchTerm != null && !searchTerm.isBlank()) {
+            builder.and(qSettlementYearly.settlementNumber.containsIgnoreCase(searchTerm));
+        }
+
+        JPAQuery<SettlementYearly> query = queryFactory
+            .selectFrom(qSettlementYearly)
+            .where(builder)
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize());
+
+        if (pageable.getSort().isSorted()) {
+            pageable.getSort().forEach(order -> {
+                String property = order.getProperty();
+                if ("settlementYear".equals(property)) {
+                    query.orderBy(order.isAscending()
+                        ? qSettlementYearly.settlementYear.asc()
+                        : qSettlementYearly.settlementYear.desc());
+                } else if ("id".equals(property)) {
+                    query.orderBy(order.isAscending()
+                        ? qSettlementYearly.id.asc()
+                        : qSettlementYearly.id.desc());
+                }
+            });
+        } else {
+
+            query.orderBy(qSettlementYearly.settlementYear.desc(), qSettlementYearly.id.desc());
+        }
+
+        List<SettlementYearly> content = query.fetch();
+
+        Long total = queryFactory
+            .select(qSettlementYearly.count())
+            .from(qSettlementYearly)
+            .where(builder)
+            .fetchOne();
+
+        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    }
+
+    @Override
+    public List<SettlementYearly> findAllWithFiltersAfter(
+        Long brandId,
+        Integer startYear,
+        Integer endYear,
+        SettlementStatus status,
+        Integer cursorYear,
+        Long cursorId,
+        int limit
+    ) {
+
+        BooleanBuilder builder = buildFilters(brandId, startYear, endYear, status);
+
+        // 정렬 키 (settlementYear DESC, id DESC) 기준으로 커서 이후 행만 조회
+        if (cursorYear != null && cursorId != null) {
+            builder.and(qSettlementYearly.settlementYear.lt(cursorYear)
+                .or(qSettlementYearly.settlementYear.eq(cursorYear)
+                    .and(qSettlementYearly.id.lt(cursorId))));
+        }
+
+        return queryFactory
+            .selectFrom(qSettlementYearly)
+            .where(builder)
+            .orderBy(qSettlementYearly.settlementYear.desc(), qSettlementYearly.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    private BooleanBuilder buildFilters(Long brandId, Integer startYear, Integer endYear, SettlementStatus status) {
+        BooleanBuilder builder = new BooleanBuilder();
+
+        if (brandId != null) {
+            builder.and(qSettlementYearly.brandId.eq(brandId));
+        }
+
+        if (startYear != null) {
+            builder.and(qSettlementYearly.settlementYear.goe(startYear));
+        }
+
+        if (endYear != null) {
+            builder.and(qSettlementYearly.settlementYear.loe(endYear));
+        }
+
+        if (status != null) {
+            builder.and(qSettlementYearly.settlementStatus.eq(status));
+        }
+
+        return builder;
+    }
+}
@@ -1,5 +1,6 @@
 package com.mudosa.musinsa.settlement.domain.service;
 
+import com.mudosa.musinsa.common.vo.FixedPointMoney;
 import com.mudosa.musinsa.common.vo.Money;
 import com.mudosa.musinsa.exception.BusinessException;
 import com.mudosa.musinsa.exception.ErrorCode;
@@ -8,13 +9,13 @@ import com.mudosa.musinsa.settlement.domain.repository.PgFeePolicyRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
@@ -25,35 +26,38 @@ public class PgFeeCalculator {
 
     private static final String DEFAULT_PG_PROVIDER = "TOSS";
 
-    private Map<String, List<PgFeePolicy>> policyCache = new ConcurrentHashMap<>();
+    // 재구성 시 통째로 교체 (조회 중인 스레드는 이전 테이블을 그대로 사용)
+    private volatile PgFeePolicyTable policyTable = PgFeePolicyTable.EMPTY;
+
+    // LocalDate.now() 호출 없이 오늘 날짜를 구하기 위한 캐시 (자정이 지나면 갱신)
+    private volatile long todayEpochDay;
+    private volatile long nextDayStartMillis;
 
     @PostConstruct
     public void initCache() {
         refreshCache();
     }
 
+    @Scheduled(
+        fixedDelayString = "${settlement.pg-fee.refresh-interval-ms:60000}",
+        initialDelayString = "${settlement.pg-fee.refresh-interval-ms:60000}"
+    )
+    public void scheduledRefresh() {
+        refreshCache();
+    }
+
     public void refreshCache() {
         List<PgFeePolicy> allPolicies = pgFeePolicyRepository.findAll();
 
-        policyCache.clear();
-
-        allPolicies.stream()
-            .filter(PgFeePolicy::isActive)
-            .forEach(policy -> {
-                String key = buildCacheKey(policy.getPgProvider(), policy.getPaymentMethod());
-                policyCache.computeIfAbsent(key, k -> new java.util.ArrayList<>()).add(policy);
-            });
+        PgFeePolicyTable table = PgFeePolicyTable.of(allPolicies);
+        this.policyTable = table;
 
         log.info("[PgFeeCalculator] 캐시 초기화 완료 - 총 {}건, {}개 조합",
-            allPolicies.size(), policyCache.size());
-    }
-
-    private String buildCacheKey(String pgProvider, String paymentMethod) {
-        return pgProvider + "_" + paymentMethod;
+            allPolicies.size(), table.getCombinationCount());
     }
 
     public Money calculate(String pgProvider, String paymentMethod, Money transactionAmount) {
-        return calculate(pgProvider, paymentMethod, transactionAmount, LocalDate.now());
+        return calculate(pgProvider, paymentMethod, transactionAmount, currentEpochDay());
     }
 
     public Money calculate(
@@ -62,6 +66,15 @@ public class PgFeeCalculator {
         Money transactionAmount,
         LocalDate targetDate
     ) {
+        return calculate(pgProvider, paymentMethod, transactionAmount, targetDate.toEpochDay());
+    }
+
+    private Money calculate(
+        String pgProvider,
+        String paymentMethod,
+        Money transactionAmount,
+        long targetEpochDay
+    ) {
 
         if (pgProvider == null) {
             log.warn("⚠️ [PG사 정보 누락] pgProvider가 null입니다. 기본 PG사({}) 사용", DEFAULT_PG_PROVIDER);
@@ -76,44 +89,39 @@ public class PgFeeCalculator {
             );
         }
 
-        String finalPgProvider = pgProvider;
-        String finalPaymentMethod = paymentMethod;
-
-        return findEffectivePolicyFromCache(pgProvider, paymentMethod, targetDate)
-            .map(policy -> calculateFromPolicy(policy, transactionAmount))
-            .orElseThrow(() -> {
-                log.error("⚠️ [PG 수수료 정책 없음] PG사: {}, 결제수단: {}, 날짜: {}",
-                    finalPgProvider, finalPaymentMethod, targetDate);
-                return new BusinessException(
-                    ErrorCode.PG_FEE_POLICY_NOT_FOUND,
-                    String.format("PG 수수료 정책을 찾을 수 없습니다. PG사: %s, 결제수단: %s, 날짜: %s",
-                        finalPgProvider, finalPaymentMethod, targetDate)
-                );
-            });
-    }
-
-    private Optional<PgFeePolicy> findEffectivePolicyFromCache(
-        String pgProvider,
-        String paymentMethod,
-        LocalDate targetDate
-    ) {
-        String key = buildCacheKey(pgProvider, paymentMethod);
-        List<PgFeePolicy> policies = policyCache.get(key);
-
-        if (policies == null || policies.isEmpty()) {
-            return Optional.empty();
+        PgFeePolicyTable.Entry policy = policyTable.find(pgProvider, paymentMethod, targetEpochDay);
+        if (policy == null) {
+            LocalDate targetDate = LocalDate.ofEpochDay(targetEpochDay);
+            log.error("⚠️ [PG 수수료 정책 없음] PG사: {}, 결제수단: {}, 날짜: {}",
+                pgProvider, paymentMethod, targetDate);
+            throw new BusinessException(
+                ErrorCode.PG_FEE_POLICY_NOT_FOUND,
+                String.format("PG 수수료 정책을 찾을 수 없습니다. PG사: %s, 결제수단: %s, 날짜: %s",
+                    pgProvider, paymentMethod, targetDate)
+            );
         }
 
-        return policies.stream()
-            .filter(p -> p.getEffectiveFrom() != null && !p.getEffectiveFrom().isAfter(targetDate))
-            .filter(p -> p.getEffectiveTo() == null || !p.getEffectiveTo().isBefore(targetDate))
-            .max((a, b) -> a.getEffectiveFrom().compareTo(b.getEffectiveFrom()));
+        return calculateFromPolicy(policy, transactionAmount);
     }
 
-    private Money calculateFromPolicy(PgFeePolicy policy, Money transactionAmount) {
+    private Money calculateFromPolicy(PgFeePolicyTable.Entry policy, Money transactionAmount) {
         return switch (policy.getFeeType()) {
-            case RATE -> transactionAmount.multiply(policy.getFeeValue()).roundToWon();
-            case FIXED -> new Money(policy.getFeeValue());
+            case RATE -> Money.ofMinor(FixedPointMoney.roundToWon(
+                FixedPointMoney.multiplyRate(
+                    FixedPointMoney.toMinor(transactionAmount), policy.getRateUnscaled(), policy.getRateScale())
+            ));
+            case FIXED -> policy.getFixedFee();
         };
     }
+
+    private long currentEpochDay() {
+        long now = System.currentTimeMillis();
+        if (now >= nextDayStartMillis) {
+            LocalDate today = LocalDate.now();
+            ZonedDateTime nextDayStart = today.plusDays(1).atStartOfDay(ZoneId.systemDefault());
+            todayEpochDay = today.toEpochDay();
+            nextDayStartMillis = nextDayStart.toInstant().toEpochMilli();
+        }
+        return todayEpochDay;
+    }
 }
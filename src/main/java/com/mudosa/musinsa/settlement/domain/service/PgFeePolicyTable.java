@@ -0,0 +1,159 @@
+package com.mudosa.musinsa.settlement.domain.service;
+
+import com.mudosa.musinsa.common.vo.Money;
+import com.mudosa.musinsa.settlement.domain.model.FeeType;
+import com.mudosa.musinsa.settlement.domain.model.PgFeePolicy;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * PG 수수료 정책 조회용 불변 테이블
+ * - PG사 → 결제수단 2단계 Map으로 문자열 결합 없이 조회한다.
+ *   (키는 정책/결제 데이터의 String 그대로 둔다. 조회 값이 매 행 JDBC에서 새로 만들어진 문자열이라
+ *    enum 변환이나 intern은 HashMap 조회보다 비용이 크다)
+ * - 결제수단별 정책 기간을 겹치지 않는 구간 배열로 펼쳐 두고 이진 탐색(O(log n))으로 찾는다.
+ * - 구간이 겹치면 기존 조회와 동일하게 effectiveFrom이 가장 늦은 정책이 우선한다.
+ */
+public final class PgFeePolicyTable {
+
+    public static final PgFeePolicyTable EMPTY = new PgFeePolicyTable(Map.of(), 0);
+
+    private final Map<String, Map<String, Timeline>> timelines;
+
+    @Getter
+    private final int policyCount;
+
+    private PgFeePolicyTable(Map<String, Map<String, Timeline>> timelines, int policyCount) {
+        this.timelines = timelines;
+        this.policyCount = policyCount;
+    }
+
+    public static PgFeePolicyTable of(Collection<PgFeePolicy> policies) {
+        Map<String, Map<String, List<PgFeePolicy>>> grouped = new HashMap<>();
+        int count = 0;
+        for (PgFeePolicy policy : policies) {
+            if (!policy.isActive() || policy.getEffectiveFrom() == null) {
+                continue;
+            }
+            grouped.computeIfAbsent(policy.getPgProvider(), k -> new HashMap<>())
+                .computeIfAbsent(policy.getPaymentMethod(), k -> new ArrayList<>())
+                .add(policy);
+            count++;
+        }
+
+        Map<String, Map<String, Timeline>> timelines = new HashMap<>();
+        grouped.forEach((provider, byMethod) -> {
+            Map<String, Timeline> methodTimelines = new HashMap<>();
+            byMethod.forEach((method, list) -> methodTimelines.put(method, Timeline.of(list)));
+            timelines.put(provider, Map.copyOf(methodTimelines));
+        });
+        return new PgFeePolicyTable(Map.copyOf(timelines), count);
+    }
+
+    public int getCombinationCount() {
+        return timelines.values().stream().mapToInt(Map::size).sum();
+    }
+
+    public Entry find(String pgProvider, String paymentMethod, LocalDate targetDate) {
+        return find(pgProvider, paymentMethod, targetDate.toEpochDay());
+    }
+
+    // 정책이 없으면 null
+    public Entry find(String pgProvider, String paymentMethod, long epochDay) {
+        Map<String, Timeline> byMethod = timelines.get(pgProvider);
+        if (byMethod == null) {
+            return null;
+        }
+        Timeline timeline = byMethod.get(paymentMethod);
+        return timeline == null ? null : timeline.find(epochDay);
+    }
+
+    /* 계산에 필요한 값을 미리 풀어둔 정책 */
+    @Getter
+    public static final class Entry {
+        private final PgFeePolicy policy;
+        private final FeeType feeType;
+        private final long rateUnscaled;
+        private final int rateScale;
+        private final Money fixedFee;
+
+        private Entry(PgFeePolicy policy) {
+            this.policy = policy;
+            this.feeType = policy.getFeeType();
+            BigDecimal feeValue = policy.getFeeValue();
+            if (feeType == FeeType.RATE) {
+                BigDecimal normalized = feeValue.scale() < 0 ? feeValue.setScale(0) : feeValue;
+                this.rateUnscaled = normalized.unscaledValue().longValueExact();
+                this.rateScale = normalized.scale();
+                this.fixedFee = null;
+            } else {
+                this.rateUnscaled = 0;
+                this.rateScale = 0;
+                this.fixedFee = new Money(feeValue);
+            }
+        }
+    }
+
+    /* 겹치지 않는 [starts[i], starts[i+1]) 구간과 해당 구간의 정책 (없으면 null) */
+    private static final class Timeline {
+        private final long[] starts;
+        private final Entry[] entries;
+
+        private Timeline(long[] starts, Entry[] entries) {
+            this.starts = starts;
+            this.entries = entries;
+        }
+
+        static Timeline of(List<PgFeePolicy> policies) {
+            TreeSet<Long> boundaries = new TreeSet<>();
+            for (PgFeePolicy policy : policies) {
+                boundaries.add(policy.getEffectiveFrom().toEpochDay());
+                if (policy.getEffectiveTo() != null) {
+                    boundaries.add(policy.getEffectiveTo().toEpochDay() + 1);
+                }
+            }
+
+            Map<PgFeePolicy, Entry> entryByPolicy = new HashMap<>();
+            long[] starts = new long[boundaries.size()];
+            Entry[] entries = new Entry[boundaries.size()];
+            int i = 0;
+            for (long start : boundaries) {
+                starts[i] = start;
+                PgFeePolicy effective = findEffective(policies, start);
+                entries[i] = effective == null ? null : entryByPolicy.computeIfAbsent(effective, Entry::new);
+                i++;
+            }
+            return new Timeline(starts, entries);
+        }
+
+        private static PgFeePolicy findEffective(List<PgFeePolicy> policies, long epochDay) {
+            PgFeePolicy effective = null;
+            for (PgFeePolicy policy : policies) {
+                long from = policy.getEffectiveFrom().toEpochDay();
+                long to = policy.getEffectiveTo() == null ? Long.MAX_VALUE : policy.getEffectiveTo().toEpochDay();
+                if (from <= epochDay && epochDay <= to
+                    && (effective == null || policy.getEffectiveFrom().isAfter(effective.getEffectiveFrom()))) {
+                    effective = policy;
+                }
+            }
+            return effective;
+        }
+
+        Entry find(long epochDay) {
+            int index = Arrays.binarySearch(starts, epochDay);
+            if (index < 0) {
+                index = -index - 2;  // epochDay 이하인 마지막 구간 시작
+            }
+            return index < 0 ? null : entries[index];
+        }
+    }
+}
@@ -14,7 +14,11 @@ import org.springframework.stereotype.Repository;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Repository
@@ -26,46 +30,38 @@ public class JdbcSettlementBatchRepository {
     @Value("${settlement.batch.upsert-enabled:true}")
     private boolean upsertEnabled;
 
-    public void batchInsertDaily(List<SettlementDaily> list) {
-        String baseSql = "INSERT INTO settlements_daily (" +
-            "settlement_number, brand_id, settlement_date, settlement_timezone, " +
-            "total_order_count, total_sales_amount, total_commission_amount, " +
-            "total_tax_amount, total_pg_fee_amount, final_settlement_amount, " +
-            "settlement_status, aggregated_at, confirmed_at, completed_at, " +
-            "created_at, updated_at" +
-            ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())";
+    private static final String DAILY_INSERT_PREFIX = "INSERT INTO settlements_daily (" +
+        "settlement_number, brand_id, settlement_date, settlement_timezone, " +
+        "total_order_count, total_sales_amount, total_commission_amount, " +
+        "total_tax_amount, total_pg_fee_amount, final_settlement_amount, " +
+        "settlement_status, aggregated_at, confirmed_at, completed_at, " +
+        "created_at, updated_at" +
+        ") VALUES ";
 
-        String upsertClause = " ON DUPLICATE KEY UPDATE " +
-            "total_order_count = total_order_count + VALUES(total_order_count), " +
-            "total_sales_amount = total_sales_amount + VALUES(total_sales_amount), " +
-            "total_commission_amount = total_commission_amount + VALUES(total_commission_amount), " +
-            "total_tax_amount = total_tax_amount + VALUES(total_tax_amount), " +
-            "total_pg_fee_amount = total_pg_fee_amount + VALUES(total_pg_fee_amount), " +
-            "final_settlement_amount = final_settlement_amount + VALUES(final_settlement_amount), " +
-            "aggregated_at = VALUES(aggregated_at), " +
-            "updated_at = NOW()";
+    private static final String DAILY_VALUES = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())";
 
-        String sql = upsertEnabled ? baseSql + upsertClause : baseSql;
+    private static final String DAILY_UPSERT_CLAUSE = " ON DUPLICATE KEY UPDATE " +
+        "total_order_count = total_order_count + VALUES(total_order_count), " +
+        "total_sales_amount = total_sales_amount + VALUES(total_sales_amount), " +
+        "total_commission_amount = total_commission_amount + VALUES(total_commission_amount), " +
+        "total_tax_amount = total_tax_amount + VALUES(total_tax_amount), " +
+        "total_pg_fee_amount = total_pg_fee_amount + VALUES(total_pg_fee_amount), " +
+        "final_settlement_amount = final_settlement_amount + VALUES(final_settlement_amount), " +
+        "aggregated_at = VALUES(aggregated_at), " +
+        "updated_at = NOW()";
+
+    // 다중 VALUES UPSERT 1문장당 행 수 (파라미터 14개 × 500 = 7,000개로 65,535 제한 내)
+    private static final int DAILY_UPSERT_ROWS_PER_STATEMENT = 500;
+
+    public void batchInsertDaily(List<SettlementDaily> list) {
+        String baseSql = DAILY_INSERT_PREFIX + DAILY_VALUES;
+        String sql = upsertEnabled ? baseSql + DAILY_UPSERT_CLAUSE : baseSql;
         log.debug("[JDBC Daily] upsert-enabled: {}, mode: ACCUMULATE (incremental)", upsertEnabled);
 
         jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
             @Override
             public void setValues(PreparedStatement ps, int i) throws SQLException {
-                SettlementDaily item = list.get(i);
-                ps.setString(1, item.getSettlementNumber());
-                ps.setLong(2, item.getBrandId());
-                ps.setDate(3, java.sql.Date.valueOf(item.getSettlementDate()));
-                ps.setString(4, item.getSettlementTimezone());
-                ps.setInt(5, item.getTotalOrderCount());
-                ps.setBigDecimal(6, item.getTotalSalesAmount().getAmount());
-                ps.setBigDecimal(7, item.getTotalCommissionAmount().getAmount());
-                ps.setBigDecimal(8, item.getTotalTaxAmount().getAmount());
-                ps.setBigDecimal(9, item.getTotalPgFeeAmount().getAmount());
-                ps.setBigDecimal(10, item.getFinalSettlementAmount().getAmount());
-                ps.setString(11, item.getSettlementStatus().name());
-                ps.setTimestamp(12, item.getAggregatedAt() != null ? Timestamp.valueOf(item.getAggregatedAt()) : null);
-                ps.setTimestamp(13, item.getConfirmedAt() != null ? Timestamp.valueOf(item.getConfirmedAt()) : null);
-                ps.setTimestamp(14, item.getCompletedAt() != null ? Timestamp.valueOf(item.getCompletedAt()) : null);
+                setDailyValues(ps, 0, list.get(i));
             }
 
             @Override
@@ -75,6 +71,58 @@ public class JdbcSettlementBatchRepository {
         });
     }
 
+    /**
+     * 일일 정산 누적 UPSERT 후 신규/갱신 건수 반환
+     * - rewriteBatchedStatements 환경에서는 배치 결과가 행별 건수 없이 SUCCESS_NO_INFO로 오므로,
+     *   다중 VALUES 문장을 직접 실행해 문장별 affected rows로 계산한다.
+     * - MySQL은 ON DUPLICATE KEY UPDATE에서 신규 1, 갱신 2를 센다 (누적 집계는 order_count가 항상 늘어 값이 그대로인 갱신은 없다).
+     */
+    public DailyUpsertResult upsertDaily(List<SettlementDaily> list) {
+        if (!upsertEnabled) {
+            batchInsertDaily(list);
+            return new DailyUpsertResult(list.size(), 0);
+        }
+
+        int inserted = 0;
+        int updated = 0;
+        for (int from = 0; from < list.size(); from += DAILY_UPSERT_ROWS_PER_STATEMENT) {
+            List<SettlementDaily> slice = list.subList(from, Math.min(from + DAILY_UPSERT_ROWS_PER_STATEMENT, list.size()));
+            String sql = DAILY_INSERT_PREFIX + String.join(", ", Collections.nCopies(slice.size(), DAILY_VALUES))
+                + DAILY_UPSERT_CLAUSE;
+
+            int affected = jdbcTemplate.update(sql, ps -> {
+                for (int i = 0; i < slice.size(); i++) {
+                    setDailyValues(ps, i * 14, slice.get(i));
+                }
+            });
+
+            int sliceUpdated = Math.max(0, Math.min(slice.size(), affected - slice.size()));
+            updated += sliceUpdated;
+            inserted += slice.size() - sliceUpdated;
+        }
+        return new DailyUpsertResult(inserted, updated);
+    }
+
+    public record DailyUpsertResult(int inserted, int updated) {
+    }
+
+    private static void setDailyValues(PreparedStatement ps, int offset, SettlementDaily item) throws SQLException {
+        ps.setString(offset + 1, item.getSettlementNumber());
+        ps.setLong(offset + 2, item.getBrandId());
+        ps.setDate(offset + 3, java.sql.Date.valueOf(item.getSettlementDate()));
+        ps.setString(offset + 4, item.getSettlementTimezone());
+        ps.setInt(offset + 5, item.getTotalOrderCount());
+        ps.setBigDecimal(offset + 6, item.getTotalSalesAmount().getAmount());
+        ps.setBigDecimal(offset + 7, item.getTotalCommissionAmount().getAmount());
+        ps.setBigDecimal(offset + 8, item.getTotalTaxAmount().getAmount());
+        ps.setBigDecimal(offset + 9, item.getTotalPgFeeAmount().getAmount());
+        ps.setBigDecimal(offset + 10, item.getFinalSettlementAmount().getAmount());
+        ps.setString(offset + 11, item.getSettlementStatus().name());
+        ps.setTimestamp(offset + 12, item.getAggregatedAt() != null ? Timestamp.valueOf(item.getAggregatedAt()) : null);
+        ps.setTimestamp(offset + 13, item.getConfirmedAt() != null ? Timestamp.valueOf(item.getConfirmedAt()) : null);
+        ps.setTimestamp(offset + 14, item.getCompletedAt() != null ? Timestamp.valueOf(item.getCompletedAt()) : null);
+    }
+
     public void batchInsertWeekly(List<SettlementWeekly> list) {
         String baseSql = "INSERT INTO settlements_weekly (" +
             "settlement_number, brand_id, settlement_year, settlement_month, week_of_month, " +
@@ -230,4 +278,16 @@ public class JdbcSettlementBatchRepository {
             }
         });
     }
-}
\ No newline at end of file
+
+    // 기간 내 CONFIRMED 일일 정산의 "brandId:yyyy-MM-dd" 키 (확정된 정산에는 누적하지 않기 위함)
+    public Set<String> findConfirmedDailyKeys(LocalDate from, LocalDate to) {
+        String sql = "SELECT brand_id, settlement_date FROM settlements_daily " +
+            "WHERE settlement_status = 'CONFIRMED' AND settlement_date BETWEEN ? AND ?";
+
+        Set<String> keys = new HashSet<>();
+        jdbcTemplate.query(sql, rs -> {
+            keys.add(rs.getLong("brand_id") + ":" + rs.getDate("settlement_date").toLocalDate());
+        }, java.sql.Date.valueOf(from), java.sql.Date.valueOf(to));
+        return keys;
+    }
+}
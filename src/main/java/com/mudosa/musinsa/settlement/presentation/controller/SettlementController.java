@@ -2,11 +2,14 @@ package com.mudosa.musinsa.settlement.presentation.controller;
 
 import com.mudosa.musinsa.brand.domain.repository.BrandMemberRepository;
 import com.mudosa.musinsa.common.dto.ApiResponse;
+import com.mudosa.musinsa.common.dto.CursorResponse;
 import com.mudosa.musinsa.exception.BusinessException;
 import com.mudosa.musinsa.exception.ErrorCode;
 import com.mudosa.musinsa.security.CustomUserDetails;
 import com.mudosa.musinsa.settlement.application.SettlementQueryService;
+import com.mudosa.musinsa.settlement.domain.model.SettlementStatus;
 import com.mudosa.musinsa.settlement.presentation.dto.*;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,11 +17,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Slf4j
@@ -29,6 +34,7 @@ import java.util.List;
 public class SettlementController {
 
     private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
     private static final String DAILY_SORT_FIELD = "settlementDate";
 
     private final SettlementQueryService settlementQueryService;
@@ -113,6 +119,29 @@ public class SettlementController {
         return ResponseEntity.ok(ApiResponse.success(data));
     }
 
+    // 키셋(커서) 페이지네이션: 깊은 페이지도 OFFSET 없이 조회
+    @GetMapping("/weekly/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<SettlementWeeklyResponse>>> getWeeklySettlementsByCursor(
+        @RequestParam(required = false) Long brandId,
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+        @RequestParam(required = false) SettlementStatus status,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) @Min(1) @Max(MAX_CURSOR_PAGE_SIZE) int size
+    ) {
+
+        Long validatedBrandId = validateAndGetBrandId(brandId, userDetails);
+
+        log.debug("주간 정산 커서 조회 요청 - userId: {}, role: {}, requestedBrandId: {}, validatedBrandId: {}, cursor: {}, size: {}",
+            userDetails.getUserId(), userDetails.getRole(), brandId, validatedBrandId, cursor, size);
+
+        CursorResponse<SettlementWeeklyResponse> data = settlementQueryService.getWeeklySettlementsByCursor(
+            validatedBrandId, startDate, endDate, status, cursor, size
+        );
+        return ResponseEntity.ok(ApiResponse.success(data));
+    }
+
     
     @GetMapping("/weekly/{settlementWeeklyId}")
     public ResponseEntity<ApiResponse<SettlementWeeklyResponse>> getWeeklySettlement(
@@ -173,6 +202,29 @@ public class SettlementController {
         return ResponseEntity.ok(ApiResponse.success(data));
     }
 
+    // 키셋(커서) 페이지네이션: 깊은 페이지도 OFFSET 없이 조회
+    @GetMapping("/yearly/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<SettlementYearlyResponse>>> getYearlySettlementsByCursor(
+        @RequestParam(required = false) Long brandId,
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @RequestParam(required = false) Integer startYear,
+        @RequestParam(required = false) Integer endYear,
+        @RequestParam(required = false) SettlementStatus status,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) @Min(1) @Max(MAX_CURSOR_PAGE_SIZE) int size
+    ) {
+
+        Long validatedBrandId = validateAndGetBrandId(brandId, userDetails);
+
+        log.debug("연간 정산 커서 조회 요청 - userId: {}, role: {}, requestedBrandId: {}, validatedBrandId: {}, cursor: {}, size: {}",
+            userDetails.getUserId(), userDetails.getRole(), brandId, validatedBrandId, cursor, size);
+
+        CursorResponse<SettlementYearlyResponse> data = settlementQueryService.getYearlySettlementsByCursor(
+            validatedBrandId, startYear, endYear, status, cursor, size
+        );
+        return ResponseEntity.ok(ApiResponse.success(data));
+    }
+
     
     @GetMapping("/yearly/{settlementYearlyId}")
     public ResponseEntity<ApiResponse<SettlementYearlyResponse>> getYearlySettlement(
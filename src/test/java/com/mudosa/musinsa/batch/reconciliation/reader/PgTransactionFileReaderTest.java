@@ -0,0 +1,94 @@
+package com.mudosa.musinsa.batch.reconciliation.reader;
+
+import com.mudosa.musinsa.batch.reconciliation.dto.PgTransactionRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PgTransactionFileReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("매핑 구간 경계에 걸친 줄도 빠짐없이 읽고 CSV 헤더는 건너뛴다")
+    void read_csvAcrossWindowBoundaries() throws IOException {
+        Path file = tempDir.resolve("toss-20251018.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("paymentKey,orderId,status,totalAmount\n");
+            for (int i = 1; i <= 5000; i++) {
+                writer.write("pk_" + i + ",ORD" + i + ",DONE," + (i * 100) + (i % 2 == 0 ? "\r\n" : "\n"));
+            }
+        }
+
+        List<PgTransactionRecord> records = readAll(new PgTransactionFileReader(file, 64), new ExecutionContext());
+
+        assertThat(records).hasSize(5000);
+        assertThat(records.get(0)).isEqualTo(new PgTransactionRecord("pk_1", "ORD1", "DONE", new BigDecimal("100")));
+        assertThat(records.get(4999)).isEqualTo(new PgTransactionRecord("pk_5000", "ORD5000", "DONE", new BigDecimal("500000")));
+        assertThat(records).extracting(PgTransactionRecord::pgTransactionId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("JSON Lines 파일은 마지막 줄에 줄바꿈이 없어도 읽는다")
+    void read_jsonLinesWithoutTrailingNewline() throws IOException {
+        Path file = tempDir.resolve("toss.jsonl");
+        Files.writeString(file, """
+                {"paymentKey":"pk_1","orderId":"ORD1","status":"DONE","totalAmount":15000}
+                {"paymentKey":"pk_2","orderId":"ORD2","status":"CANCELED","totalAmount":3000.50}""");
+
+        List<PgTransactionRecord> records = readAll(new PgTransactionFileReader(file, 1024), new ExecutionContext());
+
+        assertThat(records).containsExactly(
+                new PgTransactionRecord("pk_1", "ORD1", "DONE", new BigDecimal("15000")),
+                new PgTransactionRecord("pk_2", "ORD2", "CANCELED", new BigDecimal("3000.50")));
+    }
+
+    @Test
+    @DisplayName("저장된 offset으로 다시 열면 이미 읽은 줄 다음부터 이어 읽는다")
+    void open_resumesFromSavedOffset() throws IOException {
+        Path file = tempDir.resolve("toss.csv");
+        StringBuilder content = new StringBuilder("paymentKey,orderId,status,totalAmount\n");
+        for (int i = 1; i <= 100; i++) {
+            content.append("pk_").append(i).append(",ORD").append(i).append(",DONE,1000\n");
+        }
+        Files.writeString(file, content);
+
+        ExecutionContext context = new ExecutionContext();
+        PgTransactionFileReader first = new PgTransactionFileReader(file, 128);
+        first.open(context);
+        for (int i = 0; i < 30; i++) {
+            first.read();
+        }
+        first.update(context);
+        first.close();
+
+        List<PgTransactionRecord> rest = readAll(new PgTransactionFileReader(file, 128), context);
+
+        assertThat(rest).hasSize(70);
+        assertThat(rest.get(0).pgTransactionId()).isEqualTo("pk_31");
+    }
+
+    private List<PgTransactionRecord> readAll(PgTransactionFileReader reader, ExecutionContext context) {
+        List<PgTransactionRecord> records = new ArrayList<>();
+        reader.open(context);
+        PgTransactionRecord record;
+        while ((record = reader.read()) != null) {
+            records.add(record);
+        }
+        reader.close();
+        return records;
+    }
+}
@@ -0,0 +1,45 @@
+package com.mudosa.musinsa.batch.settlement.partitioner;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionRowStatsTest {
+
+    @Test
+    @DisplayName("파티션 워커의 rowCount만 합산해 최대/평균/편중도를 계산한다")
+    void of_aggregatesWorkerRowCounts() {
+        JobExecution jobExecution = new JobExecution(1L);
+        jobExecution.createStepExecution("partitionedCreationStep");
+        worker(jobExecution, "settlementCreationWorkerStep:partition0", 30L);
+        worker(jobExecution, "settlementCreationWorkerStep:partition1", 10L);
+        jobExecution.createStepExecution("settlementCreationWorkerStep:partition2");  // rowCount 없음 → 0
+        jobExecution.createStepExecution("aggregationStep").getExecutionContext().putLong("rowCount", 999L);
+
+        PartitionRowStats stats = PartitionRowStats.of(jobExecution.getStepExecutions());
+
+        assertThat(stats.partitionCount()).isEqualTo(3);
+        assertThat(stats.totalRows()).isEqualTo(40L);
+        assertThat(stats.maxRows()).isEqualTo(30L);
+        assertThat(stats.avgRows()).isEqualTo(40 / 3.0);
+        assertThat(stats.skew()).isEqualTo(30 / (40 / 3.0));
+    }
+
+    @Test
+    @DisplayName("파티션 워커가 없으면 평균과 편중도는 0이다")
+    void of_noPartitions() {
+        PartitionRowStats stats = PartitionRowStats.of(new JobExecution(1L).getStepExecutions());
+
+        assertThat(stats.partitionCount()).isZero();
+        assertThat(stats.avgRows()).isZero();
+        assertThat(stats.skew()).isZero();
+    }
+
+    private static void worker(JobExecution jobExecution, String stepName, long rowCount) {
+        StepExecution stepExecution = jobExecution.createStepExecution(stepName);
+        stepExecution.getExecutionContext().putLong("rowCount", rowCount);
+    }
+}
@@ -0,0 +1,96 @@
+package com.mudosa.musinsa.batch.settlement.partitioner;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentPartitionerTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+                CREATE TABLE payment (
+                    payment_id BIGINT PRIMARY KEY,
+                    payment_status VARCHAR(20),
+                    settled_at TIMESTAMP
+                )""");
+
+        // 미정산 payment_id가 앞쪽(1 ~ 30)에 몰리고 뒤쪽(1000 ~ 1009)은 드문 분포
+        for (long id = 1; id <= 30; id++) {
+            insertPayment(id);
+        }
+        for (long id = 1000; id <= 1009; id++) {
+            insertPayment(id);
+        }
+        // 정산 완료, 미승인 건은 대상이 아님
+        jdbcTemplate.update("INSERT INTO payment VALUES (2000, 'APPROVED', CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO payment VALUES (2001, 'PENDING', NULL)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("balanced 모드는 NTILE로 파티션별 건수를 균등하게 나누고, 범위가 빈틈 없이 이어진다")
+    void balanced_splitsByRowCount() {
+        Map<String, ExecutionContext> partitions =
+                new PaymentPartitioner(jdbcTemplate, PaymentPartitioner.MODE_BALANCED).partition(2);
+
+        assertThat(partitions).hasSize(2);
+        assertPartition(partitions.get("partition0"), 1, 20, 20);
+        assertPartition(partitions.get("partition1"), 21, 1009, 20);
+    }
+
+    @Test
+    @DisplayName("range 모드는 ID 동일 폭으로 나누고, 파티션별 실제 건수를 rowCount로 기록한다")
+    void range_splitsByIdWidth() {
+        Map<String, ExecutionContext> partitions =
+                new PaymentPartitioner(jdbcTemplate, PaymentPartitioner.MODE_RANGE).partition(2);
+
+        assertThat(partitions).hasSize(2);
+        assertPartition(partitions.get("partition0"), 1, 504, 30);
+        assertPartition(partitions.get("partition1"), 505, 1009, 10);
+    }
+
+    @Test
+    @DisplayName("미정산 건이 없으면 빈 파티션 하나를 반환한다")
+    void balanced_emptyPartition() {
+        jdbcTemplate.update("UPDATE payment SET settled_at = CURRENT_TIMESTAMP");
+
+        Map<String, ExecutionContext> partitions =
+                new PaymentPartitioner(jdbcTemplate, PaymentPartitioner.MODE_BALANCED).partition(4);
+
+        assertThat(partitions).containsOnlyKeys("partition0");
+        assertThat(partitions.get("partition0").getLong("rowCount")).isZero();
+    }
+
+    private void insertPayment(long paymentId) {
+        jdbcTemplate.update("INSERT INTO payment VALUES (?, 'APPROVED', NULL)", paymentId);
+    }
+
+    private static void assertPartition(ExecutionContext context, long minId, long maxId, long rowCount) {
+        assertThat(context.getLong("minId")).isEqualTo(minId);
+        assertThat(context.getLong("maxId")).isEqualTo(maxId);
+        assertThat(context.getLong("rowCount")).isEqualTo(rowCount);
+    }
+}
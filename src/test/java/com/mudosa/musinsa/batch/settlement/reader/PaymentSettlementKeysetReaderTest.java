@@ -0,0 +1,133 @@
+package com.mudosa.musinsa.batch.settlement.reader;
+
+import com.mudosa.musinsa.batch.settlement.dto.PaymentSettlementDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentSettlementKeysetReaderTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+                CREATE TABLE payment (
+                    payment_id BIGINT PRIMARY KEY,
+                    pg_transaction_id VARCHAR(50),
+                    pg_provider VARCHAR(20),
+                    method VARCHAR(20),
+                    order_id BIGINT,
+                    payment_status VARCHAR(20),
+                    settled_at TIMESTAMP
+                )""");
+        jdbcTemplate.execute("""
+                CREATE TABLE payment_brand_amount (
+                    payment_id BIGINT,
+                    brand_id BIGINT,
+                    amount DECIMAL(19, 2),
+                    commission_rate DECIMAL(5, 2)
+                )""");
+
+        // payment 1: 브랜드 1개, payment 2: 브랜드 3개, payment 3: 브랜드 1개
+        insertPayment(1L, 10L);
+        insertPayment(2L, 10L, 20L, 30L);
+        insertPayment(3L, 10L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("chunk가 여러 브랜드 payment 중간에서 끝난 뒤 재시작해도 남은 브랜드 행을 빠짐없이 한 번씩 읽는다")
+    void restartInMiddleOfMultiBrandPayment() {
+        ExecutionContext executionContext = new ExecutionContext();
+        List<String> readRows = new ArrayList<>();
+
+        // 첫 실행: payment 1(브랜드 10), payment 2(브랜드 10) 까지 읽고 chunk 커밋 후 실패
+        PaymentSettlementKeysetReader reader = new PaymentSettlementKeysetReader(jdbcTemplate, 1L, 3L, 10);
+        reader.open(executionContext);
+        List<PaymentSettlementDto> chunk = List.of(reader.read(), reader.read());
+        chunk.forEach(item -> readRows.add(key(item)));
+        markSettled(chunk);
+        reader.update(executionContext);
+        reader.close();
+
+        // 재시작: 저장된 ExecutionContext로 이어 읽기
+        PaymentSettlementKeysetReader restarted = new PaymentSettlementKeysetReader(jdbcTemplate, 1L, 3L, 10);
+        restarted.open(executionContext);
+        PaymentSettlementDto item;
+        while ((item = restarted.read()) != null) {
+            readRows.add(key(item));
+        }
+        restarted.close();
+
+        assertThat(readRows).containsExactly("1-10", "2-10", "2-20", "2-30", "3-10");
+    }
+
+    @Test
+    @DisplayName("payment의 브랜드 행을 모두 읽은 뒤에만 lastPaymentId를 전진시킨다")
+    void checkpointAdvancesOnlyOnPaymentBoundary() {
+        ExecutionContext executionContext = new ExecutionContext();
+        PaymentSettlementKeysetReader reader = new PaymentSettlementKeysetReader(jdbcTemplate, 1L, 3L, 10);
+        reader.open(executionContext);
+
+        reader.read();
+        reader.read();
+        reader.update(executionContext);
+        assertThat(executionContext.getLong("paymentSettlementReader.lastPaymentId")).isEqualTo(1L);
+        assertThat(executionContext.getLong("paymentSettlementReader.partialPaymentId")).isEqualTo(2L);
+        assertThat(executionContext.getLong("paymentSettlementReader.partialBrandId")).isEqualTo(10L);
+
+        reader.read();
+        reader.read();
+        reader.update(executionContext);
+        assertThat(executionContext.getLong("paymentSettlementReader.lastPaymentId")).isEqualTo(2L);
+        assertThat(executionContext.containsKey("paymentSettlementReader.partialPaymentId")).isFalse();
+        reader.close();
+    }
+
+    private void insertPayment(long paymentId, long... brandIds) {
+        jdbcTemplate.update("""
+                INSERT INTO payment (payment_id, pg_transaction_id, pg_provider, method, order_id, payment_status)
+                VALUES (?, ?, 'TOSS', 'CARD', ?, 'APPROVED')""", paymentId, "tx-" + paymentId, paymentId);
+        for (long brandId : brandIds) {
+            jdbcTemplate.update("""
+                    INSERT INTO payment_brand_amount (payment_id, brand_id, amount, commission_rate)
+                    VALUES (?, ?, 10000.00, 10.00)""", paymentId, brandId);
+        }
+    }
+
+    // SettlementChunkWriter와 동일하게 chunk에 포함된 payment의 settled_at을 채운다
+    private void markSettled(List<PaymentSettlementDto> chunk) {
+        Set<Long> paymentIds = new LinkedHashSet<>();
+        chunk.forEach(item -> paymentIds.add(item.getPaymentId()));
+        paymentIds.forEach(paymentId ->
+                jdbcTemplate.update("UPDATE payment SET settled_at = CURRENT_TIMESTAMP WHERE payment_id = ?", paymentId));
+    }
+
+    private static String key(PaymentSettlementDto item) {
+        return item.getPaymentId() + "-" + item.getBrandId();
+    }
+}
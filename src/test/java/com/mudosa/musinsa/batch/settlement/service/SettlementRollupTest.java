@@ -0,0 +1,76 @@
+package com.mudosa.musinsa.batch.settlement.service;
+
+import com.mudosa.musinsa.common.vo.Money;
+import com.mudosa.musinsa.settlement.application.dto.DailyAggregationDto;
+import com.mudosa.musinsa.settlement.domain.model.SettlementDaily;
+import com.mudosa.musinsa.settlement.domain.model.SettlementMonthly;
+import com.mudosa.musinsa.settlement.domain.model.SettlementWeekly;
+import com.mudosa.musinsa.settlement.domain.model.SettlementYearly;
+import com.mudosa.musinsa.settlement.domain.service.SettlementNumberGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SettlementRollupTest {
+
+    private final SettlementNumberGenerator numberGenerator = new SettlementNumberGenerator();
+
+    @Test
+    @DisplayName("브랜드×일자 입력을 일/주/월/년 키별로 한 번씩만 합산한다")
+    void rollup_groupsByPeriodKeys() {
+        SettlementRollup rollup = new SettlementRollup();
+        // 2025-03-03(월) ~ 2025-03-05(수): 같은 주, 같은 월
+        rollup.add(dto(1L, LocalDate.of(2025, 3, 3), 2, "10000.00", "1000.00", "100.00", "330.00"));
+        rollup.add(dto(1L, LocalDate.of(2025, 3, 4), 1, "5000.50", "500.05", "50.01", "165.02"));
+        rollup.add(dto(1L, LocalDate.of(2025, 3, 5), 3, "20000.00", "2000.00", "200.00", "660.00"));
+        // 다른 브랜드
+        rollup.add(dto(2L, LocalDate.of(2025, 3, 3), 1, "3000.00", "300.00", "30.00", "99.00"));
+
+        List<SettlementDaily> dailyList = rollup.toDailyList(numberGenerator);
+        List<SettlementWeekly> weeklyList = rollup.toWeeklyList(numberGenerator);
+        List<SettlementMonthly> monthlyList = rollup.toMonthlyList(numberGenerator);
+        List<SettlementYearly> yearlyList = rollup.toYearlyList(numberGenerator);
+
+        assertThat(rollup.getInputCount()).isEqualTo(4);
+        assertThat(dailyList).hasSize(4);
+        assertThat(weeklyList).hasSize(2);
+        assertThat(monthlyList).hasSize(2);
+        assertThat(yearlyList).hasSize(2);
+
+        SettlementMonthly brand1Monthly = monthlyList.stream()
+            .filter(m -> m.getBrandId() == 1L)
+            .findFirst()
+            .orElseThrow();
+        assertThat(brand1Monthly.getTotalOrderCount()).isEqualTo(6);
+        assertThat(brand1Monthly.getTotalSalesAmount()).isEqualTo(new Money(new BigDecimal("35000.50")));
+        assertThat(brand1Monthly.getTotalCommissionAmount()).isEqualTo(new Money(new BigDecimal("3500.05")));
+        assertThat(brand1Monthly.getTotalTaxAmount()).isEqualTo(new Money(new BigDecimal("350.01")));
+        assertThat(brand1Monthly.getTotalPgFeeAmount()).isEqualTo(new Money(new BigDecimal("1155.02")));
+    }
+
+    @Test
+    @DisplayName("같은 브랜드×일자가 여러 번 들어오면 일일 정산 하나로 합친다")
+    void rollup_mergesDuplicateDailyKeys() {
+        SettlementRollup rollup = new SettlementRollup();
+        LocalDate date = LocalDate.of(2025, 12, 31);
+        rollup.add(dto(1L, date, 1, "1000.00", "100.00", "10.00", "33.00"));
+        rollup.add(dto(1L, date, 1, "2000.00", "200.00", "20.00", "66.00"));
+
+        List<SettlementDaily> dailyList = rollup.toDailyList(numberGenerator);
+
+        assertThat(dailyList).hasSize(1);
+        assertThat(dailyList.get(0).getTotalOrderCount()).isEqualTo(2);
+        assertThat(dailyList.get(0).getTotalSalesAmount()).isEqualTo(new Money(3000));
+    }
+
+    private DailyAggregationDto dto(Long brandId, LocalDate date, long orderCount,
+                                    String sales, String commission, String tax, String pgFee) {
+        return new DailyAggregationDto(brandId, date, orderCount,
+            new BigDecimal(sales), new BigDecimal(commission), new BigDecimal(tax), new BigDecimal(pgFee));
+    }
+}
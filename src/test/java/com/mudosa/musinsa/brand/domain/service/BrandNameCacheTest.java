@@ -0,0 +1,89 @@
+package com.mudosa.musinsa.brand.domain.service;
+
+import com.mudosa.musinsa.brand.domain.model.Brand;
+import com.mudosa.musinsa.brand.domain.repository.BrandRepository;
+import com.mudosa.musinsa.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BrandNameCacheTest {
+
+  private BrandRepository brandRepository;
+  private AtomicLong now;
+  private BrandNameCache cache;
+
+  @BeforeEach
+  void setUp() {
+    brandRepository = mock(BrandRepository.class);
+    now = new AtomicLong(0);
+    cache = new BrandNameCache(brandRepository, 2, 1_000, now::get);
+
+    when(brandRepository.findAllById(anyCollection())).thenAnswer(invocation -> {
+      Collection<Long> ids = invocation.getArgument(0);
+      return ids.stream()
+          .filter(id -> id <= 10)
+          .map(id -> Brand.builder().brandId(id).nameKo("브랜드" + id).build())
+          .toList();
+    });
+  }
+
+  @Test
+  @DisplayName("여러 브랜드명을 쿼리 1회로 조회하고 이후에는 캐시에서 반환한다")
+  void getNames_loadsMissesInOneQuery() {
+    Map<Long, String> names = cache.getNames(List.of(1L, 2L, 1L));
+
+    assertThat(names).containsOnly(Map.entry(1L, "브랜드1"), Map.entry(2L, "브랜드2"));
+    assertThat(cache.getName(2L)).isEqualTo("브랜드2");
+    verify(brandRepository, times(1)).findAllById(anyCollection());
+  }
+
+  @Test
+  @DisplayName("TTL이 지나거나 evict되면 다시 조회한다")
+  void getName_reloadsAfterTtlOrEvict() {
+    cache.getName(1L);
+
+    now.addAndGet(1_001);
+    cache.getName(1L);
+
+    cache.evict(1L);
+    cache.getName(1L);
+
+    verify(brandRepository, times(3)).findAllById(anyCollection());
+  }
+
+  @Test
+  @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거한다")
+  void getNames_evictsLeastRecentlyUsed() {
+    cache.getNames(List.of(1L, 2L));
+    cache.getName(1L);
+    cache.getName(3L);
+
+    assertThat(cache.size()).isEqualTo(2);
+    cache.getName(1L);
+    verify(brandRepository, times(2)).findAllById(anyCollection());
+
+    cache.getName(2L);
+    verify(brandRepository, times(3)).findAllById(anyCollection());
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 브랜드가 포함되면 BRAND_NOT_FOUND 예외가 발생한다")
+  void getNames_missingBrand() {
+    assertThatThrownBy(() -> cache.getNames(List.of(1L, 99L)))
+        .isInstanceOf(BusinessException.class);
+  }
+}
@@ -0,0 +1,177 @@
+package com.mudosa.musinsa.common.client;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 스텁 서버로 커넥션 재사용을 확인하는 테스트 (지연 p50/p99는 참고용으로 로그만 남긴다)
+ */
+@Slf4j
+class OkHttpClientHttpRequestFactoryTest {
+
+    private static final int MAX_PER_ROUTE = 8;
+    private static final int CONCURRENCY = 32;
+    private static final int REQUESTS = 640;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private String url;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/payments/confirm", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            exchange.getRequestBody().readAllBytes();
+            byte[] body = "{\"status\":\"DONE\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            if (exchange.getRequestHeaders().containsKey("X-Stub-Close")) {
+                // 요청마다 새 연결을 맺던 기존 방식 재현 (응답 후 연결 종료)
+                exchange.getResponseHeaders().add("Connection", "close");
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        serverExecutor = Executors.newFixedThreadPool(CONCURRENCY * 2);
+        server.setExecutor(serverExecutor);
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/payments/confirm";
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("풀링 클라이언트는 route당 최대 커넥션 수 이내로 커넥션을 재사용한다")
+    void pooledClient_reusesConnections() throws Exception {
+        RouteConcurrencyLimiter limiter = new RouteConcurrencyLimiter(MAX_PER_ROUTE, 5_000);
+        ConnectionPool pool = new ConnectionPool(MAX_PER_ROUTE, 5, java.util.concurrent.TimeUnit.MINUTES);
+        OkHttpClient client = new OkHttpClient.Builder()
+            .connectionPool(pool)
+            .connectTimeout(Duration.ofSeconds(5))
+            .readTimeout(Duration.ofSeconds(10))
+            .addInterceptor(limiter)
+            .build();
+
+        List<Long> latencies = run(new OkHttpClientHttpRequestFactory(client));
+
+        assertThat(latencies).hasSize(REQUESTS);
+        assertThat(clientPorts).hasSizeLessThanOrEqualTo(MAX_PER_ROUTE);
+        assertThat(limiter.getPending()).isZero();
+        assertThat(limiter.getActive()).isZero();
+        assertThat(pool.idleConnectionCount()).isEqualTo(pool.connectionCount());
+
+        log.info("[Pooled] 커넥션 {}개, p50: {}us, p99: {}us",
+            clientPorts.size(), percentile(latencies, 50), percentile(latencies, 99));
+    }
+
+    @Test
+    @DisplayName("동일 부하에서 풀링 클라이언트는 요청별 연결 클라이언트보다 적은 커넥션으로 처리한다")
+    void reusesConnectionsUnderLoad() throws Exception {
+        // 루프백에서는 연결 비용이 작아 지연 비교가 불안정하므로 p99는 로그로만 남기고 커넥션 수만 검증
+        // 요청별 연결: SimpleClientHttpRequestFactory + 서버가 응답마다 연결 종료
+        SimpleClientHttpRequestFactory simpleFactory = new SimpleClientHttpRequestFactory();
+        simpleFactory.setConnectTimeout(5_000);
+        simpleFactory.setReadTimeout(10_000);
+        List<Long> simple = run(simpleFactory, true);
+        int simpleConnections = clientPorts.size();
+        clientPorts.clear();
+
+        OkHttpClient client = new OkHttpClient.Builder()
+            .connectionPool(new ConnectionPool(CONCURRENCY, 5, java.util.concurrent.TimeUnit.MINUTES))
+            .addInterceptor(new RouteConcurrencyLimiter(CONCURRENCY, 5_000))
+            .build();
+        List<Long> pooled = run(new OkHttpClientHttpRequestFactory(client));
+        int pooledConnections = clientPorts.size();
+
+        log.info("[Per-request] 커넥션 {}개, p50: {}us, p99: {}us",
+            simpleConnections, percentile(simple, 50), percentile(simple, 99));
+        log.info("[Pooled]      커넥션 {}개, p50: {}us, p99: {}us",
+            pooledConnections, percentile(pooled, 50), percentile(pooled, 99));
+
+        assertThat(simple).hasSize(REQUESTS);
+        assertThat(pooled).hasSize(REQUESTS);
+        assertThat(pooledConnections).isLessThan(simpleConnections);
+    }
+
+    private List<Long> run(ClientHttpRequestFactory factory) throws Exception {
+        return run(factory, false);
+    }
+
+    private List<Long> run(ClientHttpRequestFactory factory, boolean closeConnection) throws Exception {
+        RestTemplate restTemplate = new RestTemplate(factory);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (closeConnection) {
+            headers.add("X-Stub-Close", "true");
+        }
+        HttpEntity<String> entity = new HttpEntity<>("{\"orderId\":\"ORD-1\",\"amount\":10000}", headers);
+
+        // 워밍업
+        restTemplate.postForEntity(url, entity, Map.class);
+        clientPorts.clear();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(clients.submit(() -> {
+                    start.await();
+                    long begin = System.nanoTime();
+                    restTemplate.postForEntity(url, entity, Map.class);
+                    return (System.nanoTime() - begin) / 1_000;
+                }));
+            }
+            start.countDown();
+
+            List<Long> latencies = new ArrayList<>(REQUESTS);
+            for (Future<Long> future : futures) {
+                latencies.add(future.get());
+            }
+            return latencies;
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private long percentile(List<Long> latencies, int percentile) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+}
@@ -0,0 +1,108 @@
+package com.mudosa.musinsa.common.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FixedPointMoneyTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @ParameterizedTest
+    @CsvSource({
+        "0.00, 10.00",
+        "0.05, 10.00",
+        "15.00, 10.00",
+        "5.00, 10.00",
+        "4.99, 10.00",
+        "12345.67, 3.50",
+        "99999999.99, 99.99",
+        "1.00, 0.01",
+        "0.50, 1.00"
+    })
+    @DisplayName("수수료/세금 계산 경계값이 Money(BigDecimal) 계산과 일치한다")
+    void commissionAndTax_boundaries(String amount, String rate) {
+        assertCommissionAndTaxMatch(new BigDecimal(amount), new BigDecimal(rate));
+    }
+
+    @Test
+    @DisplayName("임의의 금액/수수료율에 대해 수수료와 세금이 Money(BigDecimal) 계산과 일치한다")
+    void commissionAndTax_randomEquivalence() {
+        Random random = new Random(20251018L);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal amount = BigDecimal.valueOf(nextLong(random, 10_000_000_000_00L), 2);
+            BigDecimal rate = BigDecimal.valueOf(random.nextInt(10_000), 2);
+
+            assertCommissionAndTaxMatch(amount, rate);
+        }
+    }
+
+    @Test
+    @DisplayName("임의의 금액/PG 수수료율에 대해 PG 수수료가 Money(BigDecimal) 계산과 일치한다")
+    void pgFee_randomEquivalence() {
+        Random random = new Random(7L);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal amount = BigDecimal.valueOf(nextLong(random, 10_000_000_000_00L), 2);
+            BigDecimal feeRate = BigDecimal.valueOf(random.nextInt(10_000), 4);
+
+            Money expected = new Money(amount).multiply(feeRate).roundToWon();
+            long actual = FixedPointMoney.roundToWon(
+                FixedPointMoney.multiplyRate(FixedPointMoney.toMinor(amount), feeRate));
+
+            assertThat(Money.ofMinor(actual))
+                .as("amount=%s, feeRate=%s", amount, feeRate)
+                .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("long 범위를 넘는 곱셈은 BigDecimal 계산으로 대체되어 같은 결과를 낸다")
+    void multiplyRate_overflowFallback() {
+        BigDecimal amount = new BigDecimal("90000000000.00");
+        BigDecimal rate = new BigDecimal("99999.9999");
+
+        long actual = FixedPointMoney.multiplyRate(FixedPointMoney.toMinor(amount), rate);
+
+        assertThat(FixedPointMoney.toBigDecimal(actual))
+            .isEqualTo(new Money(amount).multiply(rate).getAmount());
+    }
+
+    @Test
+    @DisplayName("음수 금액의 원 단위 반올림은 Money.roundToWon과 같이 0에서 먼 쪽으로 올린다")
+    void roundToWon_negative() {
+        assertThat(Money.ofMinor(FixedPointMoney.roundToWon(-150)))
+            .isEqualTo(Money.signed(new BigDecimal("-1.50")).roundToWon());
+        assertThat(Money.ofMinor(FixedPointMoney.roundToWon(-149)))
+            .isEqualTo(Money.signed(new BigDecimal("-1.49")).roundToWon());
+    }
+
+    private void assertCommissionAndTaxMatch(BigDecimal amount, BigDecimal rate) {
+        Money transactionAmount = new Money(amount);
+        Money expectedCommission = transactionAmount.multiply(rate).divide(100).roundToWon();
+        Money expectedTax = expectedCommission.multiply(BigDecimal.valueOf(10)).divide(100).roundToWon();
+
+        long commissionMinor = FixedPointMoney.roundToWon(
+            FixedPointMoney.divide(FixedPointMoney.multiplyRate(FixedPointMoney.toMinor(transactionAmount), rate), 100));
+        long taxMinor = FixedPointMoney.roundToWon(
+            FixedPointMoney.divide(FixedPointMoney.multiply(commissionMinor, 10), 100));
+
+        assertThat(Money.ofMinor(commissionMinor))
+            .as("commission amount=%s, rate=%s", amount, rate)
+            .isEqualTo(expectedCommission);
+        assertThat(Money.ofMinor(taxMinor))
+            .as("tax amount=%s, rate=%s", amount, rate)
+            .isEqualTo(expectedTax);
+    }
+
+    private long nextLong(Random random, long bound) {
+        return Math.floorMod(random.nextLong(), bound);
+    }
+}
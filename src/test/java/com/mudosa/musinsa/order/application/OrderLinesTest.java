@@ -0,0 +1,32 @@
+package com.mudosa.musinsa.order.application;
+
+import com.mudosa.musinsa.order.application.dto.OrderCreateItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderLinesTest {
+
+    @Test
+    @DisplayName("같은 옵션은 수량을 합치고 처음 요청된 순서를 유지한다")
+    void mergeQuantities_mergesDuplicatesInRequestOrder() {
+        Map<Long, Integer> quantities = OrderLines.mergeQuantities(List.of(
+                new OrderCreateItem(30L, 1),
+                new OrderCreateItem(10L, 2),
+                new OrderCreateItem(30L, 4)));
+
+        assertThat(quantities).containsExactly(Map.entry(30L, 5), Map.entry(10L, 2));
+    }
+
+    @Test
+    @DisplayName("옵션을 ID로 색인한다")
+    void indexById() {
+        Map<Long, String> index = OrderLines.indexById(List.of("7", "3"), Long::valueOf);
+
+        assertThat(index).containsOnly(Map.entry(7L, "7"), Map.entry(3L, "3"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.mudosa.musinsa.order.application;
+
+import com.mudosa.musinsa.order.application.dto.InsufficientStockItem;
+import com.mudosa.musinsa.order.domain.model.Orders;
+import com.mudosa.musinsa.product.infrastructure.JdbcInventoryStockRepository;
+import com.mudosa.musinsa.product.infrastructure.JdbcInventoryStockRepository.StockChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderStockReservationTest {
+
+    private final JdbcInventoryStockRepository stockRepository = mock(JdbcInventoryStockRepository.class);
+    private final StockGate stockGate = mock(StockGate.class);
+    private final OrderStockReservation reservation = new OrderStockReservation(stockRepository, stockGate);
+
+    @Test
+    @DisplayName("옵션 ID 오름차순으로 차감 문장을 한 번에 보낸다")
+    void reserve_sortedSingleBatch() {
+        Orders orders = orders(Map.of(30L, 1, 10L, 2, 20L, 5));
+        when(stockRepository.decrease(anyList())).thenReturn(new int[]{1, 1, 1});
+
+        reservation.reserve(orders);
+
+        verify(stockRepository).decrease(List.of(
+                new StockChange(10L, 2), new StockChange(20L, 5), new StockChange(30L, 1)));
+        verify(stockRepository, never()).findStockQuantities(anyList());
+    }
+
+    @Test
+    @DisplayName("영향 행이 0인 옵션을 현재 재고와 함께 InsufficientStockItem으로 알린다")
+    void reserve_reportsInsufficientItems() {
+        Orders orders = orders(Map.of(10L, 2, 20L, 5));
+        when(stockRepository.decrease(anyList())).thenReturn(new int[]{1, 0});
+        when(stockRepository.findStockQuantities(List.of(20L))).thenReturn(Map.of(20L, 3));
+
+        assertThatThrownBy(() -> reservation.reserve(orders))
+                .isInstanceOfSatisfying(InsufficientStockException.class, e -> {
+                    assertThat(e.getInsufficientItems()).hasSize(1);
+                    InsufficientStockItem item = e.getInsufficientItems().get(0);
+                    assertThat(item.getProductOptionId()).isEqualTo(20L);
+                    assertThat(item.getRequestedQuantity()).isEqualTo(5);
+                    assertThat(item.getAvailableQuantity()).isEqualTo(3);
+                });
+    }
+
+    @Test
+    @DisplayName("게이트에서 품절로 거절되면 DB UPDATE를 보내지 않는다")
+    void reserve_rejectedByGate() {
+        Orders orders = orders(Map.of(10L, 2));
+        when(stockGate.tryAcquire(anyMap())).thenReturn(List.of(new InsufficientStockItem(10L, 2, 0)));
+
+        assertThatThrownBy(() -> reservation.reserve(orders)).isInstanceOf(InsufficientStockException.class);
+        verify(stockRepository, never()).decrease(anyList());
+    }
+
+    @Test
+    @DisplayName("복구도 같은 순서로 한 번에 보낸다")
+    void release_mirrorsReserve() {
+        Orders orders = orders(Map.of(20L, 1, 10L, 4));
+
+        reservation.release(orders);
+
+        verify(stockRepository).increase(List.of(new StockChange(10L, 4), new StockChange(20L, 1)));
+    }
+
+    private Orders orders(Map<Long, Integer> quantities) {
+        Orders orders = mock(Orders.class);
+        when(orders.getQuantitiesByProductOption()).thenReturn(new TreeMap<>(quantities));
+        return orders;
+    }
+}
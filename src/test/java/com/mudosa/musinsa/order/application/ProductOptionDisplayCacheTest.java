@@ -0,0 +1,99 @@
+package com.mudosa.musinsa.order.application;
+
+import com.mudosa.musinsa.exception.BusinessException;
+import com.mudosa.musinsa.product.domain.repository.ProductOptionDisplayRepository;
+import com.mudosa.musinsa.product.domain.repository.ProductOptionDisplayRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductOptionDisplayCacheTest {
+
+    private ProductOptionDisplayRepository displayRepository;
+    private AtomicLong now;
+    private ProductOptionDisplayCache cache;
+
+    @BeforeEach
+    void setUp() {
+        displayRepository = mock(ProductOptionDisplayRepository.class);
+        now = new AtomicLong(0);
+        cache = new ProductOptionDisplayCache(displayRepository, 2, 1_000, now::get);
+
+        // 옵션 1: SIZE/COLOR × 썸네일 1장, 옵션 2: 옵션값/썸네일 없음, 10 초과는 존재하지 않는 옵션
+        when(displayRepository.findDisplayRows(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .filter(id -> id <= 10)
+                    .flatMap(id -> id == 1L
+                            ? List.of(
+                                    new ProductOptionDisplayRow(1L, "티셔츠", "브랜드", "SIZE", "M", "thumb-1.jpg"),
+                                    new ProductOptionDisplayRow(1L, "티셔츠", "브랜드", "COLOR", "BLACK", "thumb-1.jpg")).stream()
+                            : List.of(new ProductOptionDisplayRow(id, "상품" + id, "브랜드", null, null, null)).stream())
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("여러 옵션을 쿼리 1회로 조회해 옵션별로 접고, 이후에는 캐시에서 반환한다")
+    void getAll_loadsMissesInOneQuery() {
+        Map<Long, ProductOptionDisplayCache.Display> displays = cache.getAll(List.of(1L, 2L, 1L));
+
+        assertThat(displays.get(1L))
+                .isEqualTo(new ProductOptionDisplayCache.Display("티셔츠", "브랜드", "M", "BLACK", "thumb-1.jpg"));
+        assertThat(displays.get(2L))
+                .isEqualTo(new ProductOptionDisplayCache.Display("상품2", "브랜드", "", "", ""));
+
+        cache.getAll(List.of(2L, 1L));
+
+        verify(displayRepository, times(1)).findDisplayRows(anyCollection());
+        assertThat(cache.getHits()).isEqualTo(2);
+        assertThat(cache.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나거나 evict되면 다시 조회한다")
+    void getAll_reloadsAfterTtlOrEvict() {
+        cache.getAll(List.of(1L));
+
+        now.addAndGet(1_001);
+        cache.getAll(List.of(1L));
+
+        cache.evict(List.of(1L));
+        cache.getAll(List.of(1L));
+
+        verify(displayRepository, times(3)).findDisplayRows(anyCollection());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거한다")
+    void getAll_evictsLeastRecentlyUsed() {
+        cache.getAll(List.of(1L, 2L));
+        cache.getAll(List.of(1L));
+        cache.getAll(List.of(3L));
+
+        assertThat(cache.size()).isEqualTo(2);
+        cache.getAll(List.of(1L));
+        verify(displayRepository, times(2)).findDisplayRows(anyCollection());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 옵션이 포함되면 예외가 발생하고 캐시하지 않는다")
+    void getAll_missingOption() {
+        assertThatThrownBy(() -> cache.getAll(List.of(1L, 99L)))
+                .isInstanceOf(BusinessException.class);
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,132 @@
+package com.mudosa.musinsa.order.application;
+
+import com.mudosa.musinsa.order.application.dto.OrderCreateItem;
+import com.mudosa.musinsa.order.application.dto.OrderCreateRequest;
+import com.mudosa.musinsa.order.application.dto.OrderCreateResponse;
+import com.mudosa.musinsa.product.infrastructure.JdbcInventoryStockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * 재고 게이트 부하 테스트 (품절 옵션에 주문 생성 요청 폭주)
+ *
+ * 실행: ./gradlew test --tests '*StockGateLoadTest' -Dstockgate.loadtest=true \
+ *        -Dstockgate.optionId={품절 옵션 ID} -Dstockgate.userId={사용자 ID}
+ * - test-50k 프로파일의 MySQL/Redis가 필요하다.
+ * - 품절(재고 0) 옵션에만 요청하므로 주문이 저장되지 않는다.
+ * - DB QPS는 MySQL 전역 Questions 증가량으로 측정하므로 다른 트래픽이 없을 때 실행한다.
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test-50k")
+@EnabledIfSystemProperty(named = "stockgate.loadtest", matches = "true")
+class StockGateLoadTest {
+
+    private static final int REQUESTS = Integer.getInteger("stockgate.requests", 20_000);
+    private static final int CONCURRENCY = Integer.getInteger("stockgate.concurrency", 200);
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StockGate stockGate;
+
+    @Autowired
+    private JdbcInventoryStockRepository stockRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("게이트를 켜면 품절 옵션 주문 요청이 DB로 가지 않아 DB QPS가 줄어든다")
+    void soldOutDrop_dbQpsWithAndWithoutGate() throws Exception {
+        long optionId = Long.getLong("stockgate.optionId");
+        long userId = Long.getLong("stockgate.userId");
+        assumeThat(stockRepository.findStockQuantities(List.of(optionId)).get(optionId))
+                .as("품절 옵션으로 실행해야 주문이 저장되지 않습니다")
+                .isZero();
+
+        stockGate.setEnabled(false);
+        Result off = run(optionId, userId);
+
+        stockGate.setEnabled(true);
+        stockGate.warm(List.of(optionId));
+        Result on = run(optionId, userId);
+        stockGate.untrack(List.of(optionId));
+
+        log.info("================================================================================");
+        log.info("[재고 게이트 부하 테스트] 요청 {}건, 동시 {}건", REQUESTS, CONCURRENCY);
+        log.info("  게이트 OFF : {} req/s, DB {} queries/s, 요청당 {} queries", off.rps(), off.dbQps(), off.queriesPerRequest());
+        log.info("  게이트 ON  : {} req/s, DB {} queries/s, 요청당 {} queries", on.rps(), on.dbQps(), on.queriesPerRequest());
+        log.info("================================================================================");
+
+        assertThat(off.rejected()).isEqualTo(REQUESTS);
+        assertThat(on.rejected()).isEqualTo(REQUESTS);
+        assertThat(on.queriesPerRequestValue()).isLessThan(off.queriesPerRequestValue());
+    }
+
+    private Result run(long optionId, long userId) throws Exception {
+        OrderCreateRequest request = new OrderCreateRequest(List.of(new OrderCreateItem(optionId, 1)), null);
+        AtomicInteger rejected = new AtomicInteger();
+
+        long questionsBefore = questions();
+        long startNanos = System.nanoTime();
+        try (var executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+            List<Future<?>> futures = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    OrderCreateResponse response = orderService.createPendingOrder(request, userId);
+                    if (response.getInsufficientStockItems() != null && !response.getInsufficientStockItems().isEmpty()) {
+                        rejected.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        long queries = questions() - questionsBefore;
+
+        return new Result(rejected.get(), seconds, queries);
+    }
+
+    private long questions() {
+        return jdbcTemplate.queryForObject("SHOW GLOBAL STATUS LIKE 'Questions'",
+                (rs, rowNum) -> rs.getLong("Value"));
+    }
+
+    private record Result(int rejected, double seconds, long queries) {
+
+        String rps() {
+            return String.format("%,.0f", REQUESTS / seconds);
+        }
+
+        String dbQps() {
+            return String.format("%,.0f", queries / seconds);
+        }
+
+        String queriesPerRequest() {
+            return String.format("%.2f", (double) queries / REQUESTS);
+        }
+
+        double queriesPerRequestValue() {
+            return (double) queries / REQUESTS;
+        }
+    }
+}
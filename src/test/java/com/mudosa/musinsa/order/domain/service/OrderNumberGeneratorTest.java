@@ -0,0 +1,94 @@
+package com.mudosa.musinsa.order.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderNumberGeneratorTest {
+
+    private static final long NOW = Instant.parse("2025-10-18T12:00:00Z").toEpochMilli();
+
+    @Test
+    @DisplayName("같은 ms에 4096건을 넘게 발급해도 중복 없이 증가하고 문자열 정렬 순서가 발급 순서와 같다")
+    void generate_monotonicWithinSameMillis() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(7, 1000, () -> NOW);
+
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            numbers.add(generator.generate());
+        }
+
+        assertThat(numbers).doesNotHaveDuplicates().isSorted();
+        assertThat(numbers.get(0)).startsWith("ORD2").hasSize(23);
+    }
+
+    @Test
+    @DisplayName("새 주문번호는 기존 형식(ORD + epoch ms + 난수 3자리) 주문번호보다 뒤에 정렬된다")
+    void generate_sortsAfterLegacyNumbers() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(0, 1000, () -> Instant.parse("2025-01-01T00:00:00Z").toEpochMilli());
+        String legacyMax = String.format("ORD%d%03d", 9_999_999_999_999L, 999);
+
+        assertThat(generator.generate()).isGreaterThan(legacyMax).isGreaterThan("ORD1760788800000123");
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 실패하거나 기다리지 않고 계속 증가한다")
+    void generate_clockMovesBackward() {
+        AtomicLong clock = new AtomicLong(NOW);
+        OrderNumberGenerator generator = new OrderNumberGenerator(7, 1000, clock::get);
+
+        long before = generator.nextId();
+        clock.set(NOW - 5_000);
+        long during = generator.nextId();
+        clock.set(NOW + 1);
+        long after = generator.nextId();
+
+        assertThat(during).isGreaterThan(before);
+        assertThat(after).isGreaterThan(during);
+    }
+
+    @Test
+    @DisplayName("워커 ID가 다르면 같은 시각에도 다른 번호를 발급한다")
+    void generate_distinctAcrossWorkers() {
+        OrderNumberGenerator worker1 = new OrderNumberGenerator(1, 1000, () -> NOW);
+        OrderNumberGenerator worker2 = new OrderNumberGenerator(2, 1000, () -> NOW);
+
+        assertThat(worker1.generate()).isNotEqualTo(worker2.generate());
+        assertThatThrownBy(() -> new OrderNumberGenerator(OrderNumberGenerator.MAX_WORKER_ID + 1, 1000, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 발급해도 중복이 없다")
+    void generate_concurrentUnique() throws Exception {
+        OrderNumberGenerator generator = new OrderNumberGenerator(3, 1000, System::currentTimeMillis);
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+
+        try (var executor = Executors.newFixedThreadPool(16)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        numbers.add(generator.generate());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(numbers).hasSize(16 * 5_000);
+    }
+}
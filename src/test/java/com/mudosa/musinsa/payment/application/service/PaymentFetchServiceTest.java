@@ -0,0 +1,71 @@
+package com.mudosa.musinsa.payment.application.service;
+
+import com.mudosa.musinsa.exception.BusinessException;
+import com.mudosa.musinsa.exception.ErrorCode;
+import com.mudosa.musinsa.payment.application.dto.PaymentDetailDto;
+import com.mudosa.musinsa.payment.domain.model.PaymentStatus;
+import com.mudosa.musinsa.payment.domain.model.PgProvider;
+import com.mudosa.musinsa.payment.domain.repository.PaymentRepository;
+import com.mudosa.musinsa.payment.domain.repository.PaymentSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PaymentFetchServiceTest {
+
+    private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+    private final PaymentFetchService service = new PaymentFetchService(paymentRepository, 3);
+
+    @Test
+    @DisplayName("여러 주문의 결제 내역을 쿼리 한 번으로 조회해 요청 순서대로, 주문마다 최근 결제로 반환한다")
+    void fetchPaymentDetails_singleQueryInRequestOrder() {
+        when(paymentRepository.findSummariesByOrderIdsAndUserId(anyCollection(), eq(7L))).thenReturn(List.of(
+                summary(10L, 1L, PaymentStatus.APPROVED, "15000"),
+                summary(11L, 2L, PaymentStatus.FAILED, "3000"),
+                summary(12L, 2L, PaymentStatus.APPROVED, "3000")));
+
+        List<PaymentDetailDto> details = service.fetchPaymentDetails(7L, List.of(2L, 1L, 2L, 3L));
+
+        assertThat(details).extracting(PaymentDetailDto::getOrderId).containsExactly(2L, 1L);
+        assertThat(details.get(0).getPaymentStatus()).isEqualTo(PaymentStatus.APPROVED);
+        assertThat(details.get(1).getPgProvider()).isEqualTo("TOSS");
+        verify(paymentRepository).findSummariesByOrderIdsAndUserId(Set.of(1L, 2L, 3L), 7L);
+    }
+
+    @Test
+    @DisplayName("최대 건수를 넘는 주문을 요청하면 조회하지 않고 검증 오류를 낸다")
+    void fetchPaymentDetails_rejectsTooManyOrders() {
+        assertThatThrownBy(() -> service.fetchPaymentDetails(7L, List.of(1L, 2L, 3L, 4L)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.VALIDATION_ERROR);
+        verifyNoInteractions(paymentRepository);
+    }
+
+    @Test
+    @DisplayName("단건 조회에서 결제가 없으면 PAYMENT_NOT_FOUND")
+    void fetchPaymentDetail_notFound() {
+        when(paymentRepository.findSummariesByOrderIds(anyCollection())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> service.fetchPaymentDetail(1L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.PAYMENT_NOT_FOUND);
+    }
+
+    private PaymentSummary summary(Long paymentId, Long orderId, PaymentStatus status, String amount) {
+        return new PaymentSummary(paymentId, orderId, status, new BigDecimal(amount),
+                LocalDateTime.of(2025, 10, 18, 12, 0), "CARD", PgProvider.TOSS);
+    }
+}
@@ -0,0 +1,136 @@
+package com.mudosa.musinsa.payment.application.service;
+
+import com.mudosa.musinsa.exception.BusinessException;
+import com.mudosa.musinsa.exception.ErrorCode;
+import com.mudosa.musinsa.payment.application.dto.response.PaymentConfirmResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+@SuppressWarnings("unchecked")
+class PaymentIdempotencyServiceTest {
+
+    private static final int REQUESTS = 32;
+
+    private final Map<String, Object> redis = new ConcurrentHashMap<>();
+    private PaymentIdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, Object> valueOps = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+
+        // Redis SETNX/GET/SET/DEL을 ConcurrentHashMap으로 흉내낸다
+        when(valueOps.setIfAbsent(anyString(), any(), any(Duration.class)))
+                .thenAnswer(inv -> redis.putIfAbsent(inv.getArgument(0), inv.getArgument(1)) == null);
+        when(valueOps.get(anyString())).thenAnswer(inv -> redis.get(inv.<String>getArgument(0)));
+        doAnswer(inv -> redis.put(inv.getArgument(0), inv.getArgument(1)))
+                .when(valueOps).set(anyString(), any(), any(Duration.class));
+        when(redisTemplate.delete(anyString())).thenAnswer(inv -> redis.remove(inv.<String>getArgument(0)) != null);
+
+        idempotencyService = new PaymentIdempotencyService(redisTemplate, 60, 24);
+    }
+
+    @Test
+    @DisplayName("같은 승인 요청 N건이 동시에 들어와도 실제 승인은 1번만 실행된다")
+    void concurrentDuplicatesConfirmOnce() throws Exception {
+        AtomicInteger confirmCalls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch allSubmitted = new CountDownLatch(REQUESTS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        List<Future<PaymentConfirmResponse>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                results.add(executor.submit(() -> {
+                    allSubmitted.countDown();
+                    start.await();
+                    return idempotencyService.execute("ORD-1", "pk_1", () -> {
+                        confirmCalls.incrementAndGet();
+                        sleep(100);
+                        return PaymentConfirmResponse.builder().orderNo("ORD-1").build();
+                    });
+                }));
+            }
+            allSubmitted.await(5, TimeUnit.SECONDS);
+            start.countDown();
+
+            int succeeded = 0;
+            int inProgress = 0;
+            for (Future<PaymentConfirmResponse> result : results) {
+                try {
+                    assertThat(result.get(5, TimeUnit.SECONDS).getOrderNo()).isEqualTo("ORD-1");
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(BusinessException.class);
+                    assertThat(((BusinessException) e.getCause()).getErrorCode()).isEqualTo(ErrorCode.PAYMENT_IN_PROGRESS);
+                    inProgress++;
+                }
+            }
+
+            assertThat(confirmCalls.get()).isEqualTo(1);
+            assertThat(succeeded).isGreaterThanOrEqualTo(1);
+            assertThat(succeeded + inProgress).isEqualTo(REQUESTS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 완료 후 재요청은 승인 로직을 거치지 않고 저장된 결과를 받는다
+        long startNanos = System.nanoTime();
+        PaymentConfirmResponse replayed = idempotencyService.execute("ORD-1", "pk_1", () -> {
+            throw new AssertionError("승인이 다시 실행되면 안 됩니다");
+        });
+        long elapsedMicros = (System.nanoTime() - startNanos) / 1_000;
+
+        assertThat(replayed.getOrderNo()).isEqualTo("ORD-1");
+        log.info("[PaymentIdempotency] 중복 요청 응답 시간: {}us", elapsedMicros);
+    }
+
+    @Test
+    @DisplayName("승인이 실패하면 선점을 해제해 다시 시도할 수 있다")
+    void releasesOnFailure() {
+        assertThatThrownBy(() -> idempotencyService.execute("ORD-2", "pk_2", () -> {
+            throw new BusinessException(ErrorCode.PAYMENT_TIMEOUT);
+        })).isInstanceOf(BusinessException.class);
+
+        PaymentConfirmResponse retried = idempotencyService.execute("ORD-2", "pk_2",
+                () -> PaymentConfirmResponse.builder().orderNo("ORD-2").build());
+
+        assertThat(retried.getOrderNo()).isEqualTo("ORD-2");
+        assertThat(redis).containsEntry("payment:idempotency:ORD-2:pk_2", PaymentIdempotencyService.DONE);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.mudosa.musinsa.payment.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mudosa.musinsa.payment.domain.model.PaymentEventType;
+import com.mudosa.musinsa.payment.domain.model.PaymentLogEvent;
+import com.mudosa.musinsa.payment.infrastructure.JdbcPaymentLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SuppressWarnings("unchecked")
+class PaymentLogWriterTest {
+
+    @TempDir
+    Path spoolDir;
+
+    private JdbcPaymentLogRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(JdbcPaymentLogRepository.class);
+    }
+
+    @Test
+    @DisplayName("커밋된 로그를 모아 배치로 기록하고, 종료 시 남은 로그를 모두 비운다")
+    void writesInBatches() throws Exception {
+        PaymentLogWriter writer = writer(100, 50);
+        writer.start();
+
+        for (long i = 1; i <= 120; i++) {
+            writer.append(event(i));
+        }
+        writer.stop();
+
+        ArgumentCaptor<List<PaymentLogEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository, atLeastOnce()).batchInsert(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(batch -> assertThat(batch.size()).isLessThanOrEqualTo(50));
+        assertThat(captor.getAllValues().stream().mapToInt(List::size).sum()).isEqualTo(120);
+        assertThat(writer.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드에서 바로 기록한다")
+    void writesOnCallerWhenQueueFull() {
+        PaymentLogWriter writer = writer(1, 50);
+
+        writer.append(event(1));
+        writer.append(event(2));
+
+        verify(repository).batchInsert(List.of(event(2)));
+        assertThat(writer.pending()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB 기록이 실패하면 spool 파일로 보관했다가 다시 기록한다")
+    void spoolsAndReplaysOnFailure() throws Exception {
+        doThrow(new RuntimeException("DB down")).doNothing().when(repository).batchInsert(anyList());
+        PaymentLogWriter writer = writer(1, 50);
+
+        writer.append(event(1));
+        writer.append(event(2));  // 큐가 가득 차 바로 기록 → 실패 → spool
+
+        assertThat(spoolFiles()).hasSize(1);
+
+        writer.replaySpool();
+
+        verify(repository, times(2)).batchInsert(List.of(event(2)));
+        assertThat(spoolFiles()).isEmpty();
+    }
+
+    private PaymentLogWriter writer(int queueCapacity, int batchSize) {
+        return new PaymentLogWriter(repository, new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(),
+                queueCapacity, batchSize, 20, spoolDir.toString());
+    }
+
+    private List<Path> spoolFiles() throws Exception {
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            return files.toList();
+        }
+    }
+
+    private static PaymentLogEvent event(long paymentId) {
+        return new PaymentLogEvent(paymentId, 1L, PaymentEventType.APPROVED, null, LocalDateTime.of(2025, 1, 1, 0, 0));
+    }
+}
@@ -0,0 +1,85 @@
+package com.mudosa.musinsa.payment.application.service;
+
+import com.mudosa.musinsa.order.application.OrderService;
+import com.mudosa.musinsa.payment.domain.model.PaymentOutboxEventType;
+import com.mudosa.musinsa.payment.infrastructure.JdbcPaymentOutboxRepository;
+import com.mudosa.musinsa.payment.infrastructure.JdbcPaymentOutboxRepository.OutboxEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentOutboxRelayTest {
+
+    private JdbcPaymentOutboxRepository outboxRepository;
+    private OrderService orderService;
+    private PaymentBrandAmountService paymentBrandAmountService;
+    private PaymentOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(JdbcPaymentOutboxRepository.class);
+        orderService = mock(OrderService.class);
+        paymentBrandAmountService = mock(PaymentBrandAmountService.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        relay = new PaymentOutboxRelay(outboxRepository, orderService, paymentBrandAmountService,
+                transactionManager, 100, 10, 3, 60_000, 1_000);
+    }
+
+    @Test
+    @DisplayName("점유한 작업을 처리하고 건별로 DONE 표시한다")
+    void processesClaimedEntries() {
+        when(outboxRepository.claim(any(), any(), anyInt())).thenReturn(List.of(
+                new OutboxEntry(1L, 10L, 20L, 30L, PaymentOutboxEventType.CART_CLEANUP, 0),
+                new OutboxEntry(2L, 10L, 20L, 30L, PaymentOutboxEventType.BRAND_AMOUNT, 0)));
+
+        assertThat(relay.relayBatch()).isEqualTo(2);
+
+        verify(orderService).deleteCartItems(20L, 30L);
+        verify(paymentBrandAmountService).saveForPayments(List.of(10L));
+        verify(outboxRepository).markDone(eq(1L), any());
+        verify(outboxRepository).markDone(eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("실패한 건만 재시도 예약하고, 최대 시도 횟수에 도달하면 FAILED로 남긴다")
+    void schedulesRetryThenGivesUp() {
+        doThrow(new RuntimeException("deadlock")).when(paymentBrandAmountService).saveForPayments(anyCollection());
+        when(outboxRepository.claim(any(), any(), anyInt())).thenReturn(List.of(
+                new OutboxEntry(1L, 10L, 20L, 30L, PaymentOutboxEventType.CART_CLEANUP, 0),
+                new OutboxEntry(2L, 10L, 20L, 30L, PaymentOutboxEventType.BRAND_AMOUNT, 0),
+                new OutboxEntry(3L, 11L, 21L, 30L, PaymentOutboxEventType.BRAND_AMOUNT, 2)));
+
+        relay.relayBatch();
+
+        verify(outboxRepository).markDone(eq(1L), any());
+        verify(outboxRepository).markFailed(eq(2L), eq("deadlock"), notNull());
+        verify(outboxRepository).markFailed(eq(3L), eq("deadlock"), isNull());
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 시도마다 2배로 늘어난다")
+    void backoffDoubles() {
+        assertThat(relay.backoff(1)).isEqualTo(1_000);
+        assertThat(relay.backoff(2)).isEqualTo(2_000);
+        assertThat(relay.backoff(4)).isEqualTo(8_000);
+        assertThat(relay.backoff(30)).isEqualTo(600_000);
+    }
+}
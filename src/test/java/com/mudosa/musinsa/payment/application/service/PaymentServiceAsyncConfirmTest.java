@@ -0,0 +1,126 @@
+package com.mudosa.musinsa.payment.application.service;
+
+import com.mudosa.musinsa.exception.BusinessException;
+import com.mudosa.musinsa.exception.ErrorCode;
+import com.mudosa.musinsa.order.application.InsufficientStockException;
+import com.mudosa.musinsa.order.application.dto.InsufficientStockItem;
+import com.mudosa.musinsa.payment.application.dto.PaymentCreationResult;
+import com.mudosa.musinsa.payment.application.dto.PaymentResponseDto;
+import com.mudosa.musinsa.payment.application.dto.request.PaymentConfirmRequest;
+import com.mudosa.musinsa.payment.application.dto.response.PaymentConfirmAcceptedResponse;
+import com.mudosa.musinsa.payment.application.dto.response.PaymentConfirmStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentServiceAsyncConfirmTest {
+
+    private static final Long USER_ID = 1L;
+
+    private PaymentProcessor paymentProcessor;
+    private PaymentConfirmService paymentConfirmService;
+    private PaymentConfirmStatusService confirmStatusService;
+    private List<Runnable> submitted;
+    private PaymentService paymentService;
+
+    private final PaymentConfirmRequest request = PaymentConfirmRequest.builder()
+            .paymentKey("pk_1")
+            .orderNo("ORD-1")
+            .amount(10_000L)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        paymentProcessor = mock(PaymentProcessor.class);
+        paymentConfirmService = mock(PaymentConfirmService.class);
+        confirmStatusService = mock(PaymentConfirmStatusService.class);
+        submitted = new ArrayList<>();
+        paymentService = new PaymentService(paymentProcessor, paymentConfirmService, confirmStatusService,
+                mock(PaymentIdempotencyService.class), submitted::add);
+
+        when(paymentConfirmService.createPaymentTransaction(any(), eq(USER_ID)))
+                .thenReturn(PaymentCreationResult.builder().paymentId(10L).orderId(20L).userId(USER_ID).build());
+        when(confirmStatusService.createPending(USER_ID, "ORD-1")).thenReturn("token-1");
+    }
+
+    @Test
+    @DisplayName("PG 호출 전에 PENDING 토큰을 반환하고, 백그라운드 작업이 승인 후 APPROVED로 바꾼다")
+    void returnsPendingTokenThenApproves() {
+        PaymentResponseDto pgResponse = mock(PaymentResponseDto.class);
+        when(paymentProcessor.processPayment(request)).thenReturn(pgResponse);
+
+        PaymentConfirmAcceptedResponse accepted = paymentService.confirmPaymentAsync(request, USER_ID);
+
+        assertThat(accepted.getToken()).isEqualTo("token-1");
+        assertThat(accepted.getStatus()).isEqualTo(PaymentConfirmStatus.PENDING);
+        verify(paymentProcessor, never()).processPayment(any());
+
+        submitted.forEach(Runnable::run);
+
+        verify(paymentConfirmService).approvePayment(10L, USER_ID, pgResponse, 20L);
+        verify(confirmStatusService).complete("token-1", "ORD-1", PaymentConfirmStatus.APPROVED, null);
+    }
+
+    @Test
+    @DisplayName("PG 타임아웃이면 기존과 같이 failPayment로 보상하고 FAILED로 바꾼다")
+    void pgTimeoutCompensates() {
+        when(paymentProcessor.processPayment(request))
+                .thenThrow(new BusinessException(ErrorCode.PAYMENT_TIMEOUT, "결제 처리 시간이 초과되었습니다"));
+
+        paymentService.confirmPaymentAsync(request, USER_ID);
+        submitted.forEach(Runnable::run);
+
+        verify(paymentConfirmService).failPayment(10L, "결제 처리 시간이 초과되었습니다", USER_ID, 20L);
+        verify(paymentConfirmService, never()).approvePayment(anyLong(), anyLong(), any(), anyLong());
+        verify(confirmStatusService).complete("token-1", "ORD-1", PaymentConfirmStatus.FAILED, "결제 처리 시간이 초과되었습니다");
+    }
+
+    @Test
+    @DisplayName("동시 실행 한도 초과로 작업 제출이 거절되면 failPayment로 재고를 되돌리고 503 오류로 응답한다")
+    void rejectedSubmissionCompensates() {
+        PaymentService rejecting = new PaymentService(paymentProcessor, paymentConfirmService, confirmStatusService,
+                mock(PaymentIdempotencyService.class), task -> {
+                    throw new TaskRejectedException("concurrency limit reached");
+                });
+
+        assertThatThrownBy(() -> rejecting.confirmPaymentAsync(request, USER_ID))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.PAYMENT_CONFIRM_BUSY);
+
+        verify(paymentConfirmService).failPayment(10L, ErrorCode.PAYMENT_CONFIRM_BUSY.getMessage(), USER_ID, 20L);
+        verify(confirmStatusService).complete("token-1", "ORD-1", PaymentConfirmStatus.FAILED,
+                ErrorCode.PAYMENT_CONFIRM_BUSY.getMessage());
+        verify(paymentProcessor, never()).processPayment(any());
+    }
+
+    @Test
+    @DisplayName("결제 생성 중 재고가 부족하면 부족한 옵션 목록을 담은 재고 부족 예외를 그대로 던진다")
+    void insufficientStockPassesThrough() {
+        InsufficientStockException insufficientStock =
+                new InsufficientStockException(List.of(new InsufficientStockItem(100L, 3, 1)));
+        when(paymentConfirmService.createPaymentTransaction(any(), eq(USER_ID))).thenThrow(insufficientStock);
+
+        assertThatThrownBy(() -> paymentService.confirmPaymentAsync(request, USER_ID))
+                .isSameAs(insufficientStock)
+                .extracting("errorCode").isEqualTo(ErrorCode.ORDER_INSUFFICIENT_STOCK);
+
+        assertThat(insufficientStock.getInsufficientItems())
+                .extracting(InsufficientStockItem::getProductOptionId)
+                .containsExactly(100L);
+        verify(paymentProcessor, never()).processPayment(any());
+    }
+}
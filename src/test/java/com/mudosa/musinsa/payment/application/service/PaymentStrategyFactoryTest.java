@@ -0,0 +1,105 @@
+package com.mudosa.musinsa.payment.application.service;
+
+import com.mudosa.musinsa.exception.BusinessException;
+import com.mudosa.musinsa.payment.application.dto.PaymentResponseDto;
+import com.mudosa.musinsa.payment.application.dto.request.PaymentCancelRequest;
+import com.mudosa.musinsa.payment.application.dto.request.PaymentCancelResponseDto;
+import com.mudosa.musinsa.payment.application.dto.request.PaymentConfirmRequest;
+import com.mudosa.musinsa.payment.domain.model.PgProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PaymentStrategyFactoryTest {
+
+    private final StubStrategy tossNormal = new StubStrategy(PgProvider.TOSS, EnumSet.of(PaymentType.NORMAL));
+    private final StubStrategy tossGlobal = new StubStrategy(PgProvider.TOSS, EnumSet.of(PaymentType.GLOBAL, PaymentType.REGULAR));
+
+    @Test
+    @DisplayName("PG사와 결제 유형으로 전략을 찾고, 결제 유형이 없으면 일반 결제 전략을 쓴다")
+    void findsByProviderAndType() {
+        PaymentStrategyFactory factory = new PaymentStrategyFactory(List.of(tossNormal, tossGlobal), List.of());
+
+        assertThat(factory.getStrategy(context(PgProvider.TOSS, PaymentType.NORMAL))).isSameAs(tossNormal);
+        assertThat(factory.getStrategy(context(PgProvider.TOSS, PaymentType.REGULAR))).isSameAs(tossGlobal);
+        assertThat(factory.getStrategy(context(PgProvider.TOSS, null))).isSameAs(tossNormal);
+        assertThatThrownBy(() -> factory.getStrategy(context(PgProvider.NAVER, PaymentType.NORMAL)))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("같은 PG사/결제 유형을 두 전략이 등록하면 시작 시 실패한다")
+    void failsOnAmbiguousRegistration() {
+        StubStrategy duplicate = new StubStrategy(PgProvider.TOSS, EnumSet.of(PaymentType.REGULAR));
+
+        assertThatThrownBy(() -> new PaymentStrategyFactory(List.of(tossNormal, tossGlobal, duplicate), List.of()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("TOSS/REGULAR");
+    }
+
+    @Test
+    @DisplayName("데코레이터는 대상 PG사 전략마다 한 번만 감싼다")
+    void decoratesOncePerStrategy() {
+        AtomicInteger decorated = new AtomicInteger();
+        PaymentStrategyDecorator decorator = new PaymentStrategyDecorator() {
+            @Override
+            public PaymentStrategy decorate(PaymentStrategy strategy) {
+                decorated.incrementAndGet();
+                return new StubStrategy(strategy.getProvider(), strategy.getSupportedPaymentTypes());
+            }
+
+            @Override
+            public boolean appliesTo(PgProvider provider) {
+                return provider == PgProvider.TOSS;
+            }
+        };
+        StubStrategy kakao = new StubStrategy(PgProvider.KAKAO, EnumSet.allOf(PaymentType.class));
+
+        PaymentStrategyFactory factory = new PaymentStrategyFactory(List.of(tossGlobal, kakao), List.of(decorator));
+
+        assertThat(decorated.get()).isEqualTo(1);
+        PaymentStrategy global = factory.getStrategy(context(PgProvider.TOSS, PaymentType.GLOBAL));
+        assertThat(global).isNotSameAs(tossGlobal)
+                .isSameAs(factory.getStrategy(context(PgProvider.TOSS, PaymentType.REGULAR)));
+        assertThat(factory.getStrategy(context(PgProvider.KAKAO, PaymentType.NORMAL))).isSameAs(kakao);
+    }
+
+    private static PaymentContext context(PgProvider provider, PaymentType paymentType) {
+        return PaymentContext.builder().pgProvider(provider).paymentType(paymentType).build();
+    }
+
+    private record StubStrategy(PgProvider provider, Set<PaymentType> paymentTypes) implements PaymentStrategy {
+
+        @Override
+        public boolean supports(PaymentContext context) {
+            return context.getPgProvider() == provider;
+        }
+
+        @Override
+        public PgProvider getProvider() {
+            return provider;
+        }
+
+        @Override
+        public Set<PaymentType> getSupportedPaymentTypes() {
+            return paymentTypes;
+        }
+
+        @Override
+        public PaymentResponseDto confirmPayment(PaymentConfirmRequest request) {
+            return null;
+        }
+
+        @Override
+        public PaymentCancelResponseDto cancelPayment(PaymentCancelRequest request) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.mudosa.musinsa.payment.application.service;
+
+import com.mudosa.musinsa.common.client.RestTemplateClient;
+import com.mudosa.musinsa.exception.BusinessException;
+import com.mudosa.musinsa.exception.ErrorCode;
+import com.mudosa.musinsa.exception.ExternalApiException;
+import com.mudosa.musinsa.payment.application.dto.request.TossPaymentConfirmRequest;
+import com.mudosa.musinsa.payment.domain.model.PgProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class PgCircuitBreakerTest {
+
+    private static final PgCircuitBreaker.Settings SETTINGS =
+            new PgCircuitBreaker.Settings(10, 4, 50, 1_000, 2, 2, 10);
+
+    private AtomicLong now;
+    private FaultyPg pg;
+    private PgCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(0);
+        pg = new FaultyPg();
+        breaker = new PgCircuitBreaker(PgProvider.TOSS, SETTINGS, now::get);
+    }
+
+    @Test
+    @DisplayName("PG 5xx(@Recover 변환 후) 실패율이 임계치를 넘으면 OPEN되고 PG 호출 없이 PAYMENT_TIMEOUT으로 즉시 실패한다")
+    void opensAndFailsFast() {
+        pg.failing = true;
+        for (int i = 0; i < 4; i++) {
+            callIgnoringError();
+        }
+
+        assertThat(breaker.getState()).isEqualTo(PgCircuitBreaker.State.OPEN);
+
+        int callsBefore = pg.calls.get();
+        assertThatThrownBy(this::call)
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.PAYMENT_TIMEOUT);
+        assertThat(pg.calls.get()).isEqualTo(callsBefore);
+        assertThat(breaker.getCircuitRejections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("OPEN 유지 시간이 지나면 HALF_OPEN에서 시험 호출이 모두 성공할 때 CLOSED로 돌아온다")
+    void halfOpenProbesClose() {
+        pg.failing = true;
+        for (int i = 0; i < 4; i++) {
+            callIgnoringError();
+        }
+
+        now.addAndGet(1_000);
+        pg.failing = false;
+
+        assertThat(breaker.getState()).isEqualTo(PgCircuitBreaker.State.HALF_OPEN);
+        assertThat(call()).isEqualTo("DONE");
+        assertThat(breaker.getState()).isEqualTo(PgCircuitBreaker.State.HALF_OPEN);
+        assertThat(call()).isEqualTo("DONE");
+        assertThat(breaker.getState()).isEqualTo(PgCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 실패하면 다시 OPEN된다")
+    void halfOpenFailureReopens() {
+        pg.failing = true;
+        for (int i = 0; i < 4; i++) {
+            callIgnoringError();
+        }
+
+        now.addAndGet(1_000);
+        callIgnoringError();
+
+        assertThat(breaker.getState()).isEqualTo(PgCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("네트워크 오류도 재시도 소진 후 PAYMENT_PG_UNAVAILABLE로 변환되어 장애로 집계된다")
+    void networkErrorAfterRecoverIsFailure() {
+        pg.failure = new ExternalApiException("네트워크 오류", new ConnectException("Connection refused"));
+        pg.failing = true;
+
+        assertThatThrownBy(this::call)
+                .isInstanceOf(BusinessException.class)
+                .hasCauseInstanceOf(ExternalApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.PAYMENT_PG_UNAVAILABLE);
+        for (int i = 0; i < 3; i++) {
+            callIgnoringError();
+        }
+
+        assertThat(breaker.getState()).isEqualTo(PgCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("PG 응답 지연(408 타임아웃)도 재시도 소진 후 PAYMENT_PG_UNAVAILABLE로 변환되어 OPEN된다")
+    void timeoutAfterRecoverOpens() {
+        pg.failure = new ExternalApiException("API 타임아웃", HttpStatus.REQUEST_TIMEOUT, "요청 시간이 초과되었습니다",
+                new SocketTimeoutException("Read timed out"));
+        pg.failing = true;
+
+        assertThatThrownBy(this::call)
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.PAYMENT_PG_UNAVAILABLE);
+        for (int i = 0; i < 3; i++) {
+            callIgnoringError();
+        }
+
+        assertThat(breaker.getState()).isEqualTo(PgCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("커넥션 풀 대기 타임아웃(원인이 SocketTimeoutException)도 PG 장애로 변환된다")
+    void poolWaitTimeoutIsFailure() {
+        ExternalApiException poolTimeout = new ExternalApiException("네트워크 오류",
+                new IOException(new SocketTimeoutException("커넥션 대기 시간 초과 - route: toss")));
+
+        BusinessException translated = TossPaymentService.translate(poolTimeout, ErrorCode.PAYMENT_CANCEL_FAILED);
+
+        assertThat(translated.getErrorCode()).isEqualTo(ErrorCode.PAYMENT_PG_UNAVAILABLE);
+        assertThat(PgCircuitBreakerRegistry.isPgFailure(translated)).isTrue();
+    }
+
+    @Test
+    @DisplayName("금액 불일치, 4xx 승인 거절 같은 업무 예외는 PG 장애로 집계하지 않는다")
+    void businessErrorIsNotFailure() {
+        for (int i = 0; i < 10; i++) {
+            try {
+                breaker.execute(() -> {
+                    throw new BusinessException(ErrorCode.PAYMENT_AMOUNT_MISMATCH);
+                }, PgCircuitBreakerRegistry::isPgFailure);
+            } catch (BusinessException ignored) {
+            }
+        }
+
+        pg.failure = new ExternalApiException("API 호출 실패", HttpStatus.BAD_REQUEST, "REJECT_CARD_PAYMENT", null);
+        pg.failing = true;
+        assertThatThrownBy(this::call)
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.PAYMENT_APPROVAL_FAILED);
+        for (int i = 0; i < 9; i++) {
+            callIgnoringError();
+        }
+
+        assertThat(breaker.getState()).isEqualTo(PgCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("동시 호출이 벌크헤드 한도를 넘으면 대기 시간 후 즉시 실패한다")
+    void bulkheadRejectsOverflow() throws Exception {
+        CountDownLatch entered = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        pg.onCall = () -> {
+            entered.countDown();
+            await(release);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            executor.submit(this::call);
+            executor.submit(this::call);
+            assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(this::call)
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.PAYMENT_TIMEOUT);
+            assertThat(breaker.getBulkheadRejections()).isEqualTo(1);
+            assertThat(breaker.getState()).isEqualTo(PgCircuitBreaker.State.CLOSED);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+        assertThat(breaker.getAvailableConcurrentCalls()).isEqualTo(2);
+    }
+
+    private String call() {
+        return breaker.execute(pg::confirm, PgCircuitBreakerRegistry::isPgFailure);
+    }
+
+    private void callIgnoringError() {
+        try {
+            call();
+        } catch (RuntimeException ignored) {
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+     * 장애를 주입할 수 있는 PG 스텁
+     * 실패는 TossPaymentService의 @Recover를 그대로 거쳐, 재시도 소진 후 PaymentProcessor가 받는 예외로 던진다.
+     */
+    private static class FaultyPg {
+        private static final TossPaymentConfirmRequest REQUEST = TossPaymentConfirmRequest.builder()
+                .paymentKey("paymentKey")
+                .orderId("ORD1")
+                .amount(10_000L)
+                .build();
+
+        private final TossPaymentService toss = new TossPaymentService(mock(RestTemplateClient.class));
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile boolean failing;
+        private volatile ExternalApiException failure =
+                new ExternalApiException("API 호출 실패", HttpStatus.INTERNAL_SERVER_ERROR, "PG 5xx", null);
+        private volatile Runnable onCall = () -> {
+        };
+
+        String confirm() {
+            calls.incrementAndGet();
+            onCall.run();
+            if (failing) {
+                toss.recover(failure, REQUEST);
+            }
+            return "DONE";
+        }
+    }
+}
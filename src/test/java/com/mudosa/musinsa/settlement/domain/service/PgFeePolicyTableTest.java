@@ -0,0 +1,73 @@
+package com.mudosa.musinsa.settlement.domain.service;
+
+import com.mudosa.musinsa.common.vo.Money;
+import com.mudosa.musinsa.settlement.domain.model.FeeType;
+import com.mudosa.musinsa.settlement.domain.model.PgFeePolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PgFeePolicyTableTest {
+
+    private static final PgFeePolicy CARD_2024 = PgFeePolicy.createPolicy(
+        "TOSS", "CARD", FeeType.RATE, new BigDecimal("0.0330"),
+        LocalDate.of(2024, 1, 1), null, "기본 카드 수수료");
+
+    private static final PgFeePolicy CARD_PROMOTION = PgFeePolicy.createPolicy(
+        "TOSS", "CARD", FeeType.RATE, new BigDecimal("0.0250"),
+        LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), "3월 프로모션");
+
+    private static final PgFeePolicy TRANSFER_FIXED = PgFeePolicy.createPolicy(
+        "TOSS", "TRANSFER", FeeType.FIXED, new BigDecimal("300"),
+        LocalDate.of(2024, 6, 1), LocalDate.of(2024, 12, 31), "계좌이체 정액");
+
+    private final PgFeePolicyTable table = PgFeePolicyTable.of(List.of(CARD_2024, CARD_PROMOTION, TRANSFER_FIXED));
+
+    @Test
+    @DisplayName("기간이 겹치면 effectiveFrom이 가장 늦은 정책을 찾는다")
+    void find_overlappingRanges() {
+        assertThat(table.find("TOSS", "CARD", LocalDate.of(2025, 2, 28)).getPolicy()).isSameAs(CARD_2024);
+        assertThat(table.find("TOSS", "CARD", LocalDate.of(2025, 3, 1)).getPolicy()).isSameAs(CARD_PROMOTION);
+        assertThat(table.find("TOSS", "CARD", LocalDate.of(2025, 3, 31)).getPolicy()).isSameAs(CARD_PROMOTION);
+        assertThat(table.find("TOSS", "CARD", LocalDate.of(2025, 4, 1)).getPolicy()).isSameAs(CARD_2024);
+    }
+
+    @Test
+    @DisplayName("적용 기간 밖이거나 등록되지 않은 조합이면 null을 반환한다")
+    void find_outOfRange() {
+        assertThat(table.find("TOSS", "CARD", LocalDate.of(2023, 12, 31))).isNull();
+        assertThat(table.find("TOSS", "TRANSFER", LocalDate.of(2025, 1, 1))).isNull();
+        assertThat(table.find("KAKAO", "CARD", LocalDate.of(2025, 1, 1))).isNull();
+        assertThat(table.find("TOSS", "POINT", LocalDate.of(2025, 1, 1))).isNull();
+    }
+
+    @Test
+    @DisplayName("정률 정책은 요율을, 정액 정책은 금액을 미리 풀어둔다")
+    void entry_precomputesFee() {
+        PgFeePolicyTable.Entry rate = table.find("TOSS", "CARD", LocalDate.of(2025, 1, 1));
+        assertThat(rate.getRateUnscaled()).isEqualTo(330L);
+        assertThat(rate.getRateScale()).isEqualTo(4);
+
+        PgFeePolicyTable.Entry fixed = table.find("TOSS", "TRANSFER", LocalDate.of(2024, 7, 1));
+        assertThat(fixed.getFixedFee()).isEqualTo(new Money(300));
+    }
+
+    @Test
+    @DisplayName("비활성 정책은 테이블에 포함되지 않는다")
+    void of_skipsInactivePolicies() {
+        PgFeePolicy inactive = PgFeePolicy.createPolicy(
+            "NAVER", "CARD", FeeType.RATE, new BigDecimal("0.0300"),
+            LocalDate.of(2024, 1, 1), null, "비활성");
+        inactive.deactivate();
+
+        PgFeePolicyTable tableWithInactive = PgFeePolicyTable.of(List.of(inactive));
+
+        assertThat(tableWithInactive.find("NAVER", "CARD", LocalDate.of(2025, 1, 1))).isNull();
+        assertThat(tableWithInactive.getPolicyCount()).isZero();
+    }
+}